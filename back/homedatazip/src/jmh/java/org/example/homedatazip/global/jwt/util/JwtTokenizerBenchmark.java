@@ -0,0 +1,74 @@
+package org.example.homedatazip.global.jwt.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.homedatazip.global.jwt.property.JwtProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access token 인증 비용 비교 (tokens/sec)
+ * - legacy : 예전 필터 흐름. validateAccessToken + getEmailFromAccessToken 으로 두 번 파싱하고 매번 키/파서 생성
+ * - verifyOnce : 미리 만든 키/파서로 verifyAccessToken 한 번
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenizerBenchmark {
+
+    private static final String ACCESS_SECRET = "benchmark-access-secret-key-benchmark-access-secret-key-0123456789";
+    private static final String REFRESH_SECRET = "benchmark-refresh-secret-key-benchmark-refresh-secret-key-0123456789";
+
+    private JwtTokenizer jwtTokenizer;
+    private byte[] accessSecretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessSecretKey(ACCESS_SECRET);
+        properties.setRefreshSecretKey(REFRESH_SECRET);
+        properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+
+        jwtTokenizer = new JwtTokenizer(properties);
+        jwtTokenizer.init();
+
+        accessSecretKey = ACCESS_SECRET.getBytes(StandardCharsets.UTF_8);
+        token = jwtTokenizer.createAccessToken("bench@homedatazip.com", List.of("USER"), 1L, "bench");
+    }
+
+    @Benchmark
+    public String legacy() {
+        legacyParse(token);                                     // validateAccessToken
+        return legacyParse(token).get("email", String.class);   // getEmailFromAccessToken
+    }
+
+    @Benchmark
+    public String verifyOnce() {
+        return jwtTokenizer.verifyAccessToken(token)
+                .map(claims -> claims.get("email", String.class))
+                .orElse(null);
+    }
+
+    // 변경 전 parseToken 과 동일 (호출마다 hmacShaKeyFor + parser build)
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(accessSecretKey))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
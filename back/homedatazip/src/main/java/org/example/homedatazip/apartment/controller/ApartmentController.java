@@ -1,6 +1,7 @@
 package org.example.homedatazip.apartment.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.apartment.dto.AptAutocompleteResponse;
 import org.example.homedatazip.apartment.dto.AptSummaryResponse;
 import org.example.homedatazip.apartment.dto.ApartmentRegionResponse;
 import org.example.homedatazip.apartment.entity.Apartment;
@@ -111,4 +112,15 @@ public class ApartmentController {
                         )
                 );
     }
+
+    /**
+     * 아파트 이름 자동완성
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AptAutocompleteResponse>> autocomplete(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(apartmentService.autocomplete(keyword, Math.min(limit, 50)));
+    }
 }
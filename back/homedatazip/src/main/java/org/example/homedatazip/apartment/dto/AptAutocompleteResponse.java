@@ -0,0 +1,13 @@
+package org.example.homedatazip.apartment.dto;
+
+/**
+ * 아파트 이름 자동완성 응답 DTO
+ */
+public record AptAutocompleteResponse(
+        Long aptId,
+        String aptName,
+        String sido,
+        String gugun,
+        String dong
+) {
+}
@@ -0,0 +1,68 @@
+package org.example.homedatazip.apartment.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 아파트–지하철역 / 아파트–학교 거리 중간 테이블 대량 삽입용 Repository
+ * JPA saveAll(IDENTITY 로 건별 INSERT) 대신 JDBC batch 로 한 번에 보낸다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ApartmentDistanceBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SUBWAY_SQL = """
+            INSERT IGNORE INTO apartment_subway_distances (apartment_id, subway_station_id, distance_km)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String INSERT_SCHOOL_SQL = """
+            INSERT IGNORE INTO apartment_school_distances (apartment_id, school_id, distance_km)
+            VALUES (?, ?, ?)
+            """;
+
+    public int insertSubwayDistances(List<DistanceRow> rows) {
+        return insert(INSERT_SUBWAY_SQL, rows);
+    }
+
+    public int insertSchoolDistances(List<DistanceRow> rows) {
+        return insert(INSERT_SCHOOL_SQL, rows);
+    }
+
+    private int insert(String sql, List<DistanceRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+
+        int[][] batchResults = jdbcTemplate.batchUpdate(sql, rows, rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.apartmentId());
+                    ps.setLong(2, row.targetId());
+                    ps.setDouble(3, row.distanceKm());
+                });
+
+        int inserted = 0;
+        for (int[] batch : batchResults) {
+            for (int result : batch) {
+                // rewriteBatchedStatements 사용 시 SUCCESS_NO_INFO(-2) 반환
+                if (result > 0 || result == java.sql.Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * @param targetId 지하철역 id 또는 학교 id
+     */
+    public record DistanceRow(long apartmentId, long targetId, double distanceKm) {
+    }
+}
@@ -2,6 +2,7 @@ package org.example.homedatazip.apartment.repository;
 
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.repository.rentDSL.ApartmentRepositoryCustomRent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,6 +18,14 @@ public interface ApartmentRepository extends JpaRepository<Apartment, Long>, Apa
     /** 위/경도가 있는 아파트만 조회 (아파트–지하철 거리 배치용) */
     List<Apartment> findByLatitudeIsNotNullAndLongitudeIsNotNull();
 
+    /** 위/경도가 있는 아파트 id 최소값 (아파트–학교 거리 파티셔닝용) */
+    @Query("SELECT MIN(a.id) FROM Apartment a WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+    Long findMinIdWithCoordinates();
+
+    /** 위/경도가 있는 아파트 id 최대값 (아파트–학교 거리 파티셔닝용) */
+    @Query("SELECT MAX(a.id) FROM Apartment a WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+    Long findMaxIdWithCoordinates();
+
     List<Apartment> findAllByAptSeqIn(Collection<String> aptSeqs);
 
     // [추가] 단건 조회를 위한 메서드 (중복 에러 방어용)
@@ -73,8 +82,8 @@ public interface ApartmentRepository extends JpaRepository<Apartment, Long>, Apa
 
     List<Apartment> findByRegionIdOrderByAptNameAsc(Long regionId);
 
-    // 키워드 검색용 (키워드로 시작하는 아파트 검색)
-    List<Apartment> findByAptNameStartsWith(String aptName);
+    // 키워드 검색용 (키워드로 시작하는 아파트 검색, pageable 크기만큼만)
+    List<Apartment> findByAptNameStartsWith(String aptName, Pageable pageable);
 
     List<Apartment> findByAptNameContaining(String aptName);
 }
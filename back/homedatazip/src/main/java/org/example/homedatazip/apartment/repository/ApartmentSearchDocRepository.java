@@ -0,0 +1,39 @@
+package org.example.homedatazip.apartment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.apartment.search.ApartmentSearchDoc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 아파트 이름 검색 인덱스 적재용 조회 (엔티티 없이 필요한 컬럼만, id keyset 페이지)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApartmentSearchDocRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String PAGE_SQL = """
+            SELECT a.id, a.apt_name, a.road_address, a.jibun_address, r.sido, r.gugun, r.dong
+            FROM apartments a
+            LEFT JOIN region r ON r.id = a.region_id
+            WHERE a.id > ?
+            ORDER BY a.id
+            LIMIT ?
+            """;
+
+    public List<ApartmentSearchDoc> findPageAfter(long lastId, int size) {
+        return jdbcTemplate.query(PAGE_SQL, (rs, i) -> new ApartmentSearchDoc(
+                rs.getLong("id"),
+                rs.getString("apt_name"),
+                rs.getString("road_address"),
+                rs.getString("jibun_address"),
+                rs.getString("sido"),
+                rs.getString("gugun"),
+                rs.getString("dong")
+        ), lastId, size);
+    }
+}
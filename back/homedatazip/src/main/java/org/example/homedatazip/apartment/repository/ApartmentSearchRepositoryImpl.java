@@ -6,21 +6,46 @@ import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.apartment.dto.AptSaleAggregation;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.entity.QApartment;
-import org.example.homedatazip.monthAvg.entity.MonthAvg;
-import org.example.homedatazip.monthAvg.entity.QMonthAvg;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class ApartmentSearchRepositoryImpl implements ApartmentSearchRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private static final int AGGREGATION_CHUNK_SIZE = 1000;
+
+    private static final String SALE_AGGREGATION_SQL = """
+            SELECT apt_id, area_type_id, last_sum, last_count, compare_yyyymm, compare_sum, compare_count
+            FROM (
+                SELECT l.apt_id,
+                       l.area_type_id,
+                       l.sale_deal_amount_sum AS last_sum,
+                       l.sale_count           AS last_count,
+                       p.yyyymm               AS compare_yyyymm,
+                       p.sale_deal_amount_sum AS compare_sum,
+                       p.sale_count           AS compare_count,
+                       ROW_NUMBER() OVER (PARTITION BY l.apt_id, l.area_type_id ORDER BY p.yyyymm DESC) AS rn
+                FROM month_avg l
+                LEFT JOIN month_avg p
+                       ON p.apt_id = l.apt_id
+                      AND p.area_type_id = l.area_type_id
+                      AND p.yyyymm < l.yyyymm
+                      AND p.yyyymm >= :searchMonth
+                      AND p.sale_count > 0
+                WHERE l.apt_id IN (:aptIds)
+                  AND l.yyyymm = :lastMonth
+            ) t
+            WHERE t.rn = 1
+            """;
 
     /**
      * 키워드를 포함하는 아파트를 지역 필터를 사용하여 조회
@@ -58,9 +83,10 @@ public class ApartmentSearchRepositoryImpl implements ApartmentSearchRepository
     /**
      * 여러 아파트의 매매 집계 조회
      * <br/>
-     * 1. 전월 ~ 4년 전 데이터 조회 (날짜 내림차순)
-     * 2. aptId + areaTypeId 기준 그룹핑
-     * 3. 각 그룹에서 전월 데이터 + 비교 대상월 데이터 추출 => DTO 생성
+     * DB 에서 (아파트, 평형)마다 한 줄만 만들어 가져온다.
+     * 1. 전월(lastMonth) 행을 기준으로
+     * 2. 같은 아파트/평형의 searchMonth ~ 전월 이전 중 거래가 있는 달을 LEFT JOIN
+     * 3. ROW_NUMBER() 로 그중 가장 최근 달 하나만 남김 (없으면 비교 대상월 null)
      */
     @Override
     public List<AptSaleAggregation> findSaleAggregationByAptIds(
@@ -68,69 +94,31 @@ public class ApartmentSearchRepositoryImpl implements ApartmentSearchRepository
             String lastMonth,
             String searchMonth
     ) {
-        QMonthAvg monthAvg = QMonthAvg.monthAvg;
-
-        // 1. 전월 ~ 4년 전 데이터 조회 (yyyymm 내림차순 정렬)
-        List<MonthAvg> allData = queryFactory
-                .selectFrom(monthAvg)
-                .where(
-                        monthAvg.aptId.in(aptIds),
-                        monthAvg.yyyymm.loe(lastMonth), // <=
-                        monthAvg.yyyymm.goe(searchMonth) // >=
-                )
-                .orderBy(monthAvg.yyyymm.desc())
-                .fetch();
-
-        // 2. aptId + areaTypeId 기준 그룹핑
-        Map<String, List<MonthAvg>> grouped = allData.stream()
-                .collect(Collectors.groupingBy(
-                                ma
-                                        -> ma.getAptId() + "_" + ma.getAreaTypeId()
-                        )
-                );
+        if (aptIds == null || aptIds.isEmpty()) {
+            return List.of();
+        }
 
-        // 3. 각 그룹에서 전월 데이터 + 비교 대상월 데이터 추출
         List<AptSaleAggregation> result = new ArrayList<>();
 
-        for (List<MonthAvg> group : grouped.values()) {
-            // 전월 데이터 찾기
-            MonthAvg lastMonthAvg = group.stream()
-                    .filter(ma -> ma.getYyyymm().equals(lastMonth))
-                    .findFirst()
-                    .orElse(null);
-
-            // 전월 데이터 없으면 스킵
-            if (lastMonthAvg == null) {
-                continue;
-            }
-
-            // 비교 대상월 찾기
-            MonthAvg compareMonthAvg = group.stream()
-                    .filter(ma -> ma.getYyyymm().compareTo(lastMonth) < 0)
-                    .filter(ma -> ma.getSaleCount() > 0)
-                    .findFirst() // 위에서 이미 정렬했으므로 첫 번째가 가장 최신
-                    .orElse(null);
-
-            // DTO 생성
-            result.add(new AptSaleAggregation(
-                            lastMonthAvg.getAptId(),
-                            lastMonthAvg.getAreaTypeId(),
-                            lastMonthAvg.getSaleDealAmountSum(),
-                            lastMonthAvg.getSaleCount().longValue(),
-
-                            compareMonthAvg != null
-                                    ? compareMonthAvg.getYyyymm()
-                                    : null,
-
-                            compareMonthAvg != null
-                                    ? compareMonthAvg.getSaleDealAmountSum()
-                                    : null,
-
-                            compareMonthAvg != null
-                                    ? compareMonthAvg.getSaleCount().longValue()
-                                    : null
-                    )
-            );
+        // IN 목록이 너무 길어지지 않게 나눠서 조회
+        for (int from = 0; from < aptIds.size(); from += AGGREGATION_CHUNK_SIZE) {
+            List<Long> chunk = aptIds.subList(from, Math.min(from + AGGREGATION_CHUNK_SIZE, aptIds.size()));
+
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("aptIds", chunk)
+                    .addValue("lastMonth", lastMonth)
+                    .addValue("searchMonth", searchMonth);
+
+            result.addAll(namedParameterJdbcTemplate.query(SALE_AGGREGATION_SQL, params, (rs, i) ->
+                    new AptSaleAggregation(
+                            rs.getLong("apt_id"),
+                            rs.getLong("area_type_id"),
+                            rs.getLong("last_sum"),
+                            rs.getLong("last_count"),
+                            rs.getString("compare_yyyymm"),
+                            rs.getObject("compare_sum", Long.class),
+                            rs.getObject("compare_count", Long.class)
+                    )));
         }
 
         return result;
@@ -9,6 +9,12 @@ import java.util.List;
 public interface ApartmentRepositoryCustomRent {
     List<MarkResponse> findAllWithRentByRegionAndRentRange(RentGetMarkerRequest request) ;
 
+    /**
+     * apartment_rent_summary 의 최소/최대 범위 겹침으로 마커를 조회한다. (trade_rent EXISTS 없음)
+     * 요약은 필요조건이라 결과가 조금 넓을 수 있으며, exact=true 면 EXISTS 로 한 번 더 거른다.
+     */
+    List<MarkResponse> findAllWithRentSummaryByRegionAndRentRange(RentGetMarkerRequest request, boolean exact);
+
     /**
      * bounds + (기존 필터) 기준으로 마커를 격자(grid) 단위로 묶어서 집계(count)한 클러스터 목록을 반환한다.
      * 줌 레벨(level)에 따라 grid 크기를 다르게 적용한다.
@@ -9,11 +9,13 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.apartment.dto.MarkResponse;
 import org.example.homedatazip.apartment.dto.MarkerClusterResponse;
+import org.example.homedatazip.markerCluster.util.MarkerClusterGrid;
 import org.example.homedatazip.tradeRent.dto.RentGetMarkerRequest;
 
 import java.util.List;
 
 import static org.example.homedatazip.apartment.entity.QApartment.apartment;
+import static org.example.homedatazip.tradeRent.entity.QApartmentRentSummary.apartmentRentSummary;
 import static org.example.homedatazip.tradeRent.entity.QTradeRent.tradeRent;
 
 @RequiredArgsConstructor
@@ -68,6 +70,66 @@ public class ApartmentRepositoryImpl implements ApartmentRepositoryCustomRent {
         return query.fetch();
     }
 
+    @Override
+    public List<MarkResponse> findAllWithRentSummaryByRegionAndRentRange(RentGetMarkerRequest request, boolean exact) {
+        BooleanBuilder where = new BooleanBuilder()
+                .and(eqSido(request.sido()))
+                .and(eqGugun(request.gugun()))
+                .and(startsWithDong(request.dong()));
+
+        // [min, max] 범위가 요청 범위와 겹치는 아파트만 (요약은 필요조건)
+        BooleanBuilder summaryWhere = new BooleanBuilder()
+                .and(request.minDeposit() == null ? null : apartmentRentSummary.maxDeposit.goe(request.minDeposit()))
+                .and(request.maxDeposit() == null ? null : apartmentRentSummary.minDeposit.loe(request.maxDeposit()))
+                .and(request.minMonthlyRent() == null ? null : apartmentRentSummary.maxMonthlyRent.goe(request.minMonthlyRent()))
+                .and(request.maxMonthlyRent() == null ? null : apartmentRentSummary.minMonthlyRent.loe(request.maxMonthlyRent()))
+                .and(request.minExclusive() == null ? null : apartmentRentSummary.maxExclusiveArea.goe(request.minExclusive()))
+                .and(request.maxExclusive() == null ? null : apartmentRentSummary.minExclusiveArea.loe(request.maxExclusive()));
+
+        BooleanBuilder bounds = new BooleanBuilder()
+                .and(latBetween(request.south(), request.north()))
+                .and(lngBetween(request.west(), request.east()));
+
+        long safeLimit = normalizeLimit(request.limit());
+
+        com.querydsl.jpa.impl.JPAQuery<MarkResponse> query = queryFactory
+                .select(Projections.constructor(
+                        MarkResponse.class,
+                        apartment.id,
+                        apartment.aptName,
+                        apartment.latitude,
+                        apartment.longitude
+                ))
+                .from(apartment)
+                .join(apartmentRentSummary).on(apartmentRentSummary.apartmentId.eq(apartment.id))
+                .where(where)
+                .where(summaryWhere)
+                .where(bounds);
+
+        if (exact && hasRentFilter(request)) {
+            BooleanBuilder rentWhere = new BooleanBuilder()
+                    .and(minDeposit(request.minDeposit()))
+                    .and(maxDeposit(request.maxDeposit()))
+                    .and(minMonthlyRent(request.minMonthlyRent()))
+                    .and(maxMonthlyRent(request.maxMonthlyRent()))
+                    .and(minExclusive(request.minExclusive()))
+                    .and(maxExclusive(request.maxExclusive()));
+
+            query.where(
+                    queryFactory.selectOne()
+                            .from(tradeRent)
+                            .where(tradeRent.apartment.eq(apartment), rentWhere)
+                            .exists()
+            );
+        }
+
+        if (safeLimit > 0) {
+            query.limit(safeLimit);
+        }
+
+        return query.fetch();
+    }
+
     @Override
     public List<MarkerClusterResponse> findRentMarkerClusters(RentGetMarkerRequest request) {
         // 기존 region + rent 필터 유지 (원하면: bounds가 있을 때 region 필터를 빼는 정책으로 바꿀 수 있음)
@@ -122,6 +184,12 @@ public class ApartmentRepositoryImpl implements ApartmentRepositoryCustomRent {
 
         return query.fetch();
     }
+    private static boolean hasRentFilter(RentGetMarkerRequest request) {
+        return request.minDeposit() != null || request.maxDeposit() != null
+                || request.minMonthlyRent() != null || request.maxMonthlyRent() != null
+                || request.minExclusive() != null || request.maxExclusive() != null;
+    }
+
     private static BooleanExpression eqSido(String sido) {
         if (sido == null || sido.isBlank()) return null;
         return apartment.region.sido.eq(sido.trim());
@@ -193,15 +261,10 @@ public class ApartmentRepositoryImpl implements ApartmentRepositoryCustomRent {
      * - level이 클수록 더 넓은 범위를 보므로 grid도 크게 해서 더 강하게 묶는다.
      *
      * 참고: Kakao map level(1~14)은 1이 가장 확대, 숫자가 커질수록 축척이 커진다.
+     * (미리 계산한 클러스터 타일과 같은 격자를 쓰도록 MarkerClusterGrid 에 위임)
      */
     private static double gridByLevel(Integer level) {
-        int lv = (level == null) ? 8 : level;
-        if (lv >= 12) return 0.05;   // ~ 수 km 단위
-        if (lv >= 10) return 0.02;
-        if (lv >= 8)  return 0.01;
-        if (lv >= 6)  return 0.005;
-        if (lv >= 4)  return 0.002;
-        return 0.001;                // 매우 확대: 거의 개별에 가깝게
+        return MarkerClusterGrid.gridByLevel(level);
     }
 
     /**
@@ -0,0 +1,303 @@
+package org.example.homedatazip.apartment.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 아파트 이름/주소 2-gram 역색인 (메모리)
+ * - 이름, 도로명/지번 주소를 소문자 + 공백 제거 후 2글자씩 잘라 문서 번호 목록(오름차순)에 추가
+ * - 검색어의 2-gram 목록을 교집합해서 후보를 만들고 최종 확인
+ *   이름 검색은 공백을 그대로 둔 소문자 이름에 검색어가 포함되는지로 확인 (LIKE '%kw%' 와 같은 결과)
+ *   자동완성은 공백을 무시하고, 초성/받침 확장("래미ㅇ", "래밍" → "래미안")과 주소 일치까지 포함
+ * - 검색어는 공백 제외 2글자 이상만 (1글자는 후보를 좁힐 수 없어 호출부에서 DB 조회)
+ * - 수정된 아파트는 새 문서 번호로 다시 넣고 이전 번호는 지운 표시만 한다 (전체 재생성 때 정리)
+ * - 순위: 이름 일치 > 이름 접두 > 단어 시작 > 이름 포함 > 주소 포함, 같으면 짧은 이름, id 순
+ */
+public class ApartmentNameIndex {
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_WORD_START = 2;
+    private static final int RANK_NAME_CONTAINS = 3;
+    private static final int RANK_ADDRESS_CONTAINS = 4;
+
+    public static final int MIN_KEYWORD_LENGTH = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 번호 → 문서 (지운 문서는 null)
+    private final List<Entry> docs = new ArrayList<>();
+    private final Map<Long, Integer> docIdByAptId = new HashMap<>();
+    private final Map<String, IntList> postings = new HashMap<>();
+
+    private record Entry(ApartmentSearchDoc doc, String name, String nameLower,
+                         String roadAddress, String jibunAddress) {
+    }
+
+    private record Hit(ApartmentSearchDoc doc, int rank) {
+    }
+
+    // 검색어 하나를 어떻게 비교할지 (base 뒤에 초성 jamo 가 이어져야 하면 jamo != 0, literal 이 있으면 이름에 그대로 포함되는지로 확인)
+    private record Pattern(String base, char jamo, String literal) {
+    }
+
+    /** 추가 또는 수정 (같은 내용이면 무시) */
+    public void upsert(ApartmentSearchDoc doc) {
+        if (doc == null || doc.aptId() == null) return;
+
+        lock.writeLock().lock();
+        try {
+            Integer old = docIdByAptId.get(doc.aptId());
+            if (old != null) {
+                if (docs.get(old).doc().equals(doc)) return;
+                docs.set(old, null);
+            }
+            add(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long aptId) {
+        lock.writeLock().lock();
+        try {
+            Integer old = docIdByAptId.remove(aptId);
+            if (old != null) {
+                docs.set(old, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 인덱스로 찾을 수 있는 검색어인지 (공백 제외 2글자 이상) */
+    public static boolean isSearchable(String keyword) {
+        return normalize(keyword).length() >= MIN_KEYWORD_LENGTH;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByAptId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (지역 필터는 값이 있을 때만), limit 0 이하면 전체
+     * autocomplete=false 면 이름에 그대로 포함된 것만, true 면 주소 일치와 초성/받침 확장까지
+     */
+    public List<ApartmentSearchDoc> search(String keyword, String sido, String gugun, String dong,
+                                           boolean autocomplete, int limit) {
+        List<Pattern> patterns = autocomplete ? patternsOf(keyword) : plainPatternOf(keyword);
+        if (patterns.isEmpty()) return List.of();
+
+        String wordStart = keyword.trim().toLowerCase(Locale.ROOT);
+        Map<Integer, Hit> hits = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (Pattern pattern : patterns) {
+                if (pattern.base().length() < MIN_KEYWORD_LENGTH) continue;
+                for (int docId : candidates(pattern.base())) {
+                    Entry e = docs.get(docId);
+                    if (e == null || !inRegion(e.doc(), sido, gugun, dong)) continue;
+
+                    int rank = rank(e, pattern, wordStart);
+                    if (rank < 0 || (rank == RANK_ADDRESS_CONTAINS && !autocomplete)) continue;
+
+                    Hit prev = hits.get(docId);
+                    if (prev == null || rank < prev.rank()) {
+                        hits.put(docId, new Hit(e.doc(), rank));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        var stream = hits.values().stream()
+                .sorted(Comparator.comparingInt(Hit::rank)
+                        .thenComparingInt(h -> h.doc().aptName() == null ? Integer.MAX_VALUE : h.doc().aptName().length())
+                        .thenComparing(h -> h.doc().aptId()))
+                .map(Hit::doc);
+        return limit > 0 ? stream.limit(limit).toList() : stream.toList();
+    }
+
+    // ===== 내부 =====
+
+    private void add(ApartmentSearchDoc doc) {
+        Entry e = new Entry(
+                doc,
+                normalize(doc.aptName()),
+                doc.aptName() == null ? "" : doc.aptName().toLowerCase(Locale.ROOT),
+                normalize(doc.roadAddress()),
+                normalize(doc.jibunAddress())
+        );
+        int docId = docs.size();
+        docs.add(e);
+        docIdByAptId.put(doc.aptId(), docId);
+
+        // 문서 번호가 증가하는 순서로만 추가되므로 posting 은 항상 정렬 상태
+        addTokens(e.name(), docId);
+        addTokens(e.roadAddress(), docId);
+        addTokens(e.jibunAddress(), docId);
+    }
+
+    private void addTokens(String text, int docId) {
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            postings.computeIfAbsent(text.substring(i, i + 2), k -> new IntList()).addIfLast(docId);
+        }
+    }
+
+    // 2-gram posting 교집합 (짧은 것부터), base 는 2글자 이상
+    private int[] candidates(String base) {
+        List<IntList> lists = new ArrayList<>();
+        for (int i = 0; i + 2 <= base.length(); i++) {
+            IntList list = postings.get(base.substring(i, i + 2));
+            if (list == null) return new int[0];
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+
+        int[] result = lists.get(0).toArray();
+        int n = result.length;
+        for (int li = 1; li < lists.size() && n > 0; li++) {
+            IntList other = lists.get(li);
+            int m = 0;
+            for (int i = 0; i < n; i++) {
+                if (other.contains(result[i])) {
+                    result[m++] = result[i];
+                }
+            }
+            n = m;
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static int rank(Entry e, Pattern p, String wordStart) {
+        if (p.literal() != null) {
+            String literal = p.literal();
+            if (e.nameLower().equals(literal)) return RANK_EXACT;
+            if (e.nameLower().startsWith(literal)) return RANK_PREFIX;
+            if (e.nameLower().contains(" " + literal)) return RANK_WORD_START;
+            if (e.nameLower().contains(literal)) return RANK_NAME_CONTAINS;
+            return -1;
+        }
+        if (p.jamo() == 0) {
+            if (e.name().equals(p.base())) return RANK_EXACT;
+            if (e.name().startsWith(p.base())) return RANK_PREFIX;
+            if (e.nameLower().contains(" " + wordStart)) return RANK_WORD_START;
+            if (e.name().contains(p.base())) return RANK_NAME_CONTAINS;
+        } else {
+            int at = indexOfWithJamo(e.name(), p);
+            if (at == 0) return RANK_PREFIX;
+            if (at > 0) return RANK_NAME_CONTAINS;
+        }
+        if (indexOfWithJamo(e.roadAddress(), p) >= 0 || indexOfWithJamo(e.jibunAddress(), p) >= 0) {
+            return RANK_ADDRESS_CONTAINS;
+        }
+        return -1;
+    }
+
+    // base 가 나오고 바로 다음 글자의 초성이 jamo 인 첫 위치
+    private static int indexOfWithJamo(String text, Pattern p) {
+        int from = 0;
+        while (true) {
+            int at = text.indexOf(p.base(), from);
+            if (at < 0) return -1;
+            if (p.jamo() == 0) return at;
+
+            int next = at + p.base().length();
+            if (next < text.length() && HangulJamo.choseongOf(text.charAt(next)) == p.jamo()) {
+                return at;
+            }
+            from = at + 1;
+        }
+    }
+
+    private static boolean inRegion(ApartmentSearchDoc doc, String sido, String gugun, String dong) {
+        return matches(sido, doc.sido()) && matches(gugun, doc.gugun()) && matches(dong, doc.dong());
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.isBlank() || Objects.equals(filter, value);
+    }
+
+    // 검색어 그대로 (LIKE '%kw%'), 후보는 공백 뺀 2-gram 으로 찾고 확인은 공백 포함 원문으로
+    private static List<Pattern> plainPatternOf(String keyword) {
+        String kw = normalize(keyword);
+        return kw.isEmpty() ? List.of() : List.of(new Pattern(kw, (char) 0, keyword.trim().toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * 자동완성용 검색어 → 비교 패턴
+     * "래미ㅇ" → (래미, ㅇ) / "래밍" → (래밍) + (래미, ㅇ) / "래미안" → (래미안)
+     */
+    private static List<Pattern> patternsOf(String keyword) {
+        String kw = normalize(keyword);
+        if (kw.isEmpty()) return List.of();
+
+        char last = kw.charAt(kw.length() - 1);
+        String head = kw.substring(0, kw.length() - 1);
+
+        if (HangulJamo.isConsonant(last)) {
+            return head.isEmpty() ? List.of() : List.of(new Pattern(head, last, null));
+        }
+
+        List<Pattern> patterns = new ArrayList<>(2);
+        patterns.add(new Pattern(kw, (char) 0, null));
+
+        char jong = HangulJamo.jongseongOf(last);
+        if (jong != 0) {
+            patterns.add(new Pattern(head + HangulJamo.withoutJongseong(last), jong, null));
+        }
+        return patterns;
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 정렬된 int 목록 (박싱 없이) */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void addIfLast(int v) {
+            if (size > 0 && values[size - 1] == v) return; // 같은 문서의 중복 토큰
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        boolean contains(int v) {
+            return Arrays.binarySearch(values, 0, size, v) >= 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.homedatazip.apartment.search;
+
+import org.example.homedatazip.apartment.entity.Apartment;
+import org.example.homedatazip.data.Region;
+
+/**
+ * 아파트 이름 검색 인덱스에 들어가는 한 건 (검색/자동완성 응답에 필요한 값만)
+ */
+public record ApartmentSearchDoc(
+        Long aptId,
+        String aptName,
+        String roadAddress,
+        String jibunAddress,
+        String sido,
+        String gugun,
+        String dong
+) {
+    public static ApartmentSearchDoc from(Apartment apt) {
+        Region region = apt.getRegion();
+        return new ApartmentSearchDoc(
+                apt.getId(),
+                apt.getAptName(),
+                apt.getRoadAddress(),
+                apt.getJibunAddress(),
+                region != null ? region.getSido() : null,
+                region != null ? region.getGugun() : null,
+                region != null ? region.getDong() : null
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.homedatazip.apartment.search;
+
+/**
+ * 자동완성용 한글 자모 처리
+ * - "래미ㅇ" 처럼 마지막에 자음만 친 경우 → 다음 글자의 초성으로 비교
+ * - "램" 처럼 아직 받침으로 붙어 있는 경우 → "래" + 다음 글자 초성 ㅁ 으로도 비교
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    // 받침 index(1~27) → 초성으로 쓸 수 있는 자음, 겹받침은 0 (분리하지 않음)
+    private static final String JONGSEONG_AS_CHOSEONG = "\0ㄱㄲ\0ㄴ\0\0ㄷㄹ\0\0\0\0\0\0\0ㅁㅂ\0ㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /** 호환 자모 자음 (ㄱ ~ ㅎ) */
+    public static boolean isConsonant(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    /** 완성형 글자의 초성, 한글이 아니면 0 */
+    public static char choseongOf(char c) {
+        if (!isSyllable(c)) return 0;
+        return CHOSEONG.charAt((c - SYLLABLE_BEGIN) / 588);
+    }
+
+    /** 받침(초성으로 쓸 수 있는 것만), 없으면 0 */
+    public static char jongseongOf(char c) {
+        if (!isSyllable(c)) return 0;
+        return JONGSEONG_AS_CHOSEONG.charAt((c - SYLLABLE_BEGIN) % 28);
+    }
+
+    /** 받침을 뗀 글자 */
+    public static char withoutJongseong(char c) {
+        if (!isSyllable(c)) return c;
+        return (char) (c - (c - SYLLABLE_BEGIN) % 28);
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.homedatazip.apartment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.apartment.entity.Apartment;
+import org.example.homedatazip.apartment.repository.ApartmentSearchDocRepository;
+import org.example.homedatazip.apartment.search.ApartmentNameIndex;
+import org.example.homedatazip.apartment.search.ApartmentSearchDoc;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 아파트 이름/주소 검색 인덱스 관리
+ * - 기동 후 백그라운드로 전체 적재, 매일 새벽 전체 재생성 (수정으로 남은 빈 문서 정리)
+ * - ApartmentService 가 아파트를 만들거나 수정하면 커밋 후 해당 건만 반영
+ * - 적재 전에는 empty 를 돌려주고 호출부가 DB LIKE 검색으로 대체한다
+ */
+@Slf4j
+@Service
+public class ApartmentNameIndexService {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private final ApartmentSearchDocRepository apartmentSearchDocRepository;
+    private final boolean enabled;
+
+    private volatile ApartmentNameIndex index;
+
+    // 재생성 중에 들어온 변경 (새 인덱스에 다시 반영), null 이면 재생성 중 아님
+    private List<ApartmentSearchDoc> pendingDuringRebuild;
+
+    public ApartmentNameIndexService(ApartmentSearchDocRepository apartmentSearchDocRepository,
+                                     @Value("${apartment.name-index.enabled:true}") boolean enabled) {
+        this.apartmentSearchDocRepository = apartmentSearchDocRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) return;
+        Thread.ofVirtual().name("apt-name-index-load").start(this::rebuildQuietly);
+    }
+
+    @Scheduled(cron = "0 40 3 * * *", zone = "Asia/Seoul")
+    public void rebuildQuietly() {
+        if (!enabled) return;
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[AptNameIndex] 재생성 실패 - 기존 인덱스 유지", e);
+        }
+    }
+
+    public void rebuild() {
+        synchronized (this) {
+            if (pendingDuringRebuild != null) return; // 이미 진행 중
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        long start = System.currentTimeMillis();
+        ApartmentNameIndex fresh = new ApartmentNameIndex();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<ApartmentSearchDoc> page = apartmentSearchDocRepository.findPageAfter(lastId, LOAD_PAGE_SIZE);
+                if (page.isEmpty()) break;
+                page.forEach(fresh::upsert);
+                lastId = page.get(page.size() - 1).aptId();
+            }
+        } finally {
+            synchronized (this) {
+                pendingDuringRebuild.forEach(fresh::upsert);
+                pendingDuringRebuild = null;
+                if (fresh.size() > 0 || index == null) {
+                    index = fresh;
+                }
+            }
+        }
+
+        log.info("[AptNameIndex] 재생성 완료 - {}건, {}ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /** 이름 검색 (LIKE '%keyword%' 대체), 인덱스가 아직 없거나 1글자 검색어면 empty (호출부에서 DB 조회) */
+    public Optional<List<ApartmentSearchDoc>> searchByName(String keyword, String sido, String gugun, String dong) {
+        ApartmentNameIndex current = index;
+        if (current == null || !ApartmentNameIndex.isSearchable(keyword)) return Optional.empty();
+        return Optional.of(current.search(keyword, sido, gugun, dong, false, 0));
+    }
+
+    /** 자동완성 - 이름 접두 우선, 주소 일치까지 순위대로 limit 개 (1글자 검색어는 empty) */
+    public Optional<List<ApartmentSearchDoc>> autocomplete(String keyword, int limit) {
+        ApartmentNameIndex current = index;
+        if (current == null || !ApartmentNameIndex.isSearchable(keyword)) return Optional.empty();
+        return Optional.of(current.search(keyword, null, null, null, true, limit));
+    }
+
+    /** 생성/수정된 아파트를 커밋 후 반영 (트랜잭션 밖이면 바로) */
+    public void indexAfterCommit(Collection<Apartment> apartments) {
+        if (!enabled || apartments == null || apartments.isEmpty()) return;
+
+        List<ApartmentSearchDoc> docs = apartments.stream()
+                .filter(Objects::nonNull)
+                .filter(a -> a.getId() != null)
+                .map(ApartmentSearchDoc::from)
+                .toList();
+        if (docs.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(docs);
+                }
+            });
+        } else {
+            apply(docs);
+        }
+    }
+
+    private synchronized void apply(List<ApartmentSearchDoc> docs) {
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.addAll(docs);
+        }
+        ApartmentNameIndex current = index;
+        if (current != null) {
+            docs.forEach(current::upsert);
+        }
+    }
+}
@@ -2,11 +2,13 @@ package org.example.homedatazip.apartment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.apartment.dto.AptAutocompleteResponse;
 import org.example.homedatazip.apartment.dto.AptSaleAggregation;
 import org.example.homedatazip.apartment.dto.AptSummaryResponse;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.apartment.repository.ApartmentSearchRepository;
+import org.example.homedatazip.apartment.search.ApartmentSearchDoc;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.ApartmentErrorCode;
 import org.example.homedatazip.global.geocode.dto.CoordinateInfoResponse;
@@ -14,6 +16,7 @@ import org.example.homedatazip.global.geocode.service.GeoService;
 import org.example.homedatazip.monthAvg.utill.Yyyymm;
 import org.example.homedatazip.tradeRent.dto.ApartmentGetOrCreateRequest;
 import org.example.homedatazip.tradeSale.dto.ApartmentTradeSaleItem;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +35,7 @@ public class ApartmentService {
     private final GeoService geoService;
 
     private final ApartmentSearchRepository apartmentSearchRepository;
+    private final ApartmentNameIndexService apartmentNameIndexService;
 
     // 매매
     @Transactional
@@ -62,6 +66,9 @@ public class ApartmentService {
                 aptMap.get(seq).update(item);
             }
         }
+
+        // 이름 검색 인덱스 반영 (바뀐 것만 실제로 갱신됨)
+        apartmentNameIndexService.indexAfterCommit(aptMap.values());
         return aptMap;
     }
 
@@ -146,6 +153,9 @@ public class ApartmentService {
         log.info("매매 데이터 처리 완료 - 신규 저장 {}건, 기존 데이터 활용 {}건",
                 newApartments.size(), aptMap.size() - newApartments.size());
 
+        // 이름 검색 인덱스 반영 (바뀐 것만 실제로 갱신됨)
+        apartmentNameIndexService.indexAfterCommit(aptMap.values());
+
         return aptMap;
     }
 
@@ -169,14 +179,16 @@ public class ApartmentService {
 
         log.info("🔍 아파트 키워드 검색 시작 - keyword: {}", keyword);
 
-        // 2. 키워드를 포함하는 아파트 목록 조회
-        List<Apartment> apartments
-                = apartmentSearchRepository.findAptListContaining(
-                keyword,
-                sido,
-                gugun,
-                dong
-        );
+        // 2. 키워드를 포함하는 아파트 목록 조회 (이름 인덱스, 준비 전이면 DB LIKE)
+        List<Apartment> apartments = apartmentNameIndexService.searchByName(keyword, sido, gugun, dong)
+                .map(docs -> apartmentRepository.findAllById(
+                        docs.stream().map(ApartmentSearchDoc::aptId).toList()))
+                .orElseGet(() -> apartmentSearchRepository.findAptListContaining(
+                        keyword,
+                        sido,
+                        gugun,
+                        dong
+                ));
 
         // 조회 결과 없음
         if (apartments == null || apartments.isEmpty()) {
@@ -233,6 +245,30 @@ public class ApartmentService {
         return result;
     }
 
+    /**
+     * 아파트 이름 자동완성 (이름 접두 > 단어 시작 > 포함 > 주소 순)
+     */
+    @Transactional(readOnly = true)
+    public List<AptAutocompleteResponse> autocomplete(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+
+        return apartmentNameIndexService.autocomplete(keyword, limit)
+                .map(docs -> docs.stream()
+                        .map(d -> new AptAutocompleteResponse(d.aptId(), d.aptName(), d.sido(), d.gugun(), d.dong()))
+                        .toList())
+                // 인덱스 준비 전 / 1글자 검색어
+                .orElseGet(() -> apartmentRepository.findByAptNameStartsWith(keyword.trim(), PageRequest.of(0, Math.max(limit, 1))).stream()
+                        .map(a -> new AptAutocompleteResponse(
+                                a.getId(),
+                                a.getAptName(),
+                                a.getRegion() != null ? a.getRegion().getSido() : null,
+                                a.getRegion() != null ? a.getRegion().getGugun() : null,
+                                a.getRegion() != null ? a.getRegion().getDong() : null))
+                        .toList());
+    }
+
     /**
      * 키워드 유효성 검증 (공백, 글자수 체크)
      */
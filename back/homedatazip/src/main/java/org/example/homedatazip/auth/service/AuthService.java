@@ -65,11 +65,9 @@ public class AuthService {
             throw new BusinessException(AuthErrorCode.INVALID_TOKEN_EXCEPTION);
         }
 
-        if(!jwtTokenizer.validateRefreshToken(refreshToken)){
-            throw new BusinessException(AuthErrorCode.INVALID_TOKEN_EXCEPTION);
-        }
-
-        String email = jwtTokenizer.getEmailFromRefreshToken(refreshToken);
+        String email = jwtTokenizer.verifyRefreshToken(refreshToken)
+                .map(claims -> claims.get("email", String.class))
+                .orElseThrow(() -> new BusinessException(AuthErrorCode.INVALID_TOKEN_EXCEPTION));
         User user = findUserByEmail(email);
 
         String redisRefreshToken = refreshTokenRedisRepository.find(user.getId());
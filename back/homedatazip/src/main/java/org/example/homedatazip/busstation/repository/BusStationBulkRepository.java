@@ -0,0 +1,130 @@
+package org.example.homedatazip.busstation.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.busstation.entity.BusStation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 버스 정류장 일괄 UPSERT (node_id 기준)
+ * - chunk 의 기존 행을 IN 조회 1번으로 읽어 비교하고, 새 행/바뀐 행만 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 쓴다.
+ * - 바뀌지 않은 행은 쓰지 않는다.
+ * - region 이 없는(null) 입력은 기존 region_id 를 유지
+ */
+@Repository
+@RequiredArgsConstructor
+public class BusStationBulkRepository {
+
+    private static final int COLUMN_COUNT = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private static final String FIND_SQL = """
+            SELECT node_id, station_number, name, latitude, longitude, region_id
+            FROM bus_station
+            WHERE node_id IN (:nodeIds)
+            """;
+
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO bus_station
+            (node_id, station_number, name, latitude, longitude, region_id)
+            VALUES
+            """;
+
+    private static final String UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                station_number = VALUES(station_number),
+                name           = VALUES(name),
+                latitude       = VALUES(latitude),
+                longitude      = VALUES(longitude),
+                region_id      = COALESCE(VALUES(region_id), region_id)
+            """;
+
+    private static final String VALUES_ROW = "(" + "?, ".repeat(COLUMN_COUNT - 1) + "?)";
+
+    public record Result(int inserted, int updated, int unchanged) {}
+
+    private record Stored(String stationNumber, String name, Double latitude, Double longitude, Long regionId) {}
+
+    public Result upsertAll(List<? extends BusStation> stations) {
+        // 같은 chunk 안에 같은 node_id 가 있으면 마지막 값
+        Map<String, BusStation> byNodeId = new LinkedHashMap<>();
+        for (BusStation s : stations) {
+            if (s.getNodeId() != null) {
+                byNodeId.put(s.getNodeId(), s);
+            }
+        }
+        if (byNodeId.isEmpty()) return new Result(0, 0, 0);
+
+        Map<String, Stored> existing = findExisting(byNodeId.keySet());
+
+        List<BusStation> targets = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        for (BusStation s : byNodeId.values()) {
+            Stored stored = existing.get(s.getNodeId());
+            if (stored == null) {
+                inserted++;
+                targets.add(s);
+            } else if (isChanged(stored, s)) {
+                updated++;
+                targets.add(s);
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(targets.size(), VALUES_ROW)) + UPSERT_SUFFIX;
+            List<Object> args = new ArrayList<>(targets.size() * COLUMN_COUNT);
+            for (BusStation s : targets) {
+                args.add(s.getNodeId());
+                args.add(s.getStationNumber());
+                args.add(s.getName());
+                args.add(s.getLatitude());
+                args.add(s.getLongitude());
+                args.add(regionIdOf(s));
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+
+        return new Result(inserted, updated, byNodeId.size() - targets.size());
+    }
+
+    private Map<String, Stored> findExisting(Collection<String> nodeIds) {
+        Map<String, Stored> result = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_SQL, new MapSqlParameterSource("nodeIds", nodeIds), rs -> {
+            result.put(rs.getString("node_id"), new Stored(
+                    rs.getString("station_number"),
+                    rs.getString("name"),
+                    rs.getObject("latitude", Double.class),
+                    rs.getObject("longitude", Double.class),
+                    rs.getObject("region_id", Long.class)
+            ));
+        });
+        return result;
+    }
+
+    private static boolean isChanged(Stored stored, BusStation s) {
+        Long regionId = regionIdOf(s);
+        return !Objects.equals(stored.stationNumber(), s.getStationNumber())
+                || !Objects.equals(stored.name(), s.getName())
+                || !Objects.equals(stored.latitude(), s.getLatitude())
+                || !Objects.equals(stored.longitude(), s.getLongitude())
+                || (regionId != null && !regionId.equals(stored.regionId()));
+    }
+
+    private static Long regionIdOf(BusStation s) {
+        return s.getRegion() == null ? null : s.getRegion().getId();
+    }
+}
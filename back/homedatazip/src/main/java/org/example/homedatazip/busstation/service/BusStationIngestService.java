@@ -4,18 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.busstation.client.dto.SeoulBusStopResponse;
 import org.example.homedatazip.busstation.entity.BusStation;
-import org.example.homedatazip.busstation.repository.BusStationRepository;
+import org.example.homedatazip.busstation.repository.BusStationBulkRepository;
 import org.example.homedatazip.data.Region;
 import org.example.homedatazip.global.geocode.service.GeoService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BusStationIngestService {
 
-    private final BusStationRepository busStationRepository;
+    private final BusStationBulkRepository busStationBulkRepository;
     private final GeoService geoService;
 
     @Transactional
@@ -31,7 +33,9 @@ public class BusStationIngestService {
 
         Region region;
         try {
-            region = geoService.convertAddressInfo(lat, lon);
+            // 주변 매칭 좌표로 판단 가능하면 Kakao 호출 없이
+            region = geoService.findRegionOffline(lat, lon)
+                    .orElseGet(() -> geoService.convertAddressInfo(lat, lon));
         } catch (Exception e) {
             // 카카오 호출 실패/Region 못찾음 등
             log.warn("Region 매핑 실패 - nodeId={}, lat={}, lon={}, err={}",
@@ -39,8 +43,7 @@ public class BusStationIngestService {
             region = null; // region 없이라도 저장하고 싶으면 null로 두고 진행
         }
 
-        BusStation station = busStationRepository.findByNodeId(row.NODE_ID())
-                .orElseGet(() -> new BusStation(row.NODE_ID()));
+        BusStation station = new BusStation(row.NODE_ID());
 
         station.update(
                 row.STOPS_NO(),      // ARS-ID
@@ -50,7 +53,8 @@ public class BusStationIngestService {
                 region
         );
 
-        busStationRepository.save(station);
+        // node_id 기준 UPSERT (region 을 못 찾았으면 기존 값 유지)
+        busStationBulkRepository.upsertAll(List.of(station));
     }
 
     private Double parseDouble(String v) {
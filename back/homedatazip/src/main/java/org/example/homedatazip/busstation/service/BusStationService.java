@@ -5,13 +5,13 @@ import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.busstation.dto.NearbyBusStationReponse;
 import org.example.homedatazip.busstation.entity.BusStation;
-import org.example.homedatazip.busstation.repository.BusStationRepository;
-import org.example.homedatazip.global.geo.GeoBox;
-import org.example.homedatazip.global.geo.Haversine;
+import org.example.homedatazip.busstation.repository.BusStationBulkRepository;
+import org.example.homedatazip.global.geo.GeoGridIndex.Neighbor;
+import org.example.homedatazip.poi.dto.PoiBusStation;
+import org.example.homedatazip.poi.service.PoiSpatialService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -19,24 +19,13 @@ import java.util.List;
 @Transactional
 public class BusStationService {
 
-    private final BusStationRepository busStationRepository;
+    private final BusStationBulkRepository busStationBulkRepository;
     private final ApartmentRepository apartmentRepository;
+    private final PoiSpatialService poiSpatialService;
 
+    // node_id 기준 일괄 UPSERT (region 이 null 이면 기존 값 유지)
     public void upsertAll(List<BusStation> stations) {
-        for (BusStation incoming : stations) {
-            BusStation station = busStationRepository.findByNodeId(incoming.getNodeId())
-                    .orElseGet(() -> new BusStation(incoming.getNodeId()));
-
-            station.update(
-                    incoming.getStationNumber(),
-                    incoming.getName(),
-                    incoming.getLongitude(),
-                    incoming.getLatitude(),
-                    incoming.getRegion()
-            );
-
-            busStationRepository.save(station);
-        }
+        busStationBulkRepository.upsertAll(stations);
     }
 
     @Transactional(readOnly = true)
@@ -58,38 +47,24 @@ public class BusStationService {
         return findNearbyByApartmentId(apartmentId, 500, limit);
     }
 
-    // baseLat, baseLon 를 직접 입력받아 조회
+    // baseLat, baseLon 를 직접 입력받아 조회 (DB 대신 POI 메모리 인덱스)
     @Transactional(readOnly = true)
     public List<NearbyBusStationReponse> findNearby(double baseLat, double baseLon, int radiusMeters, int limit) {
-        // 바운딩 박스
-        GeoBox.BoundingBox box = GeoBox.boundingBox(baseLat, baseLon, radiusMeters);
-
-        // 바운딩 박스 범위 안에 있는 정류장 조회
-        List<BusStation> candidates = busStationRepository.findCandidates(
-                box.minLat(), box.maxLat(),
-                box.minLon(), box.maxLon()
-        );
-
-        return candidates.stream()
-                .filter(bs -> bs.getLatitude() != null && bs.getLongitude() != null)
-                .map(bs -> toResponse(baseLat, baseLon, bs))
-                .filter(r -> r.distanceMeters() <= radiusMeters)
-                .sorted(Comparator.comparingDouble(NearbyBusStationReponse::distanceMeters))
-                .limit(limit)
+        return poiSpatialService.findBusStations(baseLat, baseLon, radiusMeters, limit).stream()
+                .map(this::toResponse)
                 .toList();
     }
 
-    private NearbyBusStationReponse toResponse(double baseLat, double baseLon, BusStation bs) {
-        // 아파트좌표와 정류장 좌표를 이용해 하버사인으로 거리 계산
-        double dist = Haversine.distanceMeters(baseLat, baseLon, bs.getLatitude(), bs.getLongitude());
+    private NearbyBusStationReponse toResponse(Neighbor<PoiBusStation> neighbor) {
+        PoiBusStation bs = neighbor.item();
         return new NearbyBusStationReponse(
-                bs.getId(),
-                bs.getNodeId(),
-                bs.getStationNumber(),
-                bs.getName(),
-                bs.getLatitude(),
-                bs.getLongitude(),
-                dist
+                bs.id(),
+                bs.nodeId(),
+                bs.stationNumber(),
+                bs.name(),
+                bs.latitude(),
+                bs.longitude(),
+                neighbor.distanceMeters()
         );
     }
 }
@@ -11,12 +11,14 @@ import org.example.homedatazip.global.config.CustomUserDetails;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -28,13 +30,16 @@ public class ChatController {
 
     private final ChatService chatService;
 
-    // 채팅방 리스트 조회
+    // 채팅방 리스트 조회 - size 를 주면 (cursorTime, cursorId) 다음부터 size 개 (없으면 전체)
     @GetMapping("/api/chat/rooms")
     public ResponseEntity<List<ChatRoomListResponse>> getRooms(
-            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size) {
         Long userId = customUserDetails.getUserId();
         log.info("채팅방 리스트 조회 - userId={}", userId);
-        List<ChatRoomListResponse> rooms = chatService.getRooms(userId);
+        List<ChatRoomListResponse> rooms = chatService.getRooms(userId, cursorTime, cursorId, size);
         return ResponseEntity.ok(rooms);
     }
 
@@ -4,6 +4,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import org.example.homedatazip.chat.entity.ChatMessage;
 import org.example.homedatazip.chat.entity.MessageType;
+import org.example.homedatazip.chat.repository.ChatMessageRow;
+import org.example.homedatazip.user.entity.User;
 
 import java.time.LocalDateTime;
 
@@ -28,4 +30,17 @@ public record ChatMessageResponse(
                 .isRead(message.isRead())
                 .build();
     }
+
+    // write-behind: 아직 저장 전인 메시지
+    public static ChatMessageResponse create(ChatMessageRow row, User sender) {
+        return ChatMessageResponse.builder()
+                .messageId(row.id())
+                .senderId(sender.getId())
+                .senderNickname(sender.getNickname())
+                .content(row.content())
+                .createdAt(row.createdAt())
+                .type(row.type())
+                .isRead(row.isRead())
+                .build();
+    }
 }
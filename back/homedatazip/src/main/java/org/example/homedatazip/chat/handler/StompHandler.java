@@ -1,5 +1,6 @@
 package org.example.homedatazip.chat.handler;
 
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.chat.service.ChatAuthService;
 import org.example.homedatazip.chat.service.ChatSessionManager;
@@ -72,14 +73,13 @@ public class StompHandler implements ChannelInterceptor {
             }
             try {
                 // 토큰 검증 및 유저 정보 추출
-                if (jwtTokenizer.validateAccessToken(accessToken)) {
+                Claims claims = jwtTokenizer.verifyAccessToken(accessToken).orElse(null);
+                if (claims != null) {
                     // 토큰에서 유저 식별자 추출
-                    String email = jwtTokenizer.getEmailFromAccessToken(accessToken);
+                    log.info("토큰에서 유저 식별자 추출 - email={}", claims.get("email", String.class));
 
-                    log.info("토큰에서 유저 식별자 추출 - email={}", email);
-
-                    // 유저 정보 로드
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+                    // 유저 정보 로드 (캐시)
+                    UserDetails userDetails = customUserDetailsService.loadUserByClaims(claims);
 
                     // 인증 객체 생성
                     Authentication authentication = new UsernamePasswordAuthenticationToken(
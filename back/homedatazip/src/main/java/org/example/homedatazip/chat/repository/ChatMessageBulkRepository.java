@@ -0,0 +1,77 @@
+package org.example.homedatazip.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.chat.entity.MessageType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * write-behind 채팅 메시지 일괄 저장
+ * - id 를 미리 발급해서 넣으므로 재시도해도 INSERT IGNORE 로 중복 없이 끝난다
+ *   (방/회원이 그 사이 삭제되어 FK 에 걸리는 행도 IGNORE 로 건너뜀)
+ * - 방의 마지막 메시지는 방마다 마지막 TALK 한 건으로만 UPDATE
+ * - 메시지 INSERT 와 마지막 메시지 UPDATE 는 한 트랜잭션
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO chat_messages
+            (id, chat_room_id, sender_id, content, type, is_read, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 이미 더 최근 메시지로 갱신된 방은 덮어쓰지 않는다
+    private static final String UPDATE_LAST_MESSAGE_SQL = """
+            UPDATE chat_rooms
+            SET last_message = ?, last_message_time = ?, updated_at = ?
+            WHERE id = ?
+              AND (last_message_time IS NULL OR last_message_time <= ?)
+            """;
+
+    /** rows 는 발급 순서(id 오름차순) 그대로 들어온다 */
+    @Transactional
+    public void insertAll(List<ChatMessageRow> rows) {
+        if (rows == null || rows.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            ps.setLong(1, row.id());
+            ps.setLong(2, row.roomId());
+            ps.setLong(3, row.senderId());
+            ps.setString(4, row.content());
+            ps.setString(5, row.type().name());
+            ps.setBoolean(6, row.isRead());
+            ps.setTimestamp(7, createdAt);
+            ps.setTimestamp(8, createdAt);
+        });
+
+        // 방별 마지막 TALK 만 남긴다 (뒤에 온 것이 덮어씀)
+        Map<Long, ChatMessageRow> lastTalkByRoom = new LinkedHashMap<>();
+        for (ChatMessageRow row : rows) {
+            if (row.type() == MessageType.TALK) {
+                lastTalkByRoom.put(row.roomId(), row);
+            }
+        }
+        if (lastTalkByRoom.isEmpty()) return;
+
+        List<ChatMessageRow> lastTalks = List.copyOf(lastTalkByRoom.values());
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastTalks, lastTalks.size(), (ps, row) -> {
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            ps.setString(1, row.content());
+            ps.setTimestamp(2, createdAt);
+            ps.setTimestamp(3, createdAt);
+            ps.setLong(4, row.roomId());
+            ps.setTimestamp(5, createdAt);
+        });
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     // 특정 채팅방의 메시지를 최신순으로 페이징 조회
@@ -30,6 +32,17 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 """)
     long countTotalUnreadMessages(Long userId, MessageType type);
 
+    // 내가 읽지 않은 메시지를 방별로 집계, TALK 타입만 (Redis 카운터 초기화/보정용)
+    @Query("""
+        select cm.chatRoom.id as roomId, count(cm) as unreadCount from ChatMessage cm
+        where (cm.chatRoom.buyer.id = :userId or cm.chatRoom.listing.user.id = :userId)
+        and cm.sender.id != :userId
+        and cm.isRead = false
+        and cm.type = :type
+        group by cm.chatRoom.id
+""")
+    List<UnreadCountByRoom> countUnreadMessagesGroupByRoom(Long userId, MessageType type);
+
     // 특정 채팅방에 입장했을 때 받은 메시지들 읽음 처리
     @Modifying(clearAutomatically = true)
     @Query("""
@@ -0,0 +1,17 @@
+package org.example.homedatazip.chat.repository;
+
+import org.example.homedatazip.chat.entity.MessageType;
+
+import java.time.LocalDateTime;
+
+// write-behind 로 쌓아두었다가 한 번에 INSERT 할 chat_messages 한 줄 (id 는 서버에서 미리 발급)
+public record ChatMessageRow(
+        Long id,
+        Long roomId,
+        Long senderId,
+        String content,
+        MessageType type,
+        boolean isRead,
+        LocalDateTime createdAt
+) {
+}
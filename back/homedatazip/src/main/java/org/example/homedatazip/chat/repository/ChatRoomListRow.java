@@ -0,0 +1,12 @@
+package org.example.homedatazip.chat.repository;
+
+import java.time.LocalDateTime;
+
+// 채팅방 목록 한 줄 (엔티티 대신 필요한 컬럼만 projection)
+public record ChatRoomListRow(
+        Long roomId,
+        String aptName,
+        String lastMessage,
+        LocalDateTime lastMessageTime
+) {
+}
@@ -0,0 +1,69 @@
+package org.example.homedatazip.chat.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.example.homedatazip.apartment.entity.QApartment.apartment;
+import static org.example.homedatazip.chat.entity.QChatRoom.chatRoom;
+import static org.example.homedatazip.listing.entity.QListing.listing;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 나간 방을 제외하고 내가 있는 방 목록을 한 번의 쿼리로 조회한다.
+     * 최근 메시지 시간 desc, id desc 순서이며 (cursorTime, cursorId) 다음부터 size 개를 가져온다. (keyset)
+     * 메시지가 없는 방(lastMessageTime null)은 맨 뒤에 온다.
+     */
+    public List<ChatRoomListRow> findRoomList(Long userId, LocalDateTime cursorTime, Long cursorId, Integer size) {
+        JPAQuery<ChatRoomListRow> query = queryFactory
+                .select(Projections.constructor(
+                        ChatRoomListRow.class,
+                        chatRoom.id,
+                        apartment.aptName,
+                        chatRoom.lastMessage,
+                        chatRoom.lastMessageTime
+                ))
+                .from(chatRoom)
+                .join(chatRoom.listing, listing)
+                .join(listing.apartment, apartment)
+                .where(
+                        participant(userId),
+                        afterCursor(cursorTime, cursorId)
+                )
+                .orderBy(chatRoom.lastMessageTime.desc().nullsLast(), chatRoom.id.desc());
+
+        if (size != null && size > 0) {
+            query.limit(size);
+        }
+
+        return query.fetch();
+    }
+
+    private BooleanExpression participant(Long userId) {
+        return chatRoom.buyer.id.eq(userId).and(chatRoom.buyerExited.isFalse())
+                .or(listing.user.id.eq(userId).and(chatRoom.sellerExited.isFalse()));
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorTime, Long cursorId) {
+        if (cursorId == null) return null;
+
+        // 커서가 메시지 없는 방 구간에 있으면 그 구간 안에서 id 만 비교
+        if (cursorTime == null) {
+            return chatRoom.lastMessageTime.isNull().and(chatRoom.id.lt(cursorId));
+        }
+        return chatRoom.lastMessageTime.lt(cursorTime)
+                .or(chatRoom.lastMessageTime.eq(cursorTime).and(chatRoom.id.lt(cursorId)))
+                .or(chatRoom.lastMessageTime.isNull());
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.homedatazip.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 채팅 안읽은 메시지 카운터
+ * chat:unread:{userId} 해시 = { roomId: 방별 개수, total: 전체 개수, version: 변경 횟수, updated_at: 마지막 변경(ms) }
+ * 키가 없으면 "모름" 으로 보고 호출부에서 DB 로 초기화한다. (증가 스크립트는 키가 없으면 아무것도 안 함)
+ * 해시 통째로 바꾸기는 Lua 로 한 번에 한다. 보정은 읽어둔 version 이 그대로일 때만 덮어쓴다 (그 사이 증가분 보존)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatUnreadRedisRepository {
+
+    private final StringRedisTemplate redis;
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final String TOTAL = "total";
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updated_at";
+
+    // 키가 있을 때만 방/전체를 같이 증가, 반환: 증가 후 전체 (키 없으면 -1)
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            redis.call('HINCRBY', KEYS[1], 'version', 1)
+            redis.call('HSET', KEYS[1], 'updated_at', ARGV[2])
+            return redis.call('HINCRBY', KEYS[1], 'total', 1)
+            """, Long.class);
+
+    // 방 개수를 0 으로 만들고 그만큼 전체에서 뺀다, 반환: 변경 후 전체 (키 없으면 -1)
+    private static final DefaultRedisScript<Long> RESET_ROOM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local n = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'version', 1)
+            redis.call('HSET', KEYS[1], 'updated_at', ARGV[2])
+            local t = redis.call('HINCRBY', KEYS[1], 'total', -n)
+            if t < 0 then
+                redis.call('HSET', KEYS[1], 'total', 0)
+                t = 0
+            end
+            return t
+            """, Long.class);
+
+    // 키가 없을 때만 채운다 (동시에 먼저 만든 쪽을 덮어쓰지 않음), ARGV = field, value, ...
+    private static final DefaultRedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], unpack(ARGV))
+            return 1
+            """, Long.class);
+
+    // version 이 ARGV[1] 그대로일 때만 통째로 바꾼다 (version/updated_at 은 유지), ARGV[2..] = field, value, ...
+    private static final DefaultRedisScript<Long> REPLACE_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            local v = redis.call('HGET', KEYS[1], 'version') or '0'
+            if v ~= ARGV[1] then return 0 end
+            local at = redis.call('HGET', KEYS[1], 'updated_at')
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'version', v, unpack(ARGV, 2))
+            if at then redis.call('HSET', KEYS[1], 'updated_at', at) end
+            return 1
+            """, Long.class);
+
+    /** 보정 전 읽어두는 값 */
+    public record Stamp(long version, long updatedAt, long total) {}
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    public long increment(Long userId, Long roomId) {
+        Long total = redis.execute(INCREMENT_SCRIPT, List.of(key(userId)),
+                String.valueOf(roomId), String.valueOf(System.currentTimeMillis()));
+        return total == null ? -1 : total;
+    }
+
+    public long resetRoom(Long userId, Long roomId) {
+        Long total = redis.execute(RESET_ROOM_SCRIPT, List.of(key(userId)),
+                String.valueOf(roomId), String.valueOf(System.currentTimeMillis()));
+        return total == null ? -1 : total;
+    }
+
+    /** 전체 개수, 키가 없으면 -1 */
+    public long findTotal(Long userId) {
+        Object total = redis.opsForHash().get(key(userId), TOTAL);
+        if (total != null) {
+            return Long.parseLong(total.toString());
+        }
+        return Boolean.TRUE.equals(redis.hasKey(key(userId))) ? 0 : -1;
+    }
+
+    /** 방별 개수, 키가 없으면 null */
+    public Map<Long, Long> findRoomCounts(Long userId) {
+        Map<Object, Object> entries = redis.opsForHash().entries(key(userId));
+        if (entries.isEmpty()) {
+            return null;
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!TOTAL.equals(field) && !VERSION.equals(field) && !UPDATED_AT.equals(field)) {
+                counts.put(Long.parseLong(field.toString()), Long.parseLong(value.toString()));
+            }
+        });
+        return counts;
+    }
+
+    /** version/마지막 변경 시각/전체 개수, 키가 없으면 null */
+    public Stamp findStamp(Long userId) {
+        List<Object> values = redis.opsForHash().multiGet(key(userId), List.of(VERSION, UPDATED_AT, TOTAL));
+        if (values.stream().allMatch(Objects::isNull)) {
+            return null;
+        }
+        return new Stamp(parseOrZero(values.get(0)), parseOrZero(values.get(1)), parseOrZero(values.get(2)));
+    }
+
+    /** 키가 없을 때만 DB 에서 센 값으로 채운다 */
+    public void createIfAbsent(Long userId, Map<Long, Long> roomCounts) {
+        List<String> args = toArgs(roomCounts);
+        args.add(VERSION);
+        args.add("0");
+        args.add(UPDATED_AT);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        redis.execute(CREATE_SCRIPT, List.of(key(userId)), args.toArray());
+    }
+
+    /** findStamp 이후 변경이 없었을 때만 DB 에서 센 값으로 통째로 바꾼다, 반환: 바꿨는지 */
+    public boolean replaceIfUnchanged(Long userId, long version, Map<Long, Long> roomCounts) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(version));
+        args.addAll(toArgs(roomCounts));
+        Long replaced = redis.execute(REPLACE_IF_VERSION_SCRIPT, List.of(key(userId)), args.toArray());
+        return replaced != null && replaced == 1L;
+    }
+
+    // field, value, ... (0 인 방은 뺀다)
+    private static List<String> toArgs(Map<Long, Long> roomCounts) {
+        List<String> args = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<Long, Long> e : roomCounts.entrySet()) {
+            if (e.getValue() > 0) {
+                args.add(String.valueOf(e.getKey()));
+                args.add(String.valueOf(e.getValue()));
+                total += e.getValue();
+            }
+        }
+        args.add(TOTAL);
+        args.add(String.valueOf(total));
+        return args;
+    }
+
+    private static long parseOrZero(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    /** 카운터가 있는 사용자 id 목록 (보정 대상) */
+    public List<Long> findUserIds() {
+        List<Long> userIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redis.scan(options)) {
+            cursor.forEachRemaining(k -> userIds.add(Long.parseLong(k.substring(KEY_PREFIX.length()))));
+        }
+        return userIds;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.homedatazip.chat.repository;
+
+// 방별 안읽은 메시지 개수 (Redis 카운터 초기화/보정용)
+public interface UnreadCountByRoom {
+    Long getRoomId();
+    Long getUnreadCount();
+}
@@ -0,0 +1,262 @@
+package org.example.homedatazip.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.chat.entity.MessageType;
+import org.example.homedatazip.chat.repository.ChatMessageBulkRepository;
+import org.example.homedatazip.chat.repository.ChatMessageRow;
+import org.example.homedatazip.global.exception.BusinessException;
+import org.example.homedatazip.global.exception.domain.ChatErrorCode;
+import org.example.homedatazip.notification.service.SseEmitterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 채팅 메시지 write-behind 버퍼 (chat.write-behind.enabled=true 일 때 사용)
+ * - 전송 시점에 id(시간순 증가)를 발급하고 큐에 넣기만 한다. 브로드캐스트는 호출한 쪽에서 바로 한다.
+ * - 전용 스레드가 몇 ms 마다 큐를 FIFO 로 꺼내 JDBC batch 로 저장하고, 방별 마지막 메시지는 한 번만 UPDATE
+ * - 저장이 실패하면 같은 묶음을 앞에서부터 다시 시도하고 뒤의 메시지는 먼저 저장하지 않는다.
+ *   그래서 장애/재시작 후에도 DB 에는 방마다 보낸 순서의 앞부분만 남고 중간이 비거나 순서가 뒤바뀌지 않는다.
+ * - 큐가 가득 차면 flush 스레드에 저장을 맡기고 보낸 쪽은 자리가 날 때까지 기다린다 (메모리 상한, 보낸 쪽에서 직접 저장하지 않음)
+ * - flush 는 호출한 쪽 트랜잭션과 상관없이 항상 별도 트랜잭션(REQUIRES_NEW)으로 저장하고, 커밋된 뒤에만 묶음을 비운다
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBuffer {
+
+    // id = (2025-01-01 이후 ms) << 22 | 노드 << 12 | 순번, 기존 IDENTITY id 보다 항상 크다
+    private static final long ID_EPOCH_MILLIS = 1735657200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final ChatMessageBulkRepository chatMessageBulkRepository;
+    private final SseEmitterService sseEmitterService;
+    private final TransactionTemplate writeTransaction;
+
+    private final boolean enabled;
+    private final long nodeId;
+    private final long flushIntervalMs;
+    private final long fullWaitMs;
+    private final int batchSize;
+    private final BlockingQueue<Pending> queue;
+
+    // 저장에 실패해 다시 시도할 묶음 (비어 있어야 큐에서 새로 꺼낸다)
+    private final List<Pending> retrying = new ArrayList<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    private ScheduledExecutorService flusher;
+
+    public ChatMessageWriteBuffer(
+            ChatMessageBulkRepository chatMessageBulkRepository,
+            SseEmitterService sseEmitterService,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.write-behind.enabled:false}") boolean enabled,
+            @Value("${chat.write-behind.node-id:0}") long nodeId,
+            @Value("${chat.write-behind.flush-interval-ms:20}") long flushIntervalMs,
+            @Value("${chat.write-behind.batch-size:500}") int batchSize,
+            @Value("${chat.write-behind.capacity:10000}") int capacity,
+            @Value("${chat.write-behind.full-wait-ms:3000}") long fullWaitMs
+    ) {
+        this.chatMessageBulkRepository = chatMessageBulkRepository;
+        this.sseEmitterService = sseEmitterService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.nodeId = nodeId & ((1L << NODE_BITS) - 1);
+        this.flushIntervalMs = flushIntervalMs;
+        this.fullWaitMs = fullWaitMs;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    private record Pending(ChatMessageRow row, Long opponentId) {
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "chat-write-behind");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("[ChatWriteBehind] 시작 - nodeId={}, interval={}ms, batch={}", nodeId, flushIntervalMs, batchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * id/시간을 발급해 큐에 넣는다. 발급과 적재를 한 번에 해서 id 순서 = 큐 순서가 되게 한다.
+     * opponentId 는 저장 후 채팅방 목록 갱신 알림 대상 (TALK 만)
+     */
+    public ChatMessageRow append(Long roomId, Long senderId, Long opponentId,
+                                 String content, MessageType type, boolean isRead) {
+        synchronized (this) {
+            ChatMessageRow row = new ChatMessageRow(
+                    nextId(), roomId, senderId, content, type, isRead, LocalDateTime.now());
+            Pending pending = new Pending(row, opponentId);
+            if (queue.offer(pending)) {
+                return row;
+            }
+
+            // 가득 찼으면 저장은 flush 스레드에 맡기고 자리가 날 때까지 기다린다
+            // (보낸 쪽 트랜잭션 안에서 커넥션을 하나 더 잡지 않도록, 기다리는 동안 다른 전송도 막혀 id 순서 = 큐 순서 유지)
+            log.warn("[ChatWriteBehind] 큐가 가득 차 flush 대기 - size={}", queue.size());
+            flusher.execute(this::flushQuietly);
+            try {
+                if (queue.offer(pending, fullWaitMs, TimeUnit.MILLISECONDS)) {
+                    return row;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("[ChatWriteBehind] {}ms 동안 자리가 나지 않아 전송 실패 - roomId={}", fullWaitMs, roomId);
+            throw new BusinessException(ChatErrorCode.CHAT_MESSAGE_BUFFER_FULL);
+        }
+    }
+
+    /** 지금까지 쌓인 메시지를 모두 저장 (방 입장 시 트랜잭션 시작 전, 종료 시) */
+    public void flush() {
+        if (!enabled) return;
+        flushLock.lock();
+        try {
+            while (flushOnce()) {
+                // 남은 게 없을 때까지
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * flush 를 멈춘 채로 action 실행 (안읽은 개수 보정용)
+     * 그 동안 저장되는 메시지가 없으므로 DB 집계 + countPendingUnread 가 중복/누락 없이 맞는다.
+     */
+    public <T> T whileFlushPaused(Supplier<T> action) {
+        flushLock.lock();
+        try {
+            return action.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 아직 저장 안 된 userId 의 안읽은 TALK 방별 개수 (whileFlushPaused 안에서 호출)
+     * createdBefore 이후에 들어온 메시지는 뺀다 (카운터 증가가 아직 안 됐을 수 있어 보정 후 증가분과 겹침)
+     */
+    public Map<Long, Long> countPendingUnread(Long userId, LocalDateTime createdBefore) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (!enabled) return counts;
+
+        List<Pending> pending = new ArrayList<>(retrying);
+        pending.addAll(queue);
+        for (Pending p : pending) {
+            ChatMessageRow row = p.row();
+            if (row.type() == MessageType.TALK && !row.isRead() && userId.equals(p.opponentId())
+                    && !row.createdAt().isAfter(createdBefore)) {
+                counts.merge(row.roomId(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 다음 주기에 같은 묶음부터 다시 시도
+            log.warn("[ChatWriteBehind] 저장 실패, 재시도 대기 - pending={}", retrying.size() + queue.size(), e);
+        }
+    }
+
+    // 한 묶음 저장, 반환: 더 저장할 게 있는지
+    private boolean flushOnce() {
+        if (retrying.isEmpty()) {
+            queue.drainTo(retrying, batchSize);
+        }
+        if (retrying.isEmpty()) {
+            return false;
+        }
+
+        List<ChatMessageRow> rows = new ArrayList<>(retrying.size());
+        Set<Long> roomListTargets = new LinkedHashSet<>();
+        for (Pending p : retrying) {
+            rows.add(p.row());
+            if (p.row().type() == MessageType.TALK) {
+                roomListTargets.add(p.row().senderId());
+                roomListTargets.add(p.opponentId());
+            }
+        }
+
+        // 호출한 쪽(ChatService) 트랜잭션에 합류하면 그 트랜잭션이 롤백될 때 이미 꺼낸 묶음이 사라지므로 따로 커밋
+        writeTransaction.executeWithoutResult(status -> chatMessageBulkRepository.insertAll(rows));
+        retrying.clear();
+
+        // 저장된 뒤에 목록 갱신을 알려야 클라이언트가 다시 조회했을 때 마지막 메시지가 보인다 (사용자별 1번)
+        for (Long userId : roomListTargets) {
+            sseEmitterService.sendRoomListUpdate(userId);
+        }
+        return !queue.isEmpty();
+    }
+
+    // 호출부가 synchronized(this)
+    private long nextId() {
+        long now = Math.max(System.currentTimeMillis(), lastMillis); // 시계가 뒤로 가도 감소하지 않게
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = lastMillis + 1; // 같은 ms 에 4096 개를 넘으면 다음 ms 로 당겨 쓴다
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - ID_EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flusher == null) return;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전에 남은 메시지 저장
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[ChatWriteBehind] 종료 시 저장 실패 - 유실 {}건", retrying.size() + queue.size(), e);
+        }
+    }
+}
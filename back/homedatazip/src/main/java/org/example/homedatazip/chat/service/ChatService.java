@@ -7,6 +7,9 @@ import org.example.homedatazip.chat.entity.ChatMessage;
 import org.example.homedatazip.chat.entity.ChatRoom;
 import org.example.homedatazip.chat.entity.MessageType;
 import org.example.homedatazip.chat.repository.ChatMessageRepository;
+import org.example.homedatazip.chat.repository.ChatMessageRow;
+import org.example.homedatazip.chat.repository.ChatRoomListRow;
+import org.example.homedatazip.chat.repository.ChatRoomQueryRepository;
 import org.example.homedatazip.chat.repository.ChatRoomRepository;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.ChatErrorCode;
@@ -21,9 +24,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -39,29 +46,32 @@ public class ChatService {
     private final ChatSessionManager chatSessionManager;
     private final SseEmitterService sseEmitterService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final ChatRoomQueryRepository chatRoomQueryRepository;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final TransactionTemplate transactionTemplate;
 
-    // 채팅방 리스트 조회
+    // 채팅방 리스트 조회 - 방 수와 관계없이 projection 쿼리 1번 + 안읽은 개수 Redis 조회 1번
+    // cursorTime/cursorId 는 이전 페이지 마지막 방의 lastMessageTime/roomId (keyset)
     @Transactional(readOnly = true)
-    public List<ChatRoomListResponse> getRooms(Long userId) {
-        List<ChatRoom> rooms = chatRoomRepository.findAllByUserId(userId);
+    public List<ChatRoomListResponse> getRooms(Long userId, LocalDateTime cursorTime, Long cursorId, Integer size) {
+        List<ChatRoomListRow> rooms = chatRoomQueryRepository.findRoomList(userId, cursorTime, cursorId, size);
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
+
+        // 방별 안읽은 개수는 Redis 카운터에서 한 번에 조회
+        Map<Long, Long> unreadCounts = chatUnreadCountService.getRoomCounts(userId);
 
         return rooms.stream()
-                .map(room -> {
-                    // 특정 방에서 내가 읽지 않은 메시지 개수
-                    long unReadCount =
-                            chatMessageRepository.countByChatRoomAndIsReadFalseAndSenderIdNotAndType(
-                                    room,
-                                    userId,
-                                    MessageType.TALK);
-
-                    return ChatRoomListResponse.create(
-                            room.getId(),
-                            room.getListing().getApartment().getAptName(),
-                            room.getLastMessage(),
-                            room.getLastMessageTime(),
-                            unReadCount
-                    );
-                })
+                .map(room -> ChatRoomListResponse.create(
+                        room.roomId(),
+                        room.aptName(),
+                        room.lastMessage(),
+                        room.lastMessageTime(),
+                        // 특정 방에서 내가 읽지 않은 메시지 개수
+                        unreadCounts.getOrDefault(room.roomId(), 0L)
+                ))
                 .toList();
     }
 
@@ -100,8 +110,18 @@ public class ChatService {
                 });
     }
 
-    // 방 상세 정보 + 메시지 내역 조회
+    /**
+     * 방 상세 정보 + 메시지 내역 조회
+     * write-behind 로 아직 저장 안 된 메시지를 트랜잭션을 열기 전에 먼저 저장한다.
+     * 트랜잭션 안에서 저장하면 내역 조회는 그 전 스냅샷을 읽어 방금 저장한 메시지가 빠지고, 읽음 처리(UPDATE)만 적용된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatRoomDetailResponse getRoomDetail(Long roomId, Long userId, Pageable pageable) {
+        chatMessageWriteBuffer.flush();
+        return transactionTemplate.execute(status -> loadRoomDetail(roomId, userId, pageable));
+    }
+
+    private ChatRoomDetailResponse loadRoomDetail(Long roomId, Long userId, Pageable pageable) {
         log.info("방 정보 + 메시지 내역 조회 - roomId={}, userId={}", roomId, userId);
         ChatRoom chatRoom = chatRoomRepository.findByIdWithUsers(roomId)
                 .orElseThrow(() -> {
@@ -113,7 +133,7 @@ public class ChatService {
         chatMessageRepository.markAsReadByRoomIdAndReceiverId(roomId, userId);
 
         // sse로 안읽은 메시지 개수 갱신해서 다시 보내주기
-        long totalUnread = chatMessageRepository.countTotalUnreadMessages(userId, MessageType.TALK);
+        long totalUnread = chatUnreadCountService.resetRoom(userId, roomId);
         sseEmitterService.sendUnreadCount(userId, totalUnread);
 
         // 상대방 찾기 - 내가 구매자면 판매자로, 판매자면 구매자로
@@ -173,15 +193,21 @@ public class ChatService {
             return;
         }
 
+        if (chatMessageWriteBuffer.isEnabled()) {
+            sendWriteBehind(request, sender, opponent, chatRoom.getId(), content, isRead);
+            return;
+        }
+
         ChatMessage chatMessage = ChatMessage.create(chatRoom, sender, content, request.type(), isRead);
         ChatMessage save = chatMessageRepository.save(chatMessage);
 
         if (request.type() == MessageType.TALK) {
             chatRoom.updateLastMessage(save.getContent(), save.getCreatedAt());
 
-            long totalUnread = chatMessageRepository.countTotalUnreadMessages(
-                    opponent.getId(),
-                    MessageType.TALK);
+            // 상대방이 방을 보고 있으면 읽음 처리된 메시지라 카운터는 그대로
+            long totalUnread = isRead
+                    ? chatUnreadCountService.getTotal(opponent.getId())
+                    : chatUnreadCountService.increment(opponent.getId(), chatRoom.getId());
 
             // 이벤트 발행 : 이 메서드가 커밋되면 리스너의 메서드가 호출된다.
             applicationEventPublisher.publishEvent(ChatMessageEvent.create(
@@ -197,6 +223,22 @@ public class ChatService {
 
     }
 
+    // write-behind 전송 - 저장/마지막 메시지 갱신/목록 갱신 알림은 버퍼가 모아서 처리, 여기서는 바로 브로드캐스트
+    private void sendWriteBehind(ChatMessageRequest request, User sender, User opponent,
+                                 Long roomId, String content, boolean isRead) {
+        ChatMessageRow row = chatMessageWriteBuffer.append(
+                roomId, sender.getId(), opponent.getId(), content, request.type(), isRead);
+
+        if (request.type() == MessageType.TALK && !isRead) {
+            long totalUnread = chatUnreadCountService.increment(opponent.getId(), roomId);
+            sseEmitterService.sendUnreadCount(opponent.getId(), totalUnread);
+        }
+
+        messagingTemplate.convertAndSend("/sub/chat/room/" + request.roomId(), ChatMessageResponse.create(row, sender));
+
+        log.info("메시지 전송 완료(write-behind) - roomId={}, messageId={}", request.roomId(), row.id());
+    }
+
     // 채팅방 나가기 - 유저 탈퇴나 삭제 시에도 해당
     public void exitChatRoom(Long roomId, Long userId) {
         ChatRoom chatRoom = chatRoomRepository.findByIdWithUsers(roomId)
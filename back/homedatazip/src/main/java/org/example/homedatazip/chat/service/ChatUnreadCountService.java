@@ -0,0 +1,171 @@
+package org.example.homedatazip.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.chat.entity.MessageType;
+import org.example.homedatazip.chat.repository.ChatMessageRepository;
+import org.example.homedatazip.chat.repository.ChatUnreadRedisRepository;
+import org.example.homedatazip.chat.repository.UnreadCountByRoom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 채팅 안읽은 메시지 개수 (Redis 카운터)
+ * - TALK 전송 시 상대방 카운터 증가, 방 입장(읽음 처리) 시 해당 방 0
+ * - 카운터가 없으면(최초/만료/Redis 초기화) DB 에서 방별로 한 번 세서 채운다
+ * - Redis 장애 시에는 기존처럼 DB COUNT 로 응답
+ * - 주기적으로 DB 와 보정 (롤백된 트랜잭션 등으로 어긋난 값 정리)
+ *   최근 quiet-ms 안에 바뀐 카운터는 건너뛰고(커밋 전 증가분), 세는 동안 바뀐 카운터는 덮어쓰지 않는다.
+ *   write-behind 버퍼에 남은(아직 DB 에 없는) 메시지도 더해서 센다.
+ * - DB 집계는 호출한 쪽 트랜잭션과 상관없이 짧은 별도 트랜잭션에서 한다.
+ *   바깥 트랜잭션의 스냅샷(REPEATABLE READ)으로 세면 그 뒤에 write-behind 가 커밋한 메시지가 빠진다.
+ */
+@Slf4j
+@Service
+public class ChatUnreadCountService {
+
+    private final ChatUnreadRedisRepository chatUnreadRedisRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final TransactionTemplate countTransaction;
+    private final long reconcileQuietMs;
+
+    public ChatUnreadCountService(ChatUnreadRedisRepository chatUnreadRedisRepository,
+                                  ChatMessageRepository chatMessageRepository,
+                                  ChatMessageWriteBuffer chatMessageWriteBuffer,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${chat.unread.reconcile-quiet-ms:30000}") long reconcileQuietMs) {
+        this.chatUnreadRedisRepository = chatUnreadRedisRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageWriteBuffer = chatMessageWriteBuffer;
+        this.countTransaction = new TransactionTemplate(transactionManager);
+        this.countTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.countTransaction.setReadOnly(true);
+        this.reconcileQuietMs = reconcileQuietMs;
+    }
+
+    /** 상대방에게 안읽은 TALK 1건 추가, 반환: 상대방 전체 안읽은 개수 */
+    public long increment(Long userId, Long roomId) {
+        try {
+            long total = chatUnreadRedisRepository.increment(userId, roomId);
+            if (total >= 0) {
+                return total;
+            }
+            // 카운터가 없으면 DB 기준으로 초기화
+            // write-behind 면 방금 보낸 메시지는 버퍼에 있어 이미 포함, 아니면 아직 커밋 전이라 빠져 있으므로 한 번 더 증가
+            Map<Long, Long> counts = load(userId);
+            if (chatMessageWriteBuffer.isEnabled()) {
+                return sum(counts);
+            }
+            long retried = chatUnreadRedisRepository.increment(userId, roomId);
+            return retried >= 0 ? retried : sum(counts) + 1;
+        } catch (DataAccessException e) {
+            log.warn("안읽은 카운터(Redis) 증가 실패, DB COUNT 로 대체: userId={}", userId, e);
+            return countFromDb(userId);
+        }
+    }
+
+    /** 방의 안읽은 개수를 0 으로, 반환: 전체 안읽은 개수 */
+    public long resetRoom(Long userId, Long roomId) {
+        try {
+            long total = chatUnreadRedisRepository.resetRoom(userId, roomId);
+            if (total >= 0) {
+                return total;
+            }
+            // 읽음 처리가 아직 커밋 전이라 별도 트랜잭션 집계에는 이 방이 남아 있으므로 채운 뒤 다시 0 으로
+            Map<Long, Long> counts = load(userId);
+            counts.remove(roomId);
+            long retried = chatUnreadRedisRepository.resetRoom(userId, roomId);
+            return retried >= 0 ? retried : sum(counts);
+        } catch (DataAccessException e) {
+            log.warn("안읽은 카운터(Redis) 초기화 실패, DB COUNT 로 대체: userId={}", userId, e);
+            return countFromDb(userId);
+        }
+    }
+
+    public long getTotal(Long userId) {
+        try {
+            long total = chatUnreadRedisRepository.findTotal(userId);
+            return total >= 0 ? total : sum(load(userId));
+        } catch (DataAccessException e) {
+            log.warn("안읽은 카운터(Redis) 조회 실패, DB COUNT 로 대체: userId={}", userId, e);
+            return countFromDb(userId);
+        }
+    }
+
+    /** 방별 안읽은 개수 (없는 방은 0) */
+    public Map<Long, Long> getRoomCounts(Long userId) {
+        try {
+            Map<Long, Long> counts = chatUnreadRedisRepository.findRoomCounts(userId);
+            return counts != null ? counts : load(userId);
+        } catch (DataAccessException e) {
+            log.warn("안읽은 카운터(Redis) 조회 실패, DB 집계로 대체: userId={}", userId, e);
+            return countByRoomFromDb(userId);
+        }
+    }
+
+    // 10분마다 카운터가 있는 사용자만 DB 기준으로 다시 맞춘다
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void reconcile() {
+        try {
+            int fixed = 0;
+            for (Long userId : chatUnreadRedisRepository.findUserIds()) {
+                ChatUnreadRedisRepository.Stamp stamp = chatUnreadRedisRepository.findStamp(userId);
+                if (stamp == null || System.currentTimeMillis() - stamp.updatedAt() < reconcileQuietMs) {
+                    continue;
+                }
+                Map<Long, Long> counts = countWithPending(userId);
+                if (chatUnreadRedisRepository.replaceIfUnchanged(userId, stamp.version(), counts)
+                        && stamp.total() != sum(counts)) {
+                    fixed++;
+                }
+            }
+            if (fixed > 0) {
+                log.info("[ChatUnread] 카운터 보정 - 불일치 사용자 {}명", fixed);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[ChatUnread] 카운터 보정 실패", e);
+        }
+    }
+
+    // 카운터가 없을 때만 채운다 (동시에 먼저 채운 쪽 유지)
+    private Map<Long, Long> load(Long userId) {
+        Map<Long, Long> counts = countWithPending(userId);
+        chatUnreadRedisRepository.createIfAbsent(userId, counts);
+        return counts;
+    }
+
+    // DB 집계(별도 트랜잭션) + 아직 저장 안 된 메시지 (세는 동안 flush 를 멈춰 중복/누락 방지)
+    private Map<Long, Long> countWithPending(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return chatMessageWriteBuffer.whileFlushPaused(() -> {
+            Map<Long, Long> counts = countTransaction.execute(status -> countByRoomFromDb(userId));
+            chatMessageWriteBuffer.countPendingUnread(userId, now).forEach((roomId, n) -> counts.merge(roomId, n, Long::sum));
+            return counts;
+        });
+    }
+
+    private Map<Long, Long> countByRoomFromDb(Long userId) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (UnreadCountByRoom row : chatMessageRepository.countUnreadMessagesGroupByRoom(userId, MessageType.TALK)) {
+            counts.put(row.getRoomId(), row.getUnreadCount());
+        }
+        return counts;
+    }
+
+    private long countFromDb(Long userId) {
+        return chatMessageRepository.countTotalUnreadMessages(userId, MessageType.TALK);
+    }
+
+    private static long sum(Map<Long, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
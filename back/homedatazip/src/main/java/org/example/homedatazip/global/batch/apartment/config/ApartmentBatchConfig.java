@@ -8,6 +8,9 @@ import org.example.homedatazip.global.batch.apartment.processor.ApartmentSaleIte
 import org.example.homedatazip.global.batch.apartment.reader.ApartmentSaleApiReader;
 import org.example.homedatazip.global.exception.BatchRetryException;
 import org.example.homedatazip.global.exception.BatchSkipException;
+import org.example.homedatazip.global.geocode.cache.GeocodeCacheStepListener;
+import org.example.homedatazip.markerCluster.listener.MarkerClusterTileJobListener;
+import org.example.homedatazip.recommend.listener.RecommendationJobListener;
 import org.example.homedatazip.tradeSale.dto.ApartmentTradeSaleItem;
 import org.example.homedatazip.tradeSale.service.ApartmentTradeSaleService;
 import org.springframework.batch.core.Job;
@@ -40,6 +43,9 @@ public class ApartmentBatchConfig {
     private final ApartmentSaleItemProcessor apartmentSaleItemProcessor;
     private final ApartmentTradeSaleService apartmentTradeSaleService;
     private final FixedBackOffPolicy fixedBackOffPolicy;
+    private final GeocodeCacheStepListener geocodeCacheStepListener;
+    private final MarkerClusterTileJobListener markerClusterTileJobListener;
+    private final RecommendationJobListener recommendationJobListener;
 
     @Bean
     public TaskExecutor batchTaskExecutor() {
@@ -56,6 +62,8 @@ public class ApartmentBatchConfig {
         return new JobBuilder("apartmentTradeJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .start(apartmentTradeManagerStep())
+                .listener(markerClusterTileJobListener) // 지도 클러스터 타일 증분 갱신
+                .listener(recommendationJobListener) // 기본 추천 재계산, 사용자 추천 갱신 표시
                 .build();
     }
 
@@ -83,6 +91,7 @@ public class ApartmentBatchConfig {
                 .retry(org.springframework.dao.CannotAcquireLockException.class)
                 .retryLimit(10) // 3번까지 다시 시도
                 .backOffPolicy(fixedBackOffPolicy) // BackOff 설정 : 재시도 사이의 대기시간
+                .listener(geocodeCacheStepListener) // 지오코딩 캐시 hit/miss 기록
                 .build();
     }
 
@@ -4,8 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.entity.ApartmentSchoolDistance;
+import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.apartment.repository.ApartmentSchoolDistanceRepository;
+import org.example.homedatazip.global.batch.apartment.partition.ApartmentIdRangePartitioner;
+import org.example.homedatazip.global.batch.apartment.partition.PartitionTimingListener;
 import org.example.homedatazip.global.batch.apartment.processor.ApartmentSchoolDistanceProcessor;
+import org.example.homedatazip.global.batch.apartment.processor.SchoolGeoIndexHolder;
 import org.example.homedatazip.global.batch.apartment.writer.ApartmentSchoolDistanceWriter;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -16,13 +20,19 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 
-/** 아파트–학교 거리(하버사인 10km 이내) 중간 테이블 적재 Job. 기존 데이터 삭제 후 재적재 */
+/**
+ * 아파트–학교 거리(하버사인 10km 이내) 중간 테이블 적재 Job. 기존 데이터 삭제 후 재적재.
+ * 아파트 id 범위로 파티셔닝해서 gridSize 개 스레드가 병렬 처리 (gridSize=1 이면 단일 스레드와 동일).
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -33,16 +43,21 @@ public class ApartmentSchoolDistanceJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final ApartmentSchoolDistanceRepository apartmentSchoolDistanceRepository;
+    private final ApartmentRepository apartmentRepository;
+    private final SchoolGeoIndexHolder schoolGeoIndexHolder;
     private final JpaPagingItemReader<Apartment> apartmentSchoolDistanceItemReader;
     private final ApartmentSchoolDistanceProcessor apartmentSchoolDistanceProcessor;
     private final ApartmentSchoolDistanceWriter apartmentSchoolDistanceWriter;
 
+    @Value("${apartment.school-distance.grid-size:4}")
+    private int gridSize;
+
     @Bean
     public Job apartmentSchoolDistanceJob() {
         return new JobBuilder("apartmentSchoolDistanceJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .start(apartmentSchoolDistanceDeleteStep())
-                .next(apartmentSchoolDistanceChunkStep())
+                .next(apartmentSchoolDistanceManagerStep())
                 .build();
     }
 
@@ -58,10 +73,33 @@ public class ApartmentSchoolDistanceJobConfig {
             log.info("[아파트-학교 거리] 기존 데이터 삭제 시작 (deleteAllInBatch)");
             apartmentSchoolDistanceRepository.deleteAllInBatch();
             log.info("[아파트-학교 거리] 기존 데이터 삭제 완료");
+            // 파티션들이 공유할 학교 인덱스는 Job 실행마다 새로 만든다
+            schoolGeoIndexHolder.reload();
             return RepeatStatus.FINISHED;
         };
     }
 
+    @Bean
+    public Step apartmentSchoolDistanceManagerStep() {
+        return new StepBuilder("apartmentSchoolDistanceManagerStep", jobRepository)
+                .partitioner("apartmentSchoolDistanceChunkStep", new ApartmentIdRangePartitioner(apartmentRepository))
+                .step(apartmentSchoolDistanceChunkStep())
+                .gridSize(gridSize)
+                .taskExecutor(schoolDistanceTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public TaskExecutor schoolDistanceTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, gridSize));
+        executor.setMaxPoolSize(Math.max(1, gridSize));
+        executor.setThreadNamePrefix("school-dist-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public Step apartmentSchoolDistanceChunkStep() {
         return new StepBuilder("apartmentSchoolDistanceChunkStep", jobRepository)
@@ -69,6 +107,7 @@ public class ApartmentSchoolDistanceJobConfig {
                 .reader(apartmentSchoolDistanceItemReader)
                 .processor(apartmentSchoolDistanceProcessor)
                 .writer(apartmentSchoolDistanceWriter)
+                .listener(new PartitionTimingListener())
                 .build();
     }
 }
\ No newline at end of file
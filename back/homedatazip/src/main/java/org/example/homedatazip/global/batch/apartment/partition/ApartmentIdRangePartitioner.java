@@ -0,0 +1,56 @@
+package org.example.homedatazip.global.batch.apartment.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.apartment.repository.ApartmentRepository;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 위/경도가 있는 아파트를 id 범위로 gridSize 개 파티션으로 나눈다.
+ * 각 파티션 ExecutionContext 에 minId, maxId 를 담는다. (양 끝 포함)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ApartmentIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final ApartmentRepository apartmentRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> result = new HashMap<>();
+
+        Long min = apartmentRepository.findMinIdWithCoordinates();
+        Long max = apartmentRepository.findMaxIdWithCoordinates();
+        if (min == null || max == null) {
+            // 대상이 없어도 빈 파티션 1개로 정상 종료
+            result.put("partition0", range(0L, -1L));
+            return result;
+        }
+
+        int partitions = Math.max(1, gridSize);
+        long span = (max - min) / partitions + 1;
+
+        int number = 0;
+        for (long start = min; start <= max; start += span) {
+            long end = Math.min(max, start + span - 1);
+            result.put("partition" + number++, range(start, end));
+        }
+
+        log.info("[아파트-학교 거리] 파티션 분할 - minId={}, maxId={}, partitions={}", min, max, result.size());
+        return result;
+    }
+
+    private static ExecutionContext range(long minId, long maxId) {
+        ExecutionContext value = new ExecutionContext();
+        value.putLong(MIN_ID, minId);
+        value.putLong(MAX_ID, maxId);
+        return value;
+    }
+}
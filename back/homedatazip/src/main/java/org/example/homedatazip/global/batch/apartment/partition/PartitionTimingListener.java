@@ -0,0 +1,36 @@
+package org.example.homedatazip.global.batch.apartment.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 파티션(worker step) 별 소요 시간과 처리량을 Step ExecutionContext 에 남긴다.
+ * 읽기/쓰기 건수와 시작/종료 시각은 BATCH_STEP_EXECUTION 에 이미 기록된다.
+ */
+@Slf4j
+public class PartitionTimingListener implements StepExecutionListener {
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime start = stepExecution.getStartTime();
+        long elapsedMs = start == null ? 0 : Duration.between(start, LocalDateTime.now()).toMillis();
+        long readCount = stepExecution.getReadCount();
+        double perSecond = elapsedMs == 0 ? 0 : readCount * 1000.0 / elapsedMs;
+
+        ExecutionContext ctx = stepExecution.getExecutionContext();
+        ctx.putLong("elapsedMs", elapsedMs);
+        ctx.putDouble("itemsPerSecond", perSecond);
+
+        log.info("[PARTITION] {} 완료 - minId={}, maxId={}, read={}, write={}, elapsed={}ms, {}/s",
+                stepExecution.getStepName(),
+                ctx.get(ApartmentIdRangePartitioner.MIN_ID), ctx.get(ApartmentIdRangePartitioner.MAX_ID),
+                readCount, stepExecution.getWriteCount(), elapsedMs, String.format("%.1f", perSecond));
+        return null;
+    }
+}
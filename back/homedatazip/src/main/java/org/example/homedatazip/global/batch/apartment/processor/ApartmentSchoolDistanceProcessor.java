@@ -4,9 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.entity.ApartmentSchoolDistance;
-import org.example.homedatazip.global.util.HaversineUtils;
+import org.example.homedatazip.global.geo.GeoGridIndex;
 import org.example.homedatazip.school.entity.School;
-import org.example.homedatazip.school.repository.SchoolRepository;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
@@ -15,8 +14,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * 아파트 1건 × 전체 학교 → 10km 이내 ApartmentSchoolDistance 목록으로 변환.
- * 학교 목록은 Step 실행 시 1회 로드 후 캐시.
+ * 아파트 1건 → 10km 이내 ApartmentSchoolDistance 목록으로 변환.
+ * 학교는 SchoolGeoIndexHolder 의 공유 GeoGridIndex 에서 주변 격자의 학교만 거리 계산. (파티션 간 공유)
  */
 @Slf4j
 @Component
@@ -27,9 +26,8 @@ public class ApartmentSchoolDistanceProcessor implements ItemProcessor<Apartment
     private static final double MAX_RADIUS_KM = 10.0;
     private static final long PROGRESS_LOG_EVERY_APT = 100;
 
-    private final SchoolRepository schoolRepository;
+    private final SchoolGeoIndexHolder schoolGeoIndexHolder;
 
-    private volatile List<School> schoolsCache;
     private long processedCount = 0;
 
     @Override
@@ -40,24 +38,16 @@ public class ApartmentSchoolDistanceProcessor implements ItemProcessor<Apartment
                     processedCount, apartment.getId(), apartment.getAptName());
         }
 
-        List<School> schools = getSchools();
-        if (schools.isEmpty()) {
+        GeoGridIndex<School> schools = schoolGeoIndexHolder.get();
+        if (schools.size() == 0) {
             return List.of();
         }
 
         try {
             List<ApartmentSchoolDistance> result = new ArrayList<>();
-            double aptLat = apartment.getLatitude();
-            double aptLon = apartment.getLongitude();
-
-            for (School school : schools) {
-                double distanceKm = HaversineUtils.distanceKm(
-                        aptLat, aptLon,
-                        school.getLatitude(), school.getLongitude());
-                if (distanceKm <= MAX_RADIUS_KM) {
-                    result.add(ApartmentSchoolDistance.of(apartment, school, distanceKm));
-                }
-            }
+            schools.forEachWithin(apartment.getLatitude(), apartment.getLongitude(), MAX_RADIUS_KM * 1000,
+                    (school, distanceMeters) ->
+                            result.add(ApartmentSchoolDistance.of(apartment, school, distanceMeters / 1000.0)));
             return result;
         } catch (Exception e) {
             log.error("[아파트-학교 거리] 거리 계산 중 예외 발생. aptId={}, aptName={}, lat={}, lon={}, schoolsSize={}",
@@ -66,18 +56,4 @@ public class ApartmentSchoolDistanceProcessor implements ItemProcessor<Apartment
             throw e;
         }
     }
-
-    private List<School> getSchools() {
-        if (schoolsCache == null) {
-            synchronized (this) {
-                if (schoolsCache == null) {
-                    schoolsCache = schoolRepository.findAll().stream()
-                            .filter(s -> s.getLatitude() != null && s.getLongitude() != null)
-                            .toList();
-                    log.info("[아파트-학교 거리] 학교 {}개 로드 완료", schoolsCache.size());
-                }
-            }
-        }
-        return schoolsCache;
-    }
 }
@@ -0,0 +1,36 @@
+package org.example.homedatazip.global.batch.apartment.processor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.global.geo.GeoGridIndex;
+import org.example.homedatazip.school.entity.School;
+import org.example.homedatazip.school.repository.SchoolRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아파트–학교 거리 배치에서 모든 파티션이 같이 쓰는 읽기 전용 학교 공간 인덱스.
+ * Job 시작 시 reload() 로 한 번 만들고, 파티션 스레드들은 get() 으로 공유한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchoolGeoIndexHolder {
+
+    static final double CELL_METERS = 10_000.0;
+
+    private final SchoolRepository schoolRepository;
+
+    private volatile GeoGridIndex<School> index;
+
+    public synchronized GeoGridIndex<School> reload() {
+        index = GeoGridIndex.build(schoolRepository.findAll(),
+                School::getLatitude, School::getLongitude, CELL_METERS);
+        log.info("[아파트-학교 거리] 학교 {}개 로드 완료", index.size());
+        return index;
+    }
+
+    public GeoGridIndex<School> get() {
+        GeoGridIndex<School> current = index;
+        return current != null ? current : reload();
+    }
+}
@@ -6,6 +6,9 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.dto.ApiResponse;
+import org.example.homedatazip.global.ratelimit.ApiEndpoint;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
+import org.example.homedatazip.global.ratelimit.DataGoKrQuota;
 import org.example.homedatazip.tradeSale.dto.ApartmentTradeSaleItem;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
@@ -27,6 +30,7 @@ public class ApartmentSaleApiReader implements ItemReader<ApartmentTradeSaleItem
 
 
     private final WebClient webClient;
+    private final ApiRateLimiter apiRateLimiter;
 
     @Value("${api.data-go-kr.service-key}")
     private String serviceKey;
@@ -45,7 +49,9 @@ public class ApartmentSaleApiReader implements ItemReader<ApartmentTradeSaleItem
     private final XmlMapper xmlMapper = new XmlMapper();
 
 
-    public ApartmentSaleApiReader(WebClient.Builder builder) {
+    public ApartmentSaleApiReader(WebClient.Builder builder, ApiRateLimiter apiRateLimiter) {
+        this.apiRateLimiter = apiRateLimiter;
+
         // 1. 공공데이터 전용 인코딩 방지 설정
         DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory();
         factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.NONE);
@@ -77,7 +83,7 @@ public class ApartmentSaleApiReader implements ItemReader<ApartmentTradeSaleItem
 
         log.info(">>>> [Batch Reader] 호출 URL 생성 중... lawdCd={}, dealYmd={}, key={}", lawdCd, dealYmd, serviceKey);
 
-        String xmlResponse = webClient.get()
+        String xmlResponse = apiRateLimiter.execute(ApiEndpoint.DATA_GO_KR, () -> webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .scheme("https") // 명시적 설정
                         .host("apis.data.go.kr") // 명시적 설정
@@ -91,7 +97,7 @@ public class ApartmentSaleApiReader implements ItemReader<ApartmentTradeSaleItem
                 )
                 .retrieve()
                 .bodyToMono(String.class)
-                .block();
+                .block(), DataGoKrQuota::isExceeded);
 
         log.debug(">>>> [Batch Reader] RAW XML 응답: {}", xmlResponse);
         try {
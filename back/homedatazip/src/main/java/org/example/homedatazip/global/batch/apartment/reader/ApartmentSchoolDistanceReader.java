@@ -5,10 +5,16 @@ import org.example.homedatazip.apartment.entity.Apartment;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-/** 아파트-학교 거리 배치용 Reader. 위/경도가 있는 아파트를 2000건씩 페이징 조회. */
+import java.util.Map;
+
+/**
+ * 아파트-학교 거리 배치용 Reader. 위/경도가 있는 아파트를 500건씩 페이징 조회.
+ * 파티션 실행 시 stepExecutionContext 의 minId~maxId 범위만 읽는다. (없으면 전체)
+ */
 @Configuration
 public class ApartmentSchoolDistanceReader {
 
@@ -16,15 +22,23 @@ public class ApartmentSchoolDistanceReader {
 
     @Bean
     @StepScope
-    public JpaPagingItemReader<Apartment> apartmentSchoolDistanceItemReader(EntityManagerFactory entityManagerFactory) {
+    public JpaPagingItemReader<Apartment> apartmentSchoolDistanceItemReader(
+            EntityManagerFactory entityManagerFactory,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
         return new JpaPagingItemReaderBuilder<Apartment>()
                 .name("apartmentSchoolDistanceReader")
                 .entityManagerFactory(entityManagerFactory)
                 .queryString("""
                         SELECT a FROM Apartment a
                         WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL
+                          AND a.id BETWEEN :minId AND :maxId
                         ORDER BY a.id
                         """)
+                .parameterValues(Map.of(
+                        "minId", minId != null ? minId : 0L,
+                        "maxId", maxId != null ? maxId : Long.MAX_VALUE))
                 .pageSize(PAGE_SIZE)
                 .build();
     }
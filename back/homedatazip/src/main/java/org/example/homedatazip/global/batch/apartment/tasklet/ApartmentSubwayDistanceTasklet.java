@@ -3,10 +3,11 @@ package org.example.homedatazip.global.batch.apartment.tasklet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.entity.Apartment;
-import org.example.homedatazip.apartment.entity.ApartmentSubwayDistance;
+import org.example.homedatazip.apartment.repository.ApartmentDistanceBulkRepository;
+import org.example.homedatazip.apartment.repository.ApartmentDistanceBulkRepository.DistanceRow;
 import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.apartment.repository.ApartmentSubwayDistanceRepository;
-import org.example.homedatazip.global.util.HaversineUtils;
+import org.example.homedatazip.global.geo.GeoGridIndex;
 import org.example.homedatazip.subway.entity.SubwayStation;
 import org.example.homedatazip.subway.repository.SubwayStationRepository;
 import org.springframework.batch.core.StepContribution;
@@ -21,6 +22,9 @@ import java.util.List;
 /**
  * 아파트–지하철역 거리(하버사인) 계산 후 10km 이내만 apartment_subway_distances 에 적재.
  * 기존 데이터는 전부 삭제 후 재적재(Full Refresh).
+ * <br/>
+ * 역은 GeoGridIndex 로 인덱싱해서 아파트 주변 격자의 역만 거리 계산하고,
+ * 결과는 전부 모으지 않고 SAVE_CHUNK_SIZE 마다 JDBC batch 로 바로 저장한다.
  */
 @Slf4j
 @Component
@@ -28,86 +32,86 @@ import java.util.List;
 public class ApartmentSubwayDistanceTasklet implements Tasklet {
 
     private static final double MAX_RADIUS_KM = 10.0;
-    private static final int SAVE_CHUNK_SIZE = 200;
-    private static final int PROGRESS_LOG_EVERY_APT = 100;
+    private static final int SAVE_CHUNK_SIZE = 1000;
+    private static final int PROGRESS_LOG_EVERY_APT = 1000;
 
     private final ApartmentRepository apartmentRepository;
     private final SubwayStationRepository subwayStationRepository;
     private final ApartmentSubwayDistanceRepository apartmentSubwayDistanceRepository;
+    private final ApartmentDistanceBulkRepository apartmentDistanceBulkRepository;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         List<Apartment> apartments = apartmentRepository.findByLatitudeIsNotNullAndLongitudeIsNotNull();
-        List<SubwayStation> stations = subwayStationRepository.findAll().stream()
-                .filter(s -> s.getLatitude() != null && s.getLongitude() != null)
-                .toList();
+        GeoGridIndex<SubwayStation> stationIndex = GeoGridIndex.build(
+                subwayStationRepository.findAll(),
+                SubwayStation::getLatitude, SubwayStation::getLongitude,
+                MAX_RADIUS_KM * 1000);
 
-        if (apartments.isEmpty() || stations.isEmpty()) {
+        if (apartments.isEmpty() || stationIndex.size() == 0) {
             log.warn("아파트 또는 지하철역이 없어 거리 계산을 건너뜁니다. apartments={}, stations={}",
-                    apartments.size(), stations.size());
+                    apartments.size(), stationIndex.size());
             return RepeatStatus.FINISHED;
         }
 
         log.info("아파트–지하철 거리 배치 시작: apartments={}, stations={}, maxRadiusKm={}, saveChunkSize={}",
-                apartments.size(), stations.size(), MAX_RADIUS_KM, SAVE_CHUNK_SIZE);
+                apartments.size(), stationIndex.size(), MAX_RADIUS_KM, SAVE_CHUNK_SIZE);
 
         // 기존 데이터 삭제 (Full Refresh)
         log.info("apartment_subway_distances 기존 데이터 삭제 시작");
         apartmentSubwayDistanceRepository.deleteAllInBatch();
         log.info("apartment_subway_distances 기존 데이터 삭제 완료");
 
-        List<ApartmentSubwayDistance> toInsert = new ArrayList<>();
+        List<DistanceRow> buffer = new ArrayList<>(SAVE_CHUNK_SIZE);
+        long savedTotal = 0;
+
         for (int ai = 0; ai < apartments.size(); ai++) {
             Apartment apt = apartments.get(ai);
             Long aptId = apt.getId();
-            String aptName = apt.getAptName();
-            Double aptLat = apt.getLatitude();
-            Double aptLon = apt.getLongitude();
 
             if (ai % PROGRESS_LOG_EVERY_APT == 0) {
                 log.info("진행률: {}/{} 아파트 처리 중... (현재 aptId={}, aptName={}, 누적Insert={})",
-                        ai, apartments.size(), aptId, aptName, toInsert.size());
+                        ai, apartments.size(), aptId, apt.getAptName(), savedTotal + buffer.size());
             }
 
             try {
-            for (SubwayStation station : stations) {
-                double distanceKm = HaversineUtils.distanceKm(
-                            aptLat, aptLon,
-                        station.getLatitude(), station.getLongitude());
-                if (distanceKm <= MAX_RADIUS_KM) {
-                    toInsert.add(ApartmentSubwayDistance.of(apt, station, distanceKm));
-                }
-            }
+                stationIndex.forEachWithin(apt.getLatitude(), apt.getLongitude(), MAX_RADIUS_KM * 1000,
+                        (station, distanceMeters) ->
+                                buffer.add(new DistanceRow(aptId, station.getId(), distanceMeters / 1000.0)));
             } catch (Exception e) {
                 // 어떤 아파트에서 터졌는지 확실히 남기기
                 log.error("아파트–지하철 거리 계산 중 예외 발생. aptId={}, aptName={}, lat={}, lon={}, stationsSize={}",
-                        aptId, aptName, aptLat, aptLon, stations.size(), e);
+                        aptId, apt.getAptName(), apt.getLatitude(), apt.getLongitude(), stationIndex.size(), e);
                 throw e; // 배치 실패로 처리
             }
-        }
 
-        log.info("저장 시작: totalToInsert={}", toInsert.size());
-        for (int i = 0; i < toInsert.size(); i += SAVE_CHUNK_SIZE) {
-            int end = Math.min(i + SAVE_CHUNK_SIZE, toInsert.size());
-            try {
-            apartmentSubwayDistanceRepository.saveAll(toInsert.subList(i, end));
-                if ((i / SAVE_CHUNK_SIZE) % 10 == 0) {
-                    log.info("저장 진행: {} ~ {} / {}", i, end, toInsert.size());
-                }
-            } catch (Exception e) {
-                // 저장 chunk 단위로 어디에서 터졌는지 남기기
-                ApartmentSubwayDistance first = toInsert.get(i);
-                ApartmentSubwayDistance last = toInsert.get(end - 1);
-                log.error("아파트–지하철 거리 저장 중 예외 발생. chunkStart={}, chunkEnd={}, total={}, first(aptId={}, stationId={}, distKm={}), last(aptId={}, stationId={}, distKm={})",
-                        i, end, toInsert.size(),
-                        first.getApartment().getId(), first.getSubwayStation().getId(), first.getDistanceKm(),
-                        last.getApartment().getId(), last.getSubwayStation().getId(), last.getDistanceKm(),
-                        e);
-                throw e;
+            if (buffer.size() >= SAVE_CHUNK_SIZE) {
+                savedTotal += flush(buffer);
             }
         }
+        savedTotal += flush(buffer);
 
-        log.info("아파트–지하철 거리 적재 완료: {}건 (아파트 {}개, 역 {}개)", toInsert.size(), apartments.size(), stations.size());
+        contribution.incrementWriteCount(savedTotal);
+        log.info("아파트–지하철 거리 적재 완료: {}건 (아파트 {}개, 역 {}개)", savedTotal, apartments.size(), stationIndex.size());
         return RepeatStatus.FINISHED;
     }
+
+    private int flush(List<DistanceRow> buffer) {
+        if (buffer.isEmpty()) return 0;
+        try {
+            int inserted = apartmentDistanceBulkRepository.insertSubwayDistances(buffer);
+            buffer.clear();
+            return inserted;
+        } catch (Exception e) {
+            // 저장 chunk 단위로 어디에서 터졌는지 남기기
+            DistanceRow first = buffer.getFirst();
+            DistanceRow last = buffer.getLast();
+            log.error("아파트–지하철 거리 저장 중 예외 발생. size={}, first(aptId={}, stationId={}, distKm={}), last(aptId={}, stationId={}, distKm={})",
+                    buffer.size(),
+                    first.apartmentId(), first.targetId(), first.distanceKm(),
+                    last.apartmentId(), last.targetId(), last.distanceKm(),
+                    e);
+            throw e;
+        }
+    }
 }
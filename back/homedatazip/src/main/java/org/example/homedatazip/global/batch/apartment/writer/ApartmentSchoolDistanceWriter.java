@@ -3,29 +3,48 @@ package org.example.homedatazip.global.batch.apartment.writer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.entity.ApartmentSchoolDistance;
-import org.example.homedatazip.apartment.repository.ApartmentSchoolDistanceRepository;
+import org.example.homedatazip.apartment.repository.ApartmentDistanceBulkRepository;
+import org.example.homedatazip.apartment.repository.ApartmentDistanceBulkRepository.DistanceRow;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
-import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamWriter;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
-/** Processor 출력(List<List<ApartmentSchoolDistance>>)을 flatten 후 bulk 저장 */
+/**
+ * Processor 출력(List<List<ApartmentSchoolDistance>>)을 flatten 후 JDBC batch 저장.
+ * 파티션마다 인스턴스가 따로 생기도록 StepScope, 저장 건수는 Step ExecutionContext 에 기록.
+ */
 @Slf4j
 @Component
+@StepScope
 @RequiredArgsConstructor
-public class ApartmentSchoolDistanceWriter implements ItemWriter<List<ApartmentSchoolDistance>> {
+public class ApartmentSchoolDistanceWriter implements ItemStreamWriter<List<ApartmentSchoolDistance>> {
 
     private static final int SAVE_BATCH_SIZE = 1000;
     private static final int PROGRESS_LOG_EVERY_BATCH = 10;
+    private static final String SAVED_TOTAL_KEY = "distanceRows";
     private long savedTotal = 0;
 
-    private final ApartmentSchoolDistanceRepository apartmentSchoolDistanceRepository;
+    private final ApartmentDistanceBulkRepository apartmentDistanceBulkRepository;
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        savedTotal = executionContext.getLong(SAVED_TOTAL_KEY, 0L);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(SAVED_TOTAL_KEY, savedTotal);
+    }
 
     @Override
     public void write(Chunk<? extends List<ApartmentSchoolDistance>> chunk) throws Exception {
-        List<ApartmentSchoolDistance> flat = chunk.getItems().stream()
+        List<DistanceRow> flat = chunk.getItems().stream()
                 .flatMap(list -> list.stream())
+                .map(d -> new DistanceRow(d.getApartment().getId(), d.getSchool().getId(), d.getDistanceKm()))
                 .toList();
 
         if (flat.isEmpty()) {
@@ -34,21 +53,21 @@ public class ApartmentSchoolDistanceWriter implements ItemWriter<List<ApartmentS
 
         for (int i = 0; i < flat.size(); i += SAVE_BATCH_SIZE) {
             int end = Math.min(i + SAVE_BATCH_SIZE, flat.size());
-            List<ApartmentSchoolDistance> batch = flat.subList(i, end);
+            List<DistanceRow> batch = flat.subList(i, end);
             try {
-                apartmentSchoolDistanceRepository.saveAll(batch);
+                apartmentDistanceBulkRepository.insertSchoolDistances(batch);
                 savedTotal += batch.size();
                 if ((i / SAVE_BATCH_SIZE) % PROGRESS_LOG_EVERY_BATCH == 0) {
-                    log.info("[아파트-학교 거리] 저장 진행: chunkItems={}, batchRange={}~{}, savedTotal(approx)={}",
+                    log.info("[아파트-학교 거리] 저장 진행: chunkItems={}, batchRange={}~{}, savedTotal={}",
                             flat.size(), i, end, savedTotal);
                 }
             } catch (Exception e) {
-                ApartmentSchoolDistance first = batch.getFirst();
-                ApartmentSchoolDistance last = batch.getLast();
+                DistanceRow first = batch.getFirst();
+                DistanceRow last = batch.getLast();
                 log.error("[아파트-학교 거리] 저장 중 예외 발생. chunkItems={}, batchRange={}~{}, first(aptId={}, schoolId={}, distKm={}), last(aptId={}, schoolId={}, distKm={})",
                         flat.size(), i, end,
-                        first.getApartment().getId(), first.getSchool().getId(), first.getDistanceKm(),
-                        last.getApartment().getId(), last.getSchool().getId(), last.getDistanceKm(),
+                        first.apartmentId(), first.targetId(), first.distanceKm(),
+                        last.apartmentId(), last.targetId(), last.distanceKm(),
                         e);
                 throw e;
             }
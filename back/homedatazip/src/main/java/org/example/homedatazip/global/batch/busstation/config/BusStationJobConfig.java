@@ -6,12 +6,14 @@ import org.example.homedatazip.busstation.entity.BusStation;
 import org.example.homedatazip.global.batch.busstation.reader.BusStationApiReader;
 import org.example.homedatazip.global.batch.busstation.processor.BusStationUpsertProcessor;
 import org.example.homedatazip.global.batch.busstation.tasklet.BusStationGeocodeTasklet;
+import org.example.homedatazip.global.batch.busstation.writer.BusStationUpsertWriter;
+import org.example.homedatazip.global.geocode.reverse.ReverseGeocoderJobListener;
+import org.example.homedatazip.poi.listener.PoiReloadJobListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -27,14 +29,18 @@ public class BusStationJobConfig {
 
     private final BusStationApiReader busStationApiReader;
     private final BusStationUpsertProcessor busStationUpsertProcessor;
-    private final JpaItemWriter<BusStation> busStationWriter;
+    private final BusStationUpsertWriter busStationUpsertWriter;
     private final BusStationGeocodeTasklet busStationGeocodeTasklet;
+    private final PoiReloadJobListener poiReloadJobListener;
+    private final ReverseGeocoderJobListener reverseGeocoderJobListener;
 
     @Bean
     public Job busStationJob() {
         return new JobBuilder("busStationJob", jobRepository)
                 .start(busStationLoadStep())
                 .next(busStationGeocodeStep())
+                .listener(reverseGeocoderJobListener)
+                .listener(poiReloadJobListener)
                 .build();
     }
 
@@ -44,7 +50,7 @@ public class BusStationJobConfig {
                 .<Row, BusStation>chunk(500, txManager)
                 .reader(busStationApiReader)
                 .processor(busStationUpsertProcessor)
-                .writer(busStationWriter)
+                .writer(busStationUpsertWriter)
                 .build();
     }
 
@@ -1,18 +1,17 @@
 package org.example.homedatazip.global.batch.busstation.processor;
 
-import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.busstation.client.dto.SeoulBusStopResponse.Row;
 import org.example.homedatazip.busstation.entity.BusStation;
-import org.example.homedatazip.busstation.repository.BusStationRepository;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
+/**
+ * API 행 → BusStation (DB 조회 없음)
+ * 기존 행과의 비교/region 유지는 BusStationUpsertWriter 가 chunk 단위로 처리
+ */
 @Component
-@RequiredArgsConstructor
 public class BusStationUpsertProcessor implements ItemProcessor<Row, BusStation> {
 
-    private final BusStationRepository busStationRepository;
-
     @Override
     public BusStation process(Row row) {
         if (row == null) return null;
@@ -25,17 +24,15 @@ public class BusStationUpsertProcessor implements ItemProcessor<Row, BusStation>
 
         if (longitude == null || latitude == null) return null;
 
-        BusStation station = busStationRepository.findByNodeId(nodeId)
-                .orElseGet(() -> new BusStation(nodeId));
-
-        var currentRegion = station.getRegion();
+        BusStation station = new BusStation(nodeId);
 
+        // region 은 null → 기존 값 유지
         station.update(
                 safeTrim(row.STOPS_NO()),
                 safeTrim(row.STOPS_NM()),
                 longitude,
                 latitude,
-                currentRegion
+                null
         );
 
         return station;
@@ -3,6 +3,8 @@ package org.example.homedatazip.global.batch.busstation.reader;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.busstation.client.dto.SeoulBusStopResponse;
 import org.example.homedatazip.busstation.client.dto.SeoulBusStopResponse.Row;
+import org.example.homedatazip.global.ratelimit.ApiEndpoint;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,6 +23,7 @@ import java.util.List;
 public class BusStationApiReader implements ItemReader<Row> {
 
     private final WebClient webClient;
+    private final ApiRateLimiter apiRateLimiter;
 
     @Value("${seoul.openapi.key}")
     private String apiKey;
@@ -40,9 +43,11 @@ public class BusStationApiReader implements ItemReader<Row> {
 
     public BusStationApiReader(
             WebClient.Builder builder,
-            @Value("${seoul.openapi.base-url}") String baseUrl
+            @Value("${seoul.openapi.base-url}") String baseUrl,
+            ApiRateLimiter apiRateLimiter
     ) {
         this.webClient = builder.baseUrl(baseUrl).build();
+        this.apiRateLimiter = apiRateLimiter;
     }
 
     @Override
@@ -57,16 +62,17 @@ public class BusStationApiReader implements ItemReader<Row> {
 
         String path = "/" + apiKey + "/" + type + "/" + service + "/" + startIndex + "/" + endIndex;
 
-        SeoulBusStopResponse res = webClient.get()
+        // 429 는 기본 WebClientResponseException 으로 두어 rate limiter 가 재시도
+        SeoulBusStopResponse res = apiRateLimiter.execute(ApiEndpoint.SEOUL_OPENAPI, () -> webClient.get()
                 .uri(path)
                 .retrieve()
-                .onStatus(s -> s.isError(), cr ->
+                .onStatus(s -> s.isError() && s.value() != 429, cr ->
                         cr.bodyToMono(String.class)
                                 .doOnNext(body -> log.error("[BUS] API error body={}", body))
                                 .flatMap(body -> Mono.error(new RuntimeException("Seoul API error: " + body)))
                 )
                 .bodyToMono(SeoulBusStopResponse.class)
-                .block();
+                .block());
 
         if (res == null || res.busStopLocationXyInfo() == null) {
             log.warn("[BUS] response null. end.");
@@ -94,9 +94,14 @@ public class BusStationGeocodeTasklet implements Tasklet {
     }
 
     /**
-     * GeoService 호출을 retry/backoff 포함해서 감싼다.
+     * 오프라인 역지오코딩으로 먼저 찾고, 확신이 없을 때만 Kakao 호출(retry/backoff 포함)
      */
     private Region callWithRetry(double lat, double lon, Long stationId, String nodeId) {
+        Region offline = geoService.findRegionOffline(lat, lon).orElse(null);
+        if (offline != null) {
+            return offline;
+        }
+
         Exception last = null;
 
         for (int attempt = 1; attempt <= MAX_RETRY; attempt++) {
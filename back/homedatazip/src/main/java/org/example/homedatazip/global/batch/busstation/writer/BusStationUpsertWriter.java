@@ -0,0 +1,26 @@
+package org.example.homedatazip.global.batch.busstation.writer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.busstation.entity.BusStation;
+import org.example.homedatazip.busstation.repository.BusStationBulkRepository;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+/** 정류장 chunk 를 node_id 기준으로 일괄 UPSERT (바뀐 행만 저장) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusStationUpsertWriter implements ItemWriter<BusStation> {
+
+    private final BusStationBulkRepository busStationBulkRepository;
+
+    @Override
+    public void write(Chunk<? extends BusStation> items) {
+        BusStationBulkRepository.Result result = busStationBulkRepository.upsertAll(items.getItems());
+
+        log.info("[BUS-LOAD] {} 건 처리 - 신규={}, 변경={}, 변경 없음={}",
+                items.size(), result.inserted(), result.updated(), result.unchanged());
+    }
+}
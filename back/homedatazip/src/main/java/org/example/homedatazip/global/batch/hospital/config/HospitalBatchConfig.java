@@ -3,7 +3,9 @@ package org.example.homedatazip.global.batch.hospital.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.hospital.dto.HospitalApiResponse;
+import org.example.homedatazip.global.geocode.reverse.ReverseGeocoderJobListener;
 import org.example.homedatazip.hospital.entity.Hospital;
+import org.example.homedatazip.poi.listener.PoiReloadJobListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -34,6 +36,9 @@ public class HospitalBatchConfig {
     private final ItemProcessor<Hospital, Hospital> hospitalRegionProcessor;
     private final ItemWriter<Hospital> hospitalRegionWriter;
 
+    private final PoiReloadJobListener poiReloadJobListener;
+    private final ReverseGeocoderJobListener reverseGeocoderJobListener;
+
     /**
      * Job: 배치 작업의 전체 단위
      * 여러 Step으로 구성될 수도 있다.
@@ -44,6 +49,8 @@ public class HospitalBatchConfig {
                 .incrementer(new RunIdIncrementer())
                 .start(hospitalImportStep())
                 .next(hospitalRegionStep())
+                .listener(reverseGeocoderJobListener)
+                .listener(poiReloadJobListener)
                 .build();
     }
 
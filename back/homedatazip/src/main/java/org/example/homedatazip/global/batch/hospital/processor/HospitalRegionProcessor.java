@@ -19,7 +19,7 @@ public class HospitalRegionProcessor implements ItemProcessor<Hospital, Hospital
 
     private final GeoService geoService;
 
-    // 좌표를 반올림하여 Region Cache에 저장
+    // Kakao 로 확인한 결과만 좌표를 반올림하여 Region Cache에 저장
     private final Map<String, Region> regionCache = new ConcurrentHashMap<>();
 
     @Override
@@ -34,10 +34,27 @@ public class HospitalRegionProcessor implements ItemProcessor<Hospital, Hospital
             return null;
         }
 
+        // 주변에 이미 매칭된 좌표로 판단 가능하면 Kakao 호출 없이 바로 매칭
+        Region region = geoService.findRegionOffline(hospital.getLatitude(), hospital.getLongitude())
+                .orElseGet(() -> convertWithKakao(hospital));
+
+        if (region == null) {
+            log.warn("⏭️ Region 누락 - Hospital Id: {}, Hospital: {}",
+                    hospital.getHospitalId(),
+                    hospital.getName()
+            );
+            return null;
+        }
+
+        hospital.attachRegion(region);
+        return hospital;
+    }
+
+    private Region convertWithKakao(Hospital hospital) {
         // 좌표를 소수점 3자리로 반올림 (약 111m 정밀도)
         String cacheKey = roundCoordinate(hospital.getLatitude(), hospital.getLongitude());
 
-        Region region = regionCache.computeIfAbsent(cacheKey, key -> {
+        return regionCache.computeIfAbsent(cacheKey, key -> {
                     try {
                         return geoService.convertAddressInfoInNewTransaction(
                                 hospital.getLatitude(),
@@ -53,17 +70,6 @@ public class HospitalRegionProcessor implements ItemProcessor<Hospital, Hospital
                     }
                 }
         );
-
-        if (region == null) {
-            log.warn("⏭️ Region 누락 - Hospital Id: {}, Hospital: {}",
-                    hospital.getHospitalId(),
-                    hospital.getName()
-            );
-            return null;
-        }
-
-        hospital.attachRegion(region);
-        return hospital;
     }
 
     private String roundCoordinate(Double latitude, Double longitude) {
@@ -3,6 +3,9 @@ package org.example.homedatazip.global.batch.hospital.reader;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.global.ratelimit.ApiEndpoint;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
+import org.example.homedatazip.global.ratelimit.DataGoKrQuota;
 import org.example.homedatazip.hospital.dto.HospitalApiResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
@@ -23,6 +26,7 @@ import java.time.Duration;
 public class HospitalApiClient {
 
     private final WebClient webClient;
+    private final ApiRateLimiter apiRateLimiter;
     private final XmlMapper xmlMapper = new XmlMapper();
 
     @Value("${api.data.hospital.key}")
@@ -32,8 +36,6 @@ public class HospitalApiClient {
             = "http://apis.data.go.kr/B552657/HsptlAsembySearchService";
     private static final String SERVICE_NAME = "getHsptlMdcncFullDown";
 
-    private static final int API_CALL_DELAY_MS = 100; // Rate Limiting 방지
-
     public HospitalApiResponse fetchHospital(
             int pageNo,
             int numOfRows
@@ -49,15 +51,14 @@ public class HospitalApiClient {
         log.info("🌐 API 호출: pageNo={}, numOfRows={}", pageNo, numOfRows);
 
         try {
-            Thread.sleep(API_CALL_DELAY_MS);
-
-            String xmlResponse = webClient.get()
+            // Rate Limiting: 공공데이터포털 공용 토큰 버킷
+            String xmlResponse = apiRateLimiter.execute(ApiEndpoint.DATA_GO_KR, () -> webClient.get()
                     .uri(url)
                     .accept(MediaType.APPLICATION_XML)
                     .retrieve()
                     .bodyToMono(String.class)
                     .timeout(Duration.ofSeconds(30)) // 최대 대기시간
-                    .block();
+                    .block(), DataGoKrQuota::isExceeded);
 
             return xmlMapper.readValue(xmlResponse, HospitalApiResponse.class);
         } catch (Exception e) {
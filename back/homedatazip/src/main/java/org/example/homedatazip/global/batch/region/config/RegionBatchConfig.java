@@ -6,6 +6,7 @@ import org.example.homedatazip.data.dto.RegionApiResponse;
 import org.example.homedatazip.data.service.RegionService;
 import org.example.homedatazip.global.batch.region.processor.RegionProcessor;
 import org.example.homedatazip.global.batch.region.reader.RegionApiReader;
+import org.example.homedatazip.global.geocode.cache.RegionCacheJobListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -26,12 +27,14 @@ public class RegionBatchConfig {
     private final RegionApiReader reader;
     private final RegionProcessor regionProcessor;
     private final RegionService regionService;
+    private final RegionCacheJobListener regionCacheJobListener;
 
     @Bean
     public Job regionJob(Step regionStep, JobRepository jobRepository) {
         return new JobBuilder("regionJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .start(regionStep)
+                .listener(regionCacheJobListener) // 지오코딩 지역 캐시 비우기
                 .build();
     }
 
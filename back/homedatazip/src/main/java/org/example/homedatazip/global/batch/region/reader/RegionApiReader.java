@@ -4,6 +4,8 @@ package org.example.homedatazip.global.batch.region.reader;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.data.dto.ApiResponse;
 import org.example.homedatazip.data.dto.RegionApiResponse;
+import org.example.homedatazip.global.ratelimit.ApiEndpoint;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.NonTransientResourceException;
@@ -24,6 +26,7 @@ import java.util.List;
 public class RegionApiReader implements ItemReader<RegionApiResponse> {
 
     private final WebClient webClient;
+    private final ApiRateLimiter apiRateLimiter;
 
     @Value("${api.data-go-kr.service-key}")
     private String serviceKey;
@@ -32,8 +35,9 @@ public class RegionApiReader implements ItemReader<RegionApiResponse> {
     private List<RegionApiResponse> buffer = new ArrayList<>();
     private boolean isEnd = false;
 
-    public RegionApiReader(WebClient.Builder builder) {
+    public RegionApiReader(WebClient.Builder builder, ApiRateLimiter apiRateLimiter) {
         this.webClient = builder.baseUrl("https://api.odcloud.kr/api").build();
+        this.apiRateLimiter = apiRateLimiter;
     }
 
     @Override
@@ -50,19 +54,20 @@ public class RegionApiReader implements ItemReader<RegionApiResponse> {
     }
 
     private void fetch() {
-        ApiResponse res = webClient.get()
+        int pageNo = page++;
+        ApiResponse res = apiRateLimiter.execute(ApiEndpoint.ODCLOUD, () -> webClient.get()
                 .uri(uri -> uri.path("/15063424/v1/uddi:5176efd5-da6e-42a0-b2cf-8512f74503ea")
-                        .queryParam("page", page++)
+                        .queryParam("page", pageNo)
                         .queryParam("perPage", 100)
                         .queryParam("serviceKey", serviceKey)
                         .build(false))
                 .retrieve()
-                .onStatus(status -> status.isError(), clientResponse ->
+                .onStatus(status -> status.isError() && status.value() != 429, clientResponse ->
                 clientResponse.bodyToMono(String.class)
                         .doOnNext(errorBody -> log.error("API 에러 상세 메시지: {}", errorBody))
                         .flatMap(errorBody -> Mono.error(new RuntimeException("API 호출 실패: " + errorBody)))
         )
-                .bodyToMono(ApiResponse.class).block();
+                .bodyToMono(ApiResponse.class).block());
 
         if (res == null || res.data() == null || res.data().isEmpty()) {
             isEnd = true;
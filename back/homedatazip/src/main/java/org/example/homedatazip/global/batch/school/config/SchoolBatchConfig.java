@@ -2,6 +2,7 @@ package org.example.homedatazip.global.batch.school.config;
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.global.batch.school.processor.SchoolProcessor;
 import org.example.homedatazip.global.batch.school.reader.SchoolApiReader;
+import org.example.homedatazip.poi.listener.PoiReloadJobListener;
 import org.example.homedatazip.school.dto.SchoolSourceSync;
 import org.example.homedatazip.school.entity.School;
 import org.springframework.batch.core.Job;
@@ -25,6 +26,7 @@ public class SchoolBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
+    private final PoiReloadJobListener poiReloadJobListener;
 
     // 1. [Writer] 데이터 저장 설정
     @Bean
@@ -81,6 +83,7 @@ public class SchoolBatchConfig {
         return new org.springframework.batch.core.job.builder.JobBuilder("schoolOpenApiSyncJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .start(schoolOpenApiSyncStep)
+                .listener(poiReloadJobListener)
                 .build();
     }
 }
\ No newline at end of file
@@ -2,6 +2,10 @@ package org.example.homedatazip.global.batch.school.reader;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.global.ratelimit.ApiEndpoint;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
+import org.example.homedatazip.global.ratelimit.ApiThrottledException;
+import org.example.homedatazip.global.ratelimit.DataGoKrQuota;
 import org.example.homedatazip.school.dto.SchoolSourceSync;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,6 +25,7 @@ public class SchoolApiReader implements ItemReader<SchoolSourceSync> {
     @Value("${school.openapi.key}")
     private String serviceKey;
 
+    private final ApiRateLimiter apiRateLimiter;
     private final RestTemplate restTemplate = new RestTemplate();
     private Iterator<SchoolSourceSync> itemIterator;
     private int pageNo = 1;
@@ -45,7 +50,8 @@ public class SchoolApiReader implements ItemReader<SchoolSourceSync> {
 
         try {
             // 1. API 호출
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            Map<String, Object> response = apiRateLimiter.execute(ApiEndpoint.DATA_GO_KR,
+                    () -> restTemplate.getForObject(url, Map.class), SchoolApiReader::isQuotaExceeded);
 
             // 2. JSON 구조 파헤쳐서 실제 학교 리스트(items) 꺼내기
             Map<String, Object> responseMap = (Map<String, Object>) response.get("response");
@@ -69,10 +75,21 @@ public class SchoolApiReader implements ItemReader<SchoolSourceSync> {
             }
         } catch (NullPointerException e) {
             log.info("school Open API 호출 끝: {}", e.getMessage());
+        } catch (ApiThrottledException e) {
+            // 재시도 후에도 제한 초과면 데이터 끝으로 보지 않고 Step 실패
+            throw e;
         } catch (Exception e) {
             log.error("API 호출 또는 데이터 변환 중 에러 발생: {}", e.getMessage());
         }
 
         return schoolList;
     }
+
+    // response.header.resultCode 가 호출 제한 초과인지
+    private static boolean isQuotaExceeded(Map<?, ?> response) {
+        if (response == null || !(response.get("response") instanceof Map<?, ?> responseMap)) return false;
+        if (!(responseMap.get("header") instanceof Map<?, ?> header)) return false;
+        Object resultCode = header.get("resultCode");
+        return resultCode != null && DataGoKrQuota.isExceededCode(resultCode.toString());
+    }
 }
\ No newline at end of file
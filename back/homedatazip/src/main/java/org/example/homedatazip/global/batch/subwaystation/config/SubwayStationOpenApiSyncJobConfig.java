@@ -5,6 +5,7 @@ import org.example.homedatazip.subway.dto.SubwayStationSourceSync;
 import org.example.homedatazip.global.batch.subwaystation.processor.StationApiToSourceSyncProcessor;
 import org.example.homedatazip.global.batch.subwaystation.reader.StationApiReader;
 import org.example.homedatazip.global.batch.subwaystation.tasklet.SubwayStationMapTasklet;
+import org.example.homedatazip.poi.listener.PoiReloadJobListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -58,11 +59,13 @@ public class SubwayStationOpenApiSyncJobConfig {
     public Job subwayStationOpenApiSyncJob(
             JobRepository jobRepository,
             Step subwayStationOpenApiSyncStep,
-            Step subwayStationMapStep
+            Step subwayStationMapStep,
+            PoiReloadJobListener poiReloadJobListener
     ) {
         return new JobBuilder("subwayStationOpenApiSyncJob", jobRepository)
                 .start(subwayStationOpenApiSyncStep)
                 .next(subwayStationMapStep)
+                .listener(poiReloadJobListener)
                 .build();
     }
 }
@@ -7,10 +7,15 @@ import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.data.Region;
 import org.example.homedatazip.data.repository.RegionRepository;
+import org.example.homedatazip.global.geocode.cache.GeocodeCache;
+import org.example.homedatazip.global.geocode.cache.GeocodeCacheCounters;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
 import org.example.homedatazip.apartment.dto.ApiResponse;
+import org.example.homedatazip.markerCluster.service.MarkerClusterTileService;
 import org.example.homedatazip.tradeRent.api.RentApiClient;
 import org.example.homedatazip.tradeRent.dto.RentApiItem;
 import org.example.homedatazip.tradeRent.entity.TradeRent;
+import org.example.homedatazip.tradeRent.repository.ApartmentRentSummaryBulkRepository;
 import org.example.homedatazip.tradeRent.repository.TradeRentRepository;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
@@ -44,6 +49,10 @@ public class BatchTestController {
     private final ApartmentRepository apartmentRepository;
     private final TradeRentRepository tradeRentRepository;
     private final RentApiClient rentApiClient;
+    private final ApiRateLimiter apiRateLimiter;
+    private final GeocodeCache geocodeCache;
+    private final MarkerClusterTileService markerClusterTileService;
+    private final ApartmentRentSummaryBulkRepository apartmentRentSummaryBulkRepository;
 
     @Value("${api.data-go-kr.service-key:NOT_SET}")
     private String regionServiceKey;
@@ -325,4 +334,57 @@ public class BatchTestController {
 
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 외부 API Rate Limiter 현황 (허용 호출 수, 대기 시간, 429 횟수)
+     *
+     * GET http://localhost:8080/api/test/batch/rate-limits
+     */
+    @GetMapping("/rate-limits")
+    public ResponseEntity<List<ApiRateLimiter.Stats>> rateLimits() {
+        return ResponseEntity.ok(apiRateLimiter.stats());
+    }
+
+    /**
+     * 지오코딩 캐시 누적 hit/miss (Step 별 값은 BATCH_STEP_EXECUTION_CONTEXT 의 geocodeCache.*)
+     *
+     * GET http://localhost:8080/api/test/batch/geocode-cache
+     */
+    @GetMapping("/geocode-cache")
+    public ResponseEntity<GeocodeCacheCounters.Snapshot> geocodeCache() {
+        return ResponseEntity.ok(geocodeCache.totalSnapshot());
+    }
+
+    /**
+     * 지도 클러스터 타일 전체 재적재 (최초 적재 / 수동 갱신)
+     *
+     * POST http://localhost:8080/api/test/batch/marker-cluster-tiles
+     */
+    @PostMapping("/marker-cluster-tiles")
+    public ResponseEntity<Map<String, Object>> rebuildMarkerClusterTiles() {
+        long start = System.currentTimeMillis();
+        markerClusterTileService.rebuildAll();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("elapsedMs", System.currentTimeMillis() - start);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 아파트별 전월세 요약 전체 재집계 (최초 적재 / 수동 갱신)
+     *
+     * POST http://localhost:8080/api/test/batch/rent-summary
+     */
+    @PostMapping("/rent-summary")
+    public ResponseEntity<Map<String, Object>> rebuildRentSummary() {
+        long start = System.currentTimeMillis();
+        int affected = apartmentRentSummaryBulkRepository.reaggregateAll();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("affected", affected);
+        result.put("elapsedMs", System.currentTimeMillis() - start);
+        return ResponseEntity.ok(result);
+    }
 }
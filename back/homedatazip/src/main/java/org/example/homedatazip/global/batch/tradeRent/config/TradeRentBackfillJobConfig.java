@@ -3,9 +3,13 @@ package org.example.homedatazip.global.batch.tradeRent.config;
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.global.exception.BatchRetryException;
 import org.example.homedatazip.global.exception.BatchSkipException;
+import org.example.homedatazip.global.geocode.cache.GeocodeCacheStepListener;
+import org.example.homedatazip.markerCluster.listener.MarkerClusterTileJobListener;
+import org.example.homedatazip.recommend.listener.RecommendationJobListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.example.homedatazip.data.repository.RegionRepository;
 import org.example.homedatazip.global.batch.tradeRent.processor.TradeProcessor;
+import org.example.homedatazip.global.batch.tradeRent.properties.TradeRentBatchProperties;
 import org.example.homedatazip.global.batch.tradeRent.reader.TradeRentReader;
 import org.example.homedatazip.global.batch.tradeRent.writer.TradeRentWriter;
 import org.example.homedatazip.tradeRent.api.RentApiClient;
@@ -18,7 +22,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,18 +41,24 @@ public class TradeRentBackfillJobConfig {
     private static final DateTimeFormatter YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
     private final TradeProcessor tradeProcessor;
     private final FixedBackOffPolicy fixedBackOffPolicy;
+    private final TradeRentBatchProperties tradeRentBatchProperties;
+    private final GeocodeCacheStepListener geocodeCacheStepListener;
+    private final MarkerClusterTileJobListener markerClusterTileJobListener;
+    private final RecommendationJobListener recommendationJobListener;
 
     @Bean
     public Job tradeRentBackfillJob(JobRepository jobRepository, Step tradeRentBackfillStep ) {
         return new JobBuilder("tradeRentBackfillJob", jobRepository)
                 .start(tradeRentBackfillStep)
+                .listener(markerClusterTileJobListener) // 지도 클러스터 타일 증분 갱신
+                .listener(recommendationJobListener) // 기본 추천 재계산, 사용자 추천 갱신 표시
                 .build();
     }
 
     @Bean
     public Step tradeRentBackfillStep(JobRepository jobRepository,
                                     PlatformTransactionManager tx,
-                                    ItemReader<RentApiItem> tradeRentBackfillReader,
+                                    ItemStreamReader<RentApiItem> tradeRentBackfillReader,
                                     ItemProcessor<RentApiItem, TradeRentWriteRequest> tradeRentBackfillProcessor,
                                     ItemWriter<TradeRentWriteRequest> tradeRentBackfillWriter){
         return new StepBuilder("tradeRentBackfillStep", jobRepository)
@@ -61,12 +71,14 @@ public class TradeRentBackfillJobConfig {
                 .retry(BatchRetryException.class)
                 .retryLimit(3) // 3번까지 다시 시도
                 .backOffPolicy(fixedBackOffPolicy) // BackOff 설정 : 재시도 사이의 대기시간
+                .listener(geocodeCacheStepListener) // 지오코딩 캐시 hit/miss 기록
                 .build();
     }
 
+    // ItemStreamReader 로 노출해야 StepScope 프록시에서도 open/update(재시작 커서)가 호출된다
     @Bean
     @StepScope
-    public ItemReader<RentApiItem> tradeRentBackfillReader(
+    public ItemStreamReader<RentApiItem> tradeRentBackfillReader(
             RentApiClient client,
             RegionRepository regionRepository,
             @Value("#{jobParameters['fromYmd']}") String fromYmd,
@@ -91,7 +103,7 @@ public class TradeRentBackfillJobConfig {
         List<String> sggCds = regionRepository.findDistinctSggCode();
         List<String> dealYmds = buildDealYmds(from, to);
 
-        return new TradeRentReader(client, sggCds, dealYmds);
+        return new TradeRentReader(client, sggCds, dealYmds, tradeRentBatchProperties.getPrefetchWindow());
     }
 
     @Bean
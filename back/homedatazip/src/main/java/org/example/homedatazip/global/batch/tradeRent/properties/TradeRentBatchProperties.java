@@ -9,12 +9,15 @@ public class TradeRentBatchProperties {
     private boolean enabled ;
     private List<Integer> daysOfMonth;
     private int windowMonths ;
+    private int prefetchWindow = 8; // 0이면 순차 호출
 
     public boolean isEnabled() { return enabled; }
     public List<Integer> getDaysOfMonth() { return daysOfMonth; }
     public int getWindowMonths() { return windowMonths; }
+    public int getPrefetchWindow() { return prefetchWindow; }
 
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
     public void setDaysOfMonth(List<Integer> daysOfMonth) { this.daysOfMonth = daysOfMonth; }
     public void setWindowMonths(int windowMonths) { this.windowMonths = windowMonths; }
+    public void setPrefetchWindow(int prefetchWindow) { this.prefetchWindow = prefetchWindow; }
 }
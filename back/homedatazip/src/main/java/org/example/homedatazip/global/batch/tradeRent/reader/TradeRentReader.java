@@ -1,16 +1,30 @@
 package org.example.homedatazip.global.batch.tradeRent.reader;
 
+import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.dto.ApiResponse;
 import org.example.homedatazip.tradeRent.api.RentApiClient;
 import org.example.homedatazip.tradeRent.dto.RentApiItem;
 import org.springframework.batch.item.*;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * (sggCd, dealYmd, pageNo) 순서로 전월세 API를 읽는 Reader
+ * <br/>
+ * prefetchWindow > 0 이면 다음 페이지들을 가상 스레드로 미리 요청해두고(최대 prefetchWindow 건),
+ * 아이템은 기존과 동일한 순서로 하나씩 반환한다. 초당 호출 수는 RentApiClient 의 ApiRateLimiter 가 제한한다.
+ * 재시작 커서(trBackfill.*)는 실제로 반환한 위치만 기록하므로 미리 받아둔 페이지와 무관하게 정확하다.
+ */
+@Slf4j
 public class TradeRentReader implements ItemStreamReader<RentApiItem> {
 
     private static final String CTX_SGG_IDX = "trBackfill.sggIdx";
@@ -23,6 +37,7 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
     private final RentApiClient client;
     private final List<String> sggCds;
     private final List<String> dealYmds;
+    private final int prefetchWindow;
 
     private int sggIdx;
     private int ymdIdx;
@@ -32,10 +47,22 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
 
     private Iterator<RentApiItem> iter;
 
+    // prefetch 모드 전용: 요청 순서를 유지하는 in-flight 페이지
+    private final Map<PageKey, CompletableFuture<ApiResponse<RentApiItem>>> inFlight = new LinkedHashMap<>();
+    private ExecutorService prefetchExecutor;
+
     public TradeRentReader(RentApiClient client, List<String> sggCds, List<String> dealYmds) {
+        this(client, sggCds, dealYmds, 0);
+    }
+
+    /**
+     * @param prefetchWindow 동시에 미리 요청해 둘 최대 페이지 수 (0 이하면 순차 모드)
+     */
+    public TradeRentReader(RentApiClient client, List<String> sggCds, List<String> dealYmds, int prefetchWindow) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.sggCds = Objects.requireNonNull(sggCds, "sggCds must not be null");
         this.dealYmds = Objects.requireNonNull(dealYmds, "dealYmds must not be null");
+        this.prefetchWindow = Math.max(0, prefetchWindow);
         this.sggIdx = 0;
         this.ymdIdx = 0;
         this.pageNo = 1;
@@ -51,14 +78,22 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
                 advanceSggOnly();
                 continue;
             }
-            if (iter != null && iter.hasNext()) {
-                RentApiItem next = iter.next();
-                cursorInPage++;
-
-                String itemSggCd = tryGetSggCd(next);
-                if(itemSggCd == null || isAllowedSidoBySggCd(itemSggCd)){
-                    return next;
+            if (iter != null) {
+                if (iter.hasNext()) {
+                    RentApiItem next = iter.next();
+                    cursorInPage++;
+
+                    String itemSggCd = tryGetSggCd(next);
+                    if(itemSggCd == null || isAllowedSidoBySggCd(itemSggCd)){
+                        return next;
+                    }
+                    continue;
                 }
+
+                // 현재 페이지를 다 읽었으면 바로 다음 페이지로 (같은 페이지를 다시 요청하지 않는다)
+                iter = null;
+                cursorInPage = 0;
+                pageNo++;
                 continue;
             }
 
@@ -70,10 +105,6 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
             }
 
             loadPage();
-
-            if (iter == null || !iter.hasNext()) {
-                pageNo++;
-            }
         }
     }
 
@@ -120,11 +151,12 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
     }
 
     private void loadPage() {
-        String sgg = sggCds.get(sggIdx);
-        String ymd = dealYmds.get(ymdIdx);
-
-        ApiResponse<RentApiItem> res = client.fetch(sgg, ymd, pageNo);
+        ApiResponse<RentApiItem> res = isPrefetchMode()
+                ? takePrefetched()
+                : client.fetch(sggCds.get(sggIdx), dealYmds.get(ymdIdx), pageNo);
+        // 빈 페이지면 현재 조합은 여기까지 (totalCount 가 없을 때 끝없이 다음 페이지를 요청하지 않도록)
         if (res == null || res.body() == null || res.body().items() == null) {
+            maxPage = Math.min(maxPage, pageNo);
             iter = List.<RentApiItem>of().iterator();
             return;
         }
@@ -134,6 +166,9 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
         maxPage = computeMaxPage(totalCount, numOfRows);
 
         List<RentApiItem> items = res.body().items().safeItem();
+        if (items.isEmpty()) {
+            maxPage = Math.min(maxPage, pageNo);
+        }
         Iterator<RentApiItem> it = items.iterator();
 
         int skip = cursorInPage;
@@ -141,6 +176,90 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
         for (int i = 0; i < skip && it.hasNext(); i++) it.next();
 
         iter = it;
+
+        // maxPage를 알게 됐으니 현재 조합의 남은 페이지도 미리 요청
+        if (isPrefetchMode()) schedulePrefetch();
+    }
+
+    private boolean isPrefetchMode() {
+        return prefetchExecutor != null;
+    }
+
+    /**
+     * 현재 페이지의 응답을 꺼낸다. 아직 요청 전이면 현재 페이지부터 window를 채운다.
+     */
+    private ApiResponse<RentApiItem> takePrefetched() {
+        schedulePrefetch();
+        CompletableFuture<ApiResponse<RentApiItem>> future = inFlight.remove(new PageKey(sggIdx, ymdIdx, pageNo));
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 페이지 -> 현재 조합의 남은 페이지(maxPage를 아는 경우) -> 이후 조합들의 1페이지 순으로
+     * in-flight 가 prefetchWindow 를 넘지 않게 요청한다. 현재 페이지는 window와 무관하게 항상 요청한다.
+     */
+    private void schedulePrefetch() {
+        PageKey current = new PageKey(sggIdx, ymdIdx, pageNo);
+
+        // 이미 지나간 위치의 요청은 버린다 (maxPage 변화, 시도 스킵 등)
+        inFlight.entrySet().removeIf(e -> {
+            if (e.getKey().compareTo(current) >= 0) return false;
+            e.getValue().cancel(true);
+            return true;
+        });
+
+        submitIfAbsent(current);
+
+        if (maxPage != Integer.MAX_VALUE) {
+            for (int p = pageNo + 1; p <= maxPage && inFlight.size() < prefetchWindow; p++) {
+                submitIfAbsent(new PageKey(sggIdx, ymdIdx, p));
+            }
+        }
+
+        int s = sggIdx;
+        int y = ymdIdx;
+        while (inFlight.size() < prefetchWindow) {
+            y++;
+            if (y >= dealYmds.size()) {
+                y = 0;
+                s++;
+            }
+            if (s >= sggCds.size()) break;
+            if (!isAllowedSidoBySggCd(sggCds.get(s))) {
+                y = dealYmds.size() - 1;
+                continue;
+            }
+            submitIfAbsent(new PageKey(s, y, 1));
+        }
+    }
+
+    private void submitIfAbsent(PageKey key) {
+        if (inFlight.containsKey(key)) return;
+
+        String sgg = sggCds.get(key.sggIdx());
+        String ymd = dealYmds.get(key.ymdIdx());
+        int page = key.pageNo();
+
+        inFlight.put(key, CompletableFuture.supplyAsync(() -> client.fetch(sgg, ymd, page), prefetchExecutor));
+    }
+
+    private void cancelPrefetch() {
+        inFlight.values().forEach(f -> f.cancel(true));
+        inFlight.clear();
+    }
+
+    private record PageKey(int sggIdx, int ymdIdx, int pageNo) implements Comparable<PageKey> {
+        @Override
+        public int compareTo(PageKey o) {
+            if (sggIdx != o.sggIdx) return Integer.compare(sggIdx, o.sggIdx);
+            if (ymdIdx != o.ymdIdx) return Integer.compare(ymdIdx, o.ymdIdx);
+            return Integer.compare(pageNo, o.pageNo);
+        }
     }
 
     private static int computeMaxPage(Integer totalCount, Integer numOfRows) {
@@ -157,6 +276,13 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
         this.cursorInPage = executionContext.getInt(CTX_CURSOR, 0);
         this.iter = null;
         this.maxPage = Integer.MAX_VALUE;
+
+        cancelPrefetch();
+        if (prefetchWindow > 0 && prefetchExecutor == null) {
+            prefetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        }
+        log.info("TradeRentReader open - mode:{}, window:{}, sggIdx:{}, ymdIdx:{}, pageNo:{}, cursor:{}",
+                isPrefetchMode() ? "prefetch" : "sequential", prefetchWindow, sggIdx, ymdIdx, pageNo, cursorInPage);
     }
 
     @Override
@@ -170,6 +296,11 @@ public class TradeRentReader implements ItemStreamReader<RentApiItem> {
     @Override
     public void close() {
         iter = null;
+        cancelPrefetch();
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+            prefetchExecutor = null;
+        }
     }
 }
 
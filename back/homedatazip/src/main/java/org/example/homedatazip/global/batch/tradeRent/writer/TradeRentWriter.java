@@ -6,10 +6,13 @@ import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.apartment.service.ApartmentService;
 import org.example.homedatazip.global.batch.tradeRent.Filter.TradeRentRegionFilter;
+import org.example.homedatazip.markerCluster.service.MarkerClusterTileService;
+import org.example.homedatazip.markerCluster.type.ClusterTradeType;
 import org.example.homedatazip.monthAvg.service.MonthAvgRebuildService;
 import org.example.homedatazip.tradeRent.dto.ApartmentGetOrCreateRequest;
 import org.example.homedatazip.tradeRent.dto.TradeRentWriteRequest;
 import org.example.homedatazip.tradeRent.entity.TradeRent;
+import org.example.homedatazip.tradeRent.repository.ApartmentRentSummaryBulkRepository;
 import org.example.homedatazip.tradeRent.repository.TradeRentBulkRepository;
 import org.example.homedatazip.tradeRent.repository.TradeRentRepository;
 import org.springframework.batch.item.*;
@@ -31,6 +34,8 @@ public class TradeRentWriter implements ItemWriter<TradeRentWriteRequest> {
 
     private static final boolean USE_UPSERT = false;
     private final MonthAvgRebuildService monthAvgRebuildService;
+    private final MarkerClusterTileService markerClusterTileService;
+    private final ApartmentRentSummaryBulkRepository apartmentRentSummaryBulkRepository;
 
     @Override
     @Transactional
@@ -124,13 +129,38 @@ public class TradeRentWriter implements ItemWriter<TradeRentWriteRequest> {
             log.info("TradeRent Upsert 완료 - 입력:{}건, 아파트없음:{}건, 필수값누락:{}건, 저장시도:{}건, 신규:{}건, 업데이트:{}건",
                     listForFilteringRegion.size(), skippedAptMissingCount, skippedRequiredMissingCount,
                     tradeRents.size(), r[0], r[1]);
-        } else {
-            int[] r = tradeRentBulkRepository.bulkInsertIgnore(tradeRents);
-            log.info("TradeRent InsertIgnore 완료 - 입력:{}건, 아파트없음:{}건, 필수값누락:{}건, 저장시도:{}건, 저장:{}건, DB중복스킵:{}건",
-                    listForFilteringRegion.size(), skippedAptMissingCount, skippedRequiredMissingCount,
-                    tradeRents.size(), r[0], r[1]);
+            // 기존 행이 갱신될 수 있으므로 증분이 아닌 재집계
+            monthAvgRebuildService.rebuildRentFor(tradeRents);
+            apartmentRentSummaryBulkRepository.reaggregateFor(aptIdsOf(tradeRents));
+            markClusterDirty(tradeRents);
+            return;
+        }
+
+        List<TradeRent> inserted = tradeRentBulkRepository.bulkInsertIgnoreReturningInserted(tradeRents);
+        if (inserted == null) {
+            // 저장된 행을 알 수 없으면 해당 (apt, 월) 재집계로 대체
+            monthAvgRebuildService.rebuildRentFor(tradeRents);
+            apartmentRentSummaryBulkRepository.reaggregateFor(aptIdsOf(tradeRents));
+            markClusterDirty(tradeRents);
+            return;
         }
-        monthAvgRebuildService.rebuildRentFor(tradeRents);
+        log.info("TradeRent InsertIgnore 완료 - 입력:{}건, 아파트없음:{}건, 필수값누락:{}건, 저장시도:{}건, 저장:{}건, DB중복스킵:{}건",
+                listForFilteringRegion.size(), skippedAptMissingCount, skippedRequiredMissingCount,
+                tradeRents.size(), inserted.size(), tradeRents.size() - inserted.size());
+        if (!inserted.isEmpty()) {
+            monthAvgRebuildService.applyRentDelta(inserted);
+            apartmentRentSummaryBulkRepository.mergeInserted(inserted);
+            markClusterDirty(inserted);
+        }
+    }
+
+    // 지도 클러스터 타일은 Job 종료 후 갱신 (MarkerClusterTileJobListener)
+    private void markClusterDirty(List<TradeRent> rents) {
+        markerClusterTileService.markDirty(ClusterTradeType.RENT, aptIdsOf(rents));
+    }
+
+    private static List<Long> aptIdsOf(List<TradeRent> rents) {
+        return rents.stream().map(r -> r.getApartment().getId()).distinct().toList();
     }
 
     private static String normalizeRentTerm(String contractTerm) {
@@ -38,6 +38,16 @@ public class CustomUserDetails implements UserDetails {
         );
     }
 
+    // access token claim 만으로 생성 (DB 조회 없음, password 없음)
+    public static CustomUserDetails fromClaims(Long userId, String email, List<String> roles) {
+        List<GrantedAuthority> auths = roles.stream()
+                .distinct()
+                .map(rt -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + rt))
+                .toList();
+
+        return new CustomUserDetails(userId, email, null, auths);
+    }
+
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -1,18 +1,33 @@
 package org.example.homedatazip.global.config;
 
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.Claims;
+import org.example.homedatazip.global.jwt.util.JwtTokenizer;
 import org.example.homedatazip.user.entity.User;
 import org.example.homedatazip.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+
+    // true 면 DB 조회 없이 access token 의 claim(userId, email, roles)만으로 인증 (권한 변경은 토큰 재발급 시 반영)
+    private final boolean claimsOnly;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    UserPrincipalCache userPrincipalCache,
+                                    @Value("${security.principal.claims-only:false}") boolean claimsOnly) {
+        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.claimsOnly = claimsOnly;
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -20,4 +35,35 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return CustomUserDetails.from(user);
     }
+
+    /** 검증된 access token 의 claim 으로 사용자 정보 로드 (userId 가 있으면 캐시 사용) */
+    public CustomUserDetails loadUserByClaims(Claims claims) {
+        String email = claims.get("email", String.class);
+        Long userId = JwtTokenizer.userIdOf(claims);
+
+        // 예전 토큰(userId claim 없음)은 기존처럼 DB 조회
+        if (userId == null) {
+            return (CustomUserDetails) loadUserByUsername(email);
+        }
+
+        if (claimsOnly) {
+            return CustomUserDetails.fromClaims(userId, email, rolesOf(claims.get("roles")));
+        }
+
+        CustomUserDetails cached = userPrincipalCache.get(userId, email);
+        if (cached != null) {
+            return cached;
+        }
+
+        CustomUserDetails loaded = (CustomUserDetails) loadUserByUsername(email);
+        if (userId.equals(loaded.getUserId())) {
+            userPrincipalCache.put(loaded);
+        }
+        return loaded;
+    }
+
+    private static List<String> rolesOf(Object roles) {
+        if (!(roles instanceof List<?> list)) return List.of();
+        return list.stream().map(String::valueOf).toList();
+    }
 }
@@ -0,0 +1,46 @@
+package org.example.homedatazip.global.config;
+
+import org.example.homedatazip.global.util.TtlLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증된 사용자 정보(CustomUserDetails) 캐시 (userId 기준, 짧은 TTL + LRU)
+ * - 요청마다 findByEmailWithRoles 조인 쿼리를 날리지 않도록 JwtAuthenticationFilter / StompHandler 에서 사용
+ * - 권한 변경(판매자 부여/회수), 회원 삭제 시 evict 로 즉시 제거
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final TtlLruCache<Long, CustomUserDetails> cache;
+
+    public UserPrincipalCache(@Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                              @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.cache = new TtlLruCache<>(ttlSeconds * 1000L, maxSize);
+    }
+
+    /** 만료됐거나 토큰의 email 과 다르면 null */
+    public CustomUserDetails get(Long userId, String email) {
+        CustomUserDetails userDetails = cache.get(userId);
+        if (userDetails == null) return null;
+
+        if (!userDetails.getEmail().equals(email)) {
+            cache.remove(userId);
+            return null;
+        }
+        return userDetails;
+    }
+
+    public void put(CustomUserDetails userDetails) {
+        cache.put(userDetails.getUserId(), userDetails);
+    }
+
+    /**
+     * 권한/회원 정보가 바뀌었을 때 호출
+     * 트랜잭션 안이면 커밋 후에 한 번 더 지운다 (커밋 전 다른 요청이 옛 권한을 다시 캐시하는 경우 방지)
+     */
+    public void evict(Long userId) {
+        if (userId == null) return;
+        cache.evict(userId);
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.homedatazip.global.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 위·경도 균일 격자(grid) 기반 메모리 공간 인덱스 (불변, 스레드 안전)
+ * <br/>
+ * 좌표를 cellMeters 크기의 격자 칸으로 나눠 두고, 반경 검색 시 GeoBox 범위에 걸치는 칸만 훑어서
+ * 하버사인 거리를 계산한다. 전체 대상과 1:1 로 거리를 구하던 O(N) 탐색이 주변 칸 개수 수준으로 줄어든다.
+ * <br/>
+ * 반경과 비슷한 크기로 cellMeters 를 잡으면 한 번의 검색에서 3x3 칸 정도만 확인한다.
+ *
+ * @param <T> 인덱싱할 대상 (지하철역, 학교, 정류장 등)
+ */
+public final class GeoGridIndex<T> {
+
+    private static final double METERS_PER_DEGREE = 111_000.0;
+
+    private final double cellMeters;
+    private final double cellLatDeg;
+    private final double cellLonDeg;
+
+    // 격자 칸 key 순으로 정렬된 좌표/대상
+    private final double[] lats;
+    private final double[] lons;
+    private final Object[] items;
+
+    // cellKeys[i] 칸의 대상은 [cellStart[i], cellStart[i + 1]) 구간
+    private final long[] cellKeys;
+    private final int[] cellStart;
+
+    private GeoGridIndex(double cellMeters, double cellLatDeg, double cellLonDeg,
+                         double[] lats, double[] lons, Object[] items,
+                         long[] cellKeys, int[] cellStart) {
+        this.cellMeters = cellMeters;
+        this.cellLatDeg = cellLatDeg;
+        this.cellLonDeg = cellLonDeg;
+        this.lats = lats;
+        this.lons = lons;
+        this.items = items;
+        this.cellKeys = cellKeys;
+        this.cellStart = cellStart;
+    }
+
+    /**
+     * 좌표가 null 인 대상은 제외하고 인덱스를 만든다.
+     *
+     * @param cellMeters 격자 한 칸의 크기(m). 주로 검색 반경과 비슷하게 설정
+     */
+    public static <T> GeoGridIndex<T> build(Collection<? extends T> source,
+                                            Function<? super T, Double> latitude,
+                                            Function<? super T, Double> longitude,
+                                            double cellMeters) {
+        if (cellMeters <= 0) {
+            throw new IllegalArgumentException("cellMeters must be positive");
+        }
+
+        List<T> valid = new ArrayList<>(source.size());
+        double latSum = 0;
+        for (T item : source) {
+            if (item == null) continue;
+            Double lat = latitude.apply(item);
+            Double lon = longitude.apply(item);
+            if (lat == null || lon == null) continue;
+            valid.add(item);
+            latSum += lat;
+        }
+
+        // 경도 방향 칸 크기는 평균 위도 기준 (국내 범위에서는 오차가 작다)
+        double refLat = valid.isEmpty() ? 0 : latSum / valid.size();
+        double cellLatDeg = cellMeters / METERS_PER_DEGREE;
+        double cellLonDeg = cellMeters / (METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(refLat))));
+
+        int n = valid.size();
+        long[] keyOf = new long[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            T item = valid.get(i);
+            keyOf[i] = cellKey(row(latitude.apply(item), cellLatDeg), col(longitude.apply(item), cellLonDeg));
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> keyOf[i]));
+
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        Object[] items = new Object[n];
+        long[] keys = new long[n];
+        int[] starts = new int[n + 1];
+        int cells = 0;
+
+        for (int pos = 0; pos < n; pos++) {
+            int i = order[pos];
+            T item = valid.get(i);
+            lats[pos] = latitude.apply(item);
+            lons[pos] = longitude.apply(item);
+            items[pos] = item;
+
+            if (cells == 0 || keys[cells - 1] != keyOf[i]) {
+                keys[cells] = keyOf[i];
+                starts[cells] = pos;
+                cells++;
+            }
+        }
+        starts[cells] = n;
+
+        return new GeoGridIndex<>(cellMeters, cellLatDeg, cellLonDeg, lats, lons, items,
+                Arrays.copyOf(keys, cells), Arrays.copyOf(starts, cells + 1));
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * 반경(m) 이내 대상마다 consumer 호출 (순서 보장 없음, 리스트를 만들지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachWithin(double lat, double lon, double radiusMeters, WithinConsumer<? super T> consumer) {
+        if (items.length == 0) return;
+
+        GeoBox.BoundingBox box = GeoBox.boundingBox(lat, lon, radiusMeters);
+        long minRow = row(box.minLat(), cellLatDeg);
+        long maxRow = row(box.maxLat(), cellLatDeg);
+        long minCol = col(box.minLon(), cellLonDeg);
+        long maxCol = col(box.maxLon(), cellLonDeg);
+
+        for (long r = minRow; r <= maxRow; r++) {
+            // 같은 row 의 칸은 key 가 연속이므로 col 범위를 한 번에 훑는다
+            int from = lowerBound(cellKey(r, minCol));
+            long toKey = cellKey(r, maxCol);
+            for (int c = from; c < cellKeys.length && cellKeys[c] <= toKey; c++) {
+                for (int i = cellStart[c]; i < cellStart[c + 1]; i++) {
+                    double d = Haversine.distanceMeters(lat, lon, lats[i], lons[i]);
+                    if (d <= radiusMeters) {
+                        consumer.accept((T) items[i], d);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 반경(m) 이내 대상을 가까운 순으로 반환
+     */
+    public List<Neighbor<T>> within(double lat, double lon, double radiusMeters) {
+        List<Neighbor<T>> result = new ArrayList<>();
+        forEachWithin(lat, lon, radiusMeters, (item, d) -> result.add(new Neighbor<>(item, d)));
+        result.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+        return result;
+    }
+
+    /**
+     * 가까운 순으로 최대 k 개 (maxRadiusMeters 이내, filter 를 통과한 대상만)
+     * 격자 한 칸 크기 반경부터 2배씩 넓혀가며 k 개가 모이면 멈춘다.
+     * 반경 r 안에서 k 개를 찾았다면 r 밖의 대상은 모두 r 보다 멀므로 결과가 정확하다.
+     */
+    public List<Neighbor<T>> nearest(double lat, double lon, int k, double maxRadiusMeters,
+                                     Predicate<? super T> filter) {
+        if (k <= 0 || items.length == 0 || maxRadiusMeters <= 0) return List.of();
+
+        double radius = Math.min(cellMeters, maxRadiusMeters);
+        while (true) {
+            List<Neighbor<T>> found = new ArrayList<>();
+            forEachWithin(lat, lon, radius, (item, d) -> {
+                if (filter == null || filter.test(item)) {
+                    found.add(new Neighbor<>(item, d));
+                }
+            });
+
+            if (found.size() >= k || radius >= maxRadiusMeters) {
+                found.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+                return found.size() > k ? List.copyOf(found.subList(0, k)) : found;
+            }
+            radius = Math.min(radius * 2, maxRadiusMeters);
+        }
+    }
+
+    private int lowerBound(long key) {
+        int lo = 0;
+        int hi = cellKeys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cellKeys[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static long row(double lat, double cellLatDeg) {
+        return (long) Math.floor((lat + 90.0) / cellLatDeg);
+    }
+
+    private static long col(double lon, double cellLonDeg) {
+        return (long) Math.floor((lon + 180.0) / cellLonDeg);
+    }
+
+    // row 를 상위 32bit, col 을 하위 32bit 에 둔다 (둘 다 0 이상)
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    @FunctionalInterface
+    public interface WithinConsumer<T> {
+        void accept(T item, double distanceMeters);
+    }
+
+    public record Neighbor<T>(T item, double distanceMeters) {}
+}
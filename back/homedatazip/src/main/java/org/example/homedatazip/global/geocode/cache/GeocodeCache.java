@@ -0,0 +1,185 @@
+package org.example.homedatazip.global.geocode.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.global.geocode.dto.CoordinateInfoResponse;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주소 -> 좌표 변환 결과 캐시 (L1: 프로세스 LRU, L2: Redis)
+ * <br/>
+ * 배치를 다시 돌려도 이미 변환한 주소는 Kakao 를 호출하지 않는다.
+ * 찾지 못한 주소(negative)도 TTL 동안 캐시해서 같은 주소로 3번씩 재호출하지 않는다.
+ * Redis 장애 시에는 L1 만 사용하고 배치는 그대로 진행한다.
+ */
+@Slf4j
+@Component
+public class GeocodeCache {
+
+    private static final String KEY_PREFIX = "geocode:addr:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Duration negativeTtl;
+    private final Map<String, Entry> local;
+
+    private final GeocodeCacheCounters total = new GeocodeCacheCounters();
+    private final Map<Long, GeocodeCacheCounters> byStepExecution = new ConcurrentHashMap<>();
+
+    public GeocodeCache(StringRedisTemplate redis,
+                        ObjectMapper objectMapper,
+                        @Value("${geocode.cache.local-capacity:50000}") int localCapacity,
+                        @Value("${geocode.cache.negative-ttl-hours:72}") long negativeTtlHours) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.negativeTtl = Duration.ofHours(negativeTtlHours);
+        this.local = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > localCapacity;
+            }
+        });
+    }
+
+    /**
+     * 캐시 조회. 없거나 negative 가 만료됐으면 null
+     */
+    public Entry get(String addressKey) {
+        Entry entry = local.get(addressKey);
+        if (entry != null && !entry.isExpired()) {
+            record(entry.found() ? Hit.LOCAL : Hit.NEGATIVE);
+            return entry;
+        }
+
+        entry = readRedis(addressKey);
+        if (entry != null && !entry.isExpired()) {
+            local.put(addressKey, entry);
+            record(entry.found() ? Hit.REDIS : Hit.NEGATIVE);
+            return entry;
+        }
+
+        local.remove(addressKey);
+        record(Hit.MISS);
+        return null;
+    }
+
+    public void putFound(String addressKey, CoordinateInfoResponse response) {
+        Long regionId = response.region() != null ? response.region().getId() : null;
+        Entry entry = new Entry(true, regionId, response.jibunAddress(), response.roadAddress(),
+                response.latitude(), response.longitude(), 0L);
+        local.put(addressKey, entry);
+        writeRedis(addressKey, entry, null);
+    }
+
+    public void putNotFound(String addressKey) {
+        Entry entry = new Entry(false, null, null, null, null, null,
+                System.currentTimeMillis() + negativeTtl.toMillis());
+        local.put(addressKey, entry);
+        writeRedis(addressKey, entry, negativeTtl);
+    }
+
+    public GeocodeCacheCounters.Snapshot totalSnapshot() {
+        return total.snapshot();
+    }
+
+    /**
+     * Step 종료 시 해당 Step 에서 누적된 카운터를 꺼낸다. (GeocodeCacheStepListener)
+     */
+    public GeocodeCacheCounters.Snapshot drainStep(Long stepExecutionId) {
+        GeocodeCacheCounters counters = stepExecutionId == null ? null : byStepExecution.remove(stepExecutionId);
+        return counters == null ? new GeocodeCacheCounters().snapshot() : counters.snapshot();
+    }
+
+    /**
+     * 캐시 키: 시군구코드 + 동 + 지번 + 도로명 + 아파트명 (공백/대소문자/앞자리 0 정규화)
+     */
+    public static String addressKey(String sggCode, String dong, String jibun, String apartmentName,
+                                    String roadNm, String roadNmBonbun, String roadNmBubun) {
+        return Stream.of(
+                        normalize(sggCode),
+                        normalize(dong),
+                        normalizeNumber(jibun),
+                        normalize(roadNm),
+                        normalizeNumber(roadNmBonbun),
+                        normalizeNumber(roadNmBubun),
+                        normalize(apartmentName))
+                .collect(Collectors.joining("|"));
+    }
+
+    private static String normalize(String s) {
+        if (s == null) return "";
+        String t = s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return "null".equals(t) ? "" : t;
+    }
+
+    private static String normalizeNumber(String s) {
+        String t = normalize(s).replaceAll("(^|[^0-9])0+(?=[0-9])", "$1");
+        return "0".equals(t) ? "" : t;
+    }
+
+    private void record(Hit hit) {
+        total.record(hit);
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context != null) {
+            byStepExecution
+                    .computeIfAbsent(context.getStepExecution().getId(), id -> new GeocodeCacheCounters())
+                    .record(hit);
+        }
+    }
+
+    private Entry readRedis(String addressKey) {
+        try {
+            String json = redis.opsForValue().get(KEY_PREFIX + addressKey);
+            return json == null ? null : objectMapper.readValue(json, Entry.class);
+        } catch (Exception e) {
+            log.warn("[GEO-CACHE] Redis 조회 실패 - key={}, err={}", addressKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String addressKey, Entry entry, Duration ttl) {
+        try {
+            String json = objectMapper.writeValueAsString(entry);
+            if (ttl == null) {
+                redis.opsForValue().set(KEY_PREFIX + addressKey, json);
+            } else {
+                redis.opsForValue().set(KEY_PREFIX + addressKey, json, ttl);
+            }
+        } catch (Exception e) {
+            log.warn("[GEO-CACHE] Redis 저장 실패 - key={}, err={}", addressKey, e.getMessage());
+        }
+    }
+
+    enum Hit {LOCAL, REDIS, NEGATIVE, MISS}
+
+    /**
+     * @param found     false 면 negative 캐시 (expiresAt 이후 만료)
+     * @param expiresAt epoch millis, 0 이면 만료 없음
+     */
+    public record Entry(
+            boolean found,
+            Long regionId,
+            String jibunAddress,
+            String roadAddress,
+            Double latitude,
+            Double longitude,
+            long expiresAt
+    ) {
+        boolean isExpired() {
+            return expiresAt > 0 && expiresAt < System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.homedatazip.global.geocode.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지오코딩 캐시 hit/miss 카운터
+ */
+public class GeocodeCacheCounters {
+
+    private final LongAdder localHit = new LongAdder();
+    private final LongAdder redisHit = new LongAdder();
+    private final LongAdder negativeHit = new LongAdder();
+    private final LongAdder miss = new LongAdder();
+
+    void record(GeocodeCache.Hit hit) {
+        switch (hit) {
+            case LOCAL -> localHit.increment();
+            case REDIS -> redisHit.increment();
+            case NEGATIVE -> negativeHit.increment();
+            case MISS -> miss.increment();
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(localHit.sum(), redisHit.sum(), negativeHit.sum(), miss.sum());
+    }
+
+    /**
+     * @param miss 캐시에 없어 Kakao 를 호출한 횟수
+     */
+    public record Snapshot(long localHit, long redisHit, long negativeHit, long miss) {
+        public long hit() {
+            return localHit + redisHit + negativeHit;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.homedatazip.global.geocode.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Step 별 지오코딩 캐시 hit/miss 를 Step ExecutionContext 에 기록한다. (BATCH_STEP_EXECUTION_CONTEXT)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeocodeCacheStepListener implements StepExecutionListener {
+
+    private final GeocodeCache geocodeCache;
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        GeocodeCacheCounters.Snapshot s = geocodeCache.drainStep(stepExecution.getId());
+
+        ExecutionContext ctx = stepExecution.getExecutionContext();
+        ctx.putLong("geocodeCache.localHit", s.localHit());
+        ctx.putLong("geocodeCache.redisHit", s.redisHit());
+        ctx.putLong("geocodeCache.negativeHit", s.negativeHit());
+        ctx.putLong("geocodeCache.miss", s.miss());
+
+        log.info("[GEO-CACHE] step={} hit={} (local={}, redis={}, negative={}), miss(API 호출)={}",
+                stepExecution.getStepName(), s.hit(), s.localHit(), s.redisHit(), s.negativeHit(), s.miss());
+        return null;
+    }
+}
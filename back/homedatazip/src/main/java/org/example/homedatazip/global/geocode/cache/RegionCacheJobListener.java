@@ -0,0 +1,21 @@
+package org.example.homedatazip.global.geocode.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.global.geocode.service.GeoService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/** 지역 Job 종료 후 GeoService 의 지역 캐시를 비워 바뀐 지역 데이터를 다시 읽게 한다 */
+@Component
+@RequiredArgsConstructor
+public class RegionCacheJobListener implements JobExecutionListener {
+
+    private final GeoService geoService;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        // 실패한 Job 이라도 이미 커밋된 청크가 있을 수 있으므로 항상 비운다
+        geoService.clearRegionCache();
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.homedatazip.global.geocode.reverse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.global.geo.GeoGridIndex;
+import org.example.homedatazip.global.geo.GeoGridIndex.Neighbor;
+import org.example.homedatazip.global.geocode.reverse.ReverseGeocodeJdbcRepository.LabeledPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좌표 → 법정동(regionId) 오프라인 추정
+ * <br/>
+ * 이미 지역이 매칭된 좌표(아파트·정류장·병원·학교·지하철역)를 격자 인덱스에 올려두고,
+ * 주변 표본의 지역으로 판단한다. 확신이 없으면 null → 호출 측(GeoService)이 Kakao 로 확인한다.
+ * <ul>
+ *   <li>경계 파일이 있으면: 주변 표본에 나온 지역 중 경계 안에 좌표가 들어가는 지역으로 확정</li>
+ *   <li>없으면: 가장 가까운 표본이 max-nearest-meters 이내, 표본 min-neighbors 개 이상,
+ *       거리 역수 가중 투표에서 한 지역이 min-agreement 이상일 때만 확정</li>
+ * </ul>
+ * 인덱스는 지역 매칭 배치 시작 시(ReverseGeocoderJobListener) 다시 만든다.
+ */
+@Slf4j
+@Component
+public class OfflineReverseGeocoder {
+
+    private static final double CELL_METERS = 500.0;
+    private static final double MIN_WEIGHT_DISTANCE = 10.0;
+
+    private final ReverseGeocodeJdbcRepository reverseGeocodeJdbcRepository;
+    private final RegionBoundaryReader regionBoundaryReader;
+
+    private final int neighbors;
+    private final double searchRadiusMeters;
+    private final double maxNearestMeters;
+    private final int minNeighbors;
+    private final double minAgreement;
+
+    private final Object rebuildLock = new Object();
+    private volatile Snapshot snapshot;
+
+    private final LongAdder resolved = new LongAdder();
+    private final LongAdder lowConfidence = new LongAdder();
+
+    private record Snapshot(GeoGridIndex<LabeledPoint> points, Map<Long, List<RegionPolygon>> boundaries) {}
+
+    public record Stats(long resolved, long lowConfidence) {}
+
+    public OfflineReverseGeocoder(ReverseGeocodeJdbcRepository reverseGeocodeJdbcRepository,
+                                  RegionBoundaryReader regionBoundaryReader,
+                                  @Value("${geocode.reverse.neighbors:8}") int neighbors,
+                                  @Value("${geocode.reverse.search-radius-meters:500}") double searchRadiusMeters,
+                                  @Value("${geocode.reverse.max-nearest-meters:200}") double maxNearestMeters,
+                                  @Value("${geocode.reverse.min-neighbors:3}") int minNeighbors,
+                                  @Value("${geocode.reverse.min-agreement:0.9}") double minAgreement) {
+        this.reverseGeocodeJdbcRepository = reverseGeocodeJdbcRepository;
+        this.regionBoundaryReader = regionBoundaryReader;
+        this.neighbors = neighbors;
+        this.searchRadiusMeters = searchRadiusMeters;
+        this.maxNearestMeters = maxNearestMeters;
+        this.minNeighbors = minNeighbors;
+        this.minAgreement = minAgreement;
+    }
+
+    /**
+     * @return 확신할 수 있으면 regionId, 아니면 null
+     */
+    public Long resolve(double lat, double lon) {
+        Long regionId = estimate(current(), lat, lon);
+        (regionId != null ? resolved : lowConfidence).increment();
+        return regionId;
+    }
+
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            snapshot = load();
+        }
+    }
+
+    /** 누적 건수를 돌려주고 0 으로 초기화 (Job 종료 로그용) */
+    public Stats drainStats() {
+        return new Stats(resolved.sumThenReset(), lowConfidence.sumThenReset());
+    }
+
+    private Long estimate(Snapshot s, double lat, double lon) {
+        List<Neighbor<LabeledPoint>> near = s.points().nearest(lat, lon, neighbors, searchRadiusMeters, null);
+        if (near.isEmpty()) return null;
+
+        if (!s.boundaries().isEmpty()) {
+            Set<Long> candidates = new LinkedHashSet<>();
+            near.forEach(n -> candidates.add(n.item().regionId()));
+            for (Long regionId : candidates) {
+                if (contains(s, regionId, lat, lon)) return regionId;
+            }
+        }
+
+        if (near.size() < minNeighbors || near.getFirst().distanceMeters() > maxNearestMeters) return null;
+
+        Map<Long, Double> votes = new HashMap<>();
+        double total = 0;
+        for (Neighbor<LabeledPoint> n : near) {
+            double w = 1.0 / Math.max(n.distanceMeters(), MIN_WEIGHT_DISTANCE);
+            votes.merge(n.item().regionId(), w, Double::sum);
+            total += w;
+        }
+
+        Map.Entry<Long, Double> best = null;
+        for (Map.Entry<Long, Double> e : votes.entrySet()) {
+            if (best == null || e.getValue() > best.getValue()) best = e;
+        }
+        if (best.getValue() / total < minAgreement) return null;
+
+        // 경계가 있는 지역인데 경계 밖이면 투표 결과를 믿지 않는다
+        if (s.boundaries().containsKey(best.getKey()) && !contains(s, best.getKey(), lat, lon)) return null;
+        return best.getKey();
+    }
+
+    private static boolean contains(Snapshot s, Long regionId, double lat, double lon) {
+        List<RegionPolygon> polygons = s.boundaries().get(regionId);
+        if (polygons == null) return false;
+        for (RegionPolygon p : polygons) {
+            if (p.contains(lat, lon)) return true;
+        }
+        return false;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) return s;
+
+        synchronized (rebuildLock) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.currentTimeMillis();
+        List<LabeledPoint> points = reverseGeocodeJdbcRepository.findLabeledPoints();
+        Map<Long, List<RegionPolygon>> boundaries =
+                regionBoundaryReader.read(reverseGeocodeJdbcRepository.findRegionIdsByLawdCode());
+
+        Snapshot loaded = new Snapshot(
+                GeoGridIndex.build(points, LabeledPoint::latitude, LabeledPoint::longitude, CELL_METERS),
+                boundaries
+        );
+        log.info("[REVERSE-GEO] 인덱스 적재 - points={}, boundaryRegions={}, {}ms",
+                loaded.points().size(), boundaries.size(), System.currentTimeMillis() - start);
+        return loaded;
+    }
+}
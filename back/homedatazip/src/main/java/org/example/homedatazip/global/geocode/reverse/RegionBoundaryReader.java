@@ -0,0 +1,109 @@
+package org.example.homedatazip.global.geocode.reverse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 법정동 경계 파일(GeoJSON, WGS84) 읽기 - 선택 사항
+ * <br/>
+ * feature 의 code-property 값(예: EMD_CD 8자리)을 10자리 법정동 코드로 맞춰 region 과 연결한다.
+ * 파일이 없거나 읽지 못하면 빈 맵을 돌려주고, 역지오코딩은 주변 표본만으로 판단한다.
+ */
+@Slf4j
+@Component
+public class RegionBoundaryReader {
+
+    private final ObjectMapper objectMapper;
+    private final String boundaryFile;
+    private final String codeProperty;
+
+    public RegionBoundaryReader(ObjectMapper objectMapper,
+                                @Value("${geocode.reverse.boundary-file:}") String boundaryFile,
+                                @Value("${geocode.reverse.boundary-code-property:EMD_CD}") String codeProperty) {
+        this.objectMapper = objectMapper;
+        this.boundaryFile = boundaryFile;
+        this.codeProperty = codeProperty;
+    }
+
+    /** regionId → 경계 폴리곤 목록 */
+    public Map<Long, List<RegionPolygon>> read(Map<String, Long> regionIdByLawdCode) {
+        if (!StringUtils.hasText(boundaryFile)) return Map.of();
+
+        Path path = Path.of(boundaryFile);
+        if (!Files.isReadable(path)) {
+            log.warn("[REVERSE-GEO] 경계 파일을 읽을 수 없음 - {}", path);
+            return Map.of();
+        }
+
+        try {
+            JsonNode root = objectMapper.readTree(path.toFile());
+            Map<Long, List<RegionPolygon>> result = new HashMap<>();
+            int unmatched = 0;
+
+            for (JsonNode feature : root.path("features")) {
+                String code = feature.path("properties").path(codeProperty).asText("");
+                Long regionId = regionIdByLawdCode.get(toLawdCode(code));
+                if (regionId == null) {
+                    unmatched++;
+                    continue;
+                }
+                List<RegionPolygon> polygons = result.computeIfAbsent(regionId, k -> new ArrayList<>());
+                readGeometry(feature.path("geometry"), polygons);
+            }
+
+            log.info("[REVERSE-GEO] 경계 파일 적재 - regions={}, 미매칭 feature={}", result.size(), unmatched);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            log.warn("[REVERSE-GEO] 경계 파일 파싱 실패 - {}, err={}", path, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    // 시군구(5) + 읍면동(3) 코드면 리(2) 자리를 00 으로 채운다
+    private static String toLawdCode(String code) {
+        String digits = code.trim();
+        if (digits.length() >= 10) return digits.substring(0, 10);
+        return digits + "0".repeat(10 - digits.length());
+    }
+
+    private static void readGeometry(JsonNode geometry, List<RegionPolygon> out) {
+        String type = geometry.path("type").asText("");
+        JsonNode coordinates = geometry.path("coordinates");
+        switch (type) {
+            case "Polygon" -> addPolygon(coordinates, out);
+            case "MultiPolygon" -> coordinates.forEach(p -> addPolygon(p, out));
+            default -> { }
+        }
+    }
+
+    // GeoJSON 좌표는 [경도, 위도]
+    private static void addPolygon(JsonNode rings, List<RegionPolygon> out) {
+        if (!rings.isArray() || rings.isEmpty() || rings.get(0).size() < 3) return;
+
+        List<double[]> lats = new ArrayList<>(rings.size());
+        List<double[]> lons = new ArrayList<>(rings.size());
+        for (JsonNode ring : rings) {
+            double[] ringLats = new double[ring.size()];
+            double[] ringLons = new double[ring.size()];
+            for (int i = 0; i < ring.size(); i++) {
+                ringLons[i] = ring.get(i).get(0).asDouble();
+                ringLats[i] = ring.get(i).get(1).asDouble();
+            }
+            lats.add(ringLats);
+            lons.add(ringLons);
+        }
+        out.add(new RegionPolygon(lats, lons));
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.homedatazip.global.geocode.reverse;
+
+import java.util.List;
+
+/**
+ * 법정동 경계 폴리곤 1개 (첫 링은 외곽, 나머지는 구멍). 좌표는 WGS84 위·경도
+ * 링마다 double[] 로 들고 있고, bbox 로 먼저 걸러낸 뒤 ray casting 으로 포함 여부를 판단한다.
+ */
+final class RegionPolygon {
+
+    private final double[][] ringLats;
+    private final double[][] ringLons;
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+
+    RegionPolygon(List<double[]> lats, List<double[]> lons) {
+        this.ringLats = lats.toArray(double[][]::new);
+        this.ringLons = lons.toArray(double[][]::new);
+
+        double[] outerLats = ringLats[0];
+        double[] outerLons = ringLons[0];
+        double aMin = Double.MAX_VALUE, aMax = -Double.MAX_VALUE;
+        double oMin = Double.MAX_VALUE, oMax = -Double.MAX_VALUE;
+        for (int i = 0; i < outerLats.length; i++) {
+            aMin = Math.min(aMin, outerLats[i]);
+            aMax = Math.max(aMax, outerLats[i]);
+            oMin = Math.min(oMin, outerLons[i]);
+            oMax = Math.max(oMax, outerLons[i]);
+        }
+        this.minLat = aMin;
+        this.maxLat = aMax;
+        this.minLon = oMin;
+        this.maxLon = oMax;
+    }
+
+    boolean contains(double lat, double lon) {
+        if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) return false;
+        if (!inRing(ringLats[0], ringLons[0], lat, lon)) return false;
+        for (int r = 1; r < ringLats.length; r++) {
+            if (inRing(ringLats[r], ringLons[r], lat, lon)) return false;
+        }
+        return true;
+    }
+
+    private static boolean inRing(double[] lats, double[] lons, double lat, double lon) {
+        boolean inside = false;
+        for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+            if ((lats[i] > lat) != (lats[j] > lat)
+                    && lon < (lons[j] - lons[i]) * (lat - lats[i]) / (lats[j] - lats[i]) + lons[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+}
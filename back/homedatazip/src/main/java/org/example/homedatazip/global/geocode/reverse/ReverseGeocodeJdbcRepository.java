@@ -0,0 +1,58 @@
+package org.example.homedatazip.global.geocode.reverse;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 역지오코딩용 조회
+ * 이미 지역이 매칭된 아파트·정류장·병원·학교·지하철역 좌표를 "정답 표본"으로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReverseGeocodeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final List<String> LABELED_TABLES = List.of(
+            "apartments", "bus_station", "hospital", "school", "subway_stations");
+
+    private static final String LABELED_SQL = """
+            SELECT latitude, longitude, region_id
+            FROM %s
+            WHERE region_id IS NOT NULL
+              AND latitude IS NOT NULL
+              AND longitude IS NOT NULL
+            """;
+
+    /** 좌표 + regionId */
+    public record LabeledPoint(double latitude, double longitude, long regionId) {}
+
+    public List<LabeledPoint> findLabeledPoints() {
+        List<LabeledPoint> points = new ArrayList<>();
+        for (String table : LABELED_TABLES) {
+            jdbcTemplate.query(LABELED_SQL.formatted(table), rs -> {
+                points.add(new LabeledPoint(
+                        rs.getDouble("latitude"),
+                        rs.getDouble("longitude"),
+                        rs.getLong("region_id")
+                ));
+            });
+        }
+        return points;
+    }
+
+    /** lawd_code(10자리) → region.id */
+    public Map<String, Long> findRegionIdsByLawdCode() {
+        Map<String, Long> result = new HashMap<>();
+        jdbcTemplate.query("SELECT id, lawd_code FROM region", rs -> {
+            result.put(rs.getString("lawd_code"), rs.getLong("id"));
+        });
+        return result;
+    }
+}
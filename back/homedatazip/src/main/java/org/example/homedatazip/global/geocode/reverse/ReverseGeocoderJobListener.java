@@ -0,0 +1,38 @@
+package org.example.homedatazip.global.geocode.reverse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지역 매칭 Job 시작 시 오프라인 역지오코딩 인덱스를 최신 표본으로 다시 만들고,
+ * 종료 시 오프라인 확정/Kakao 위임 건수를 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReverseGeocoderJobListener implements JobExecutionListener {
+
+    private final OfflineReverseGeocoder offlineReverseGeocoder;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        try {
+            offlineReverseGeocoder.rebuild();
+        } catch (Exception e) {
+            // 이전 인덱스가 있으면 그대로, 없으면 첫 조회 때 다시 시도
+            log.error("[REVERSE-GEO] 인덱스 갱신 실패 - job={}", jobExecution.getJobInstance().getJobName(), e);
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        OfflineReverseGeocoder.Stats stats = offlineReverseGeocoder.drainStats();
+        jobExecution.getExecutionContext().putLong("reverseGeocode.offline", stats.resolved());
+        jobExecution.getExecutionContext().putLong("reverseGeocode.kakao", stats.lowConfidence());
+        log.info("[REVERSE-GEO] job={} 오프라인 확정={}, Kakao 위임={}",
+                jobExecution.getJobInstance().getJobName(), stats.resolved(), stats.lowConfidence());
+    }
+}
@@ -8,13 +8,18 @@ import org.example.homedatazip.global.exception.BatchRetryException;
 import org.example.homedatazip.global.exception.BatchSkipException;
 import org.example.homedatazip.global.exception.domain.GeoErrorCode;
 import org.example.homedatazip.global.exception.domain.RegionErrorCode;
+import org.example.homedatazip.global.geocode.cache.GeocodeCache;
 import org.example.homedatazip.global.geocode.dto.*;
+import org.example.homedatazip.global.geocode.reverse.OfflineReverseGeocoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -26,24 +31,29 @@ public class GeoService {
 
     private final KakaoApiClient kakaoApiClient;
     private final RegionRepository regionRepository;
+    private final GeocodeCache geocodeCache;
+    private final OfflineReverseGeocoder offlineReverseGeocoder;
+
+    // 지역 조회 캐시 (sggCode|dong -> Region, id -> Region). 지역 데이터는 주 1회 배치로만 바뀐다.
+    // 찾은 지역만 담고, 지역 Job 이 끝나면 비운다 (RegionCacheJobListener)
+    private final Map<String, Region> regionBySggDong = new ConcurrentHashMap<>();
+    private final Map<Long, Region> regionById = new ConcurrentHashMap<>();
 
     public CoordinateInfoResponse convertCoordinateInfo(
             String dong, String jibun, String sggCode, String apartmentName,
             String roadNm, String roadNmBonbun, String roadNmBubun) {
 
-        // API 초당 호출 제한 방지
-        try {
-            Thread.sleep(50);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        // API 초당 호출 제한은 KakaoApiClient(ApiRateLimiter)에서 처리
+
+        // 이미 변환한 주소면 Kakao 호출 없이 반환
+        String cacheKey = GeocodeCache.addressKey(sggCode, dong, jibun, apartmentName, roadNm, roadNmBonbun, roadNmBubun);
+        GeocodeCache.Entry cached = geocodeCache.get(cacheKey);
+        if (cached != null) {
+            return fromCache(cached, apartmentName);
         }
 
         // 지역 정보 조회 및 기본 검증
-        Region region = regionRepository.findBySggCodeAndDong(sggCode, dong)
-                .orElseGet(() -> {
-                    log.warn("동 매칭 실패: {} {}, '구' 단위로 대체함", sggCode, dong);
-                    return regionRepository.findBySggCode(sggCode).stream().findFirst().orElse(null);
-                });
+        Region region = findRegion(sggCode, dong);
 
         if (region == null) {
             log.warn(">>> [SKIPPED] 지역 정보(Region)를 찾을 수 없습니다. sggCode={}", sggCode);
@@ -86,6 +96,7 @@ public class GeoService {
 
             if (isEmpty(response)) {
                 log.warn(">>> [FAILED] 좌표 찾기 실패: {} (지번주소: {})", apartmentName, jibunAddressSearch);
+                geocodeCache.putNotFound(cacheKey);
                 throw new BatchSkipException(GeoErrorCode.RESPONSE_NOT_FOUND);
             }
 
@@ -103,13 +114,60 @@ public class GeoService {
             String finalJibunAddress = (document.address() != null)
                     ? document.address().addressName() : jibunAddressSearch;
 
-            return CoordinateInfoResponse.create(region, finalJibunAddress, finalRoadAddress, latitude, longitude);
+            CoordinateInfoResponse result =
+                    CoordinateInfoResponse.create(region, finalJibunAddress, finalRoadAddress, latitude, longitude);
+            geocodeCache.putFound(cacheKey, result);
+            return result;
 
         } catch (Exception e) {
             throw handleApiException(e, apartmentName);
         }
     }
 
+    private CoordinateInfoResponse fromCache(GeocodeCache.Entry cached, String apartmentName) {
+        if (!cached.found()) {
+            log.debug(">>> [CACHED-FAILED] 좌표 찾기 실패 캐시: {}", apartmentName);
+            throw new BatchSkipException(GeoErrorCode.RESPONSE_NOT_FOUND);
+        }
+
+        Region region = cached.regionId() == null ? null
+                : findRegionById(cached.regionId());
+        if (region == null) {
+            throw new BatchSkipException(RegionErrorCode.REGION_NOT_FOUND);
+        }
+
+        return CoordinateInfoResponse.create(region, cached.jibunAddress(), cached.roadAddress(),
+                cached.latitude(), cached.longitude());
+    }
+
+    private Region findRegion(String sggCode, String dong) {
+        // 못 찾은 결과는 담지 않는다 (지역 배치 후 다시 조회)
+        return regionBySggDong.computeIfAbsent(sggCode + "|" + dong, k -> {
+            Region region = regionRepository.findBySggCodeAndDong(sggCode, dong)
+                    .or(() -> {
+                        log.warn("동 매칭 실패: {} {}, '구' 단위로 대체함", sggCode, dong);
+                        return regionRepository.findBySggCode(sggCode).stream().findFirst();
+                    })
+                    .orElse(null);
+            if (region != null) {
+                regionById.putIfAbsent(region.getId(), region);
+            }
+            return region;
+        });
+    }
+
+    private Region findRegionById(Long regionId) {
+        return regionById.computeIfAbsent(regionId, id -> regionRepository.findById(id).orElse(null));
+    }
+
+    /** 지역 캐시 비우기 (지역 Job 종료 후) */
+    public void clearRegionCache() {
+        int size = regionBySggDong.size() + regionById.size();
+        regionBySggDong.clear();
+        regionById.clear();
+        log.info("[GEO] 지역 캐시 초기화 - {}건", size);
+    }
+
     // 로직 분리
     private String buildRoadAddress(String sido, String gugun, String roadNm, String bonbun, String bubun) {
         if (roadNm == null || roadNm.trim().isEmpty()) return null;
@@ -224,6 +282,19 @@ public class GeoService {
         }
     }
 
+    /**
+     * 좌표로 지역 찾기 (Kakao 호출 없음)
+     * 주변에 이미 매칭된 좌표로 확신할 수 없으면 empty → convertAddressInfo 로 확인
+     */
+    public Optional<Region> findRegionOffline(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) return Optional.empty();
+
+        Long regionId = offlineReverseGeocoder.resolve(latitude, longitude);
+        if (regionId == null) return Optional.empty();
+
+        return Optional.ofNullable(findRegionById(regionId));
+    }
+
     // 좌표로 주소변환
     public Region convertAddressInfo(Double latitude, Double longitude) {
 
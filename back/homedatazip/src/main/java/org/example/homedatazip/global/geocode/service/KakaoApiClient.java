@@ -2,6 +2,8 @@ package org.example.homedatazip.global.geocode.service;
 
 import org.example.homedatazip.global.geocode.dto.GeoAddressResponse;
 import org.example.homedatazip.global.geocode.dto.GeoCoordinateResponse;
+import org.example.homedatazip.global.ratelimit.ApiEndpoint;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
@@ -10,10 +12,13 @@ import org.springframework.web.client.RestClient;
 public class KakaoApiClient {
 
     private final RestClient restClient;
+    private final ApiRateLimiter apiRateLimiter;
 
     public KakaoApiClient(@Value("${kakao.api.key}") String key,
-                          @Value("${kakao.api.url}") String url)
+                          @Value("${kakao.api.url}") String url,
+                          ApiRateLimiter apiRateLimiter)
     {
+        this.apiRateLimiter = apiRateLimiter;
         this.restClient = RestClient.builder()
                 .baseUrl(url)
                 .defaultHeader("Authorization", "KakaoAK " + key)
@@ -22,35 +27,35 @@ public class KakaoApiClient {
 
     // 주소로 좌표 변환
     public GeoCoordinateResponse getCoordinateByAddress(String address) {
-        return restClient.get()
+        return apiRateLimiter.execute(ApiEndpoint.KAKAO_LOCAL, () -> restClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/v2/local/search/address.json")
                         .queryParam("query", address)
                         .build())
                 .retrieve()
-                .body(GeoCoordinateResponse.class);
+                .body(GeoCoordinateResponse.class));
     }
 
     // 좌표로 주소 변환
     public GeoAddressResponse getAddressByCoordinate(Double latitude, Double longitude) {
-        return restClient.get()
+        return apiRateLimiter.execute(ApiEndpoint.KAKAO_LOCAL, () -> restClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/v2/local/geo/coord2regioncode.json")
                         .queryParam("x", longitude) // 경도
                         .queryParam("y", latitude) // 위도
                         .build())
                 .retrieve()
-                .body(GeoAddressResponse.class);
+                .body(GeoAddressResponse.class));
     }
 
     // 키워드로 좌표 변환 (아파트 이름 검색용)
     public GeoCoordinateResponse getCoordinateByKeyword(String keyword) {
-        return restClient.get()
+        return apiRateLimiter.execute(ApiEndpoint.KAKAO_LOCAL, () -> restClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/v2/local/search/keyword.json")
                         .queryParam("query", keyword)
                         .build())
                 .retrieve()
-                .body(GeoCoordinateResponse.class);
+                .body(GeoCoordinateResponse.class));
     }
 }
@@ -1,5 +1,6 @@
 package org.example.homedatazip.global.jwt.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -36,10 +37,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         String token = resolveToken(request);
 
-        if(token != null && jwtTokenizer.validateAccessToken(token)) {
-            String email = jwtTokenizer.getEmailFromAccessToken(token);
+        // 검증 + claim 추출을 한 번의 파싱으로
+        Claims claims = jwtTokenizer.verifyAccessToken(token).orElse(null);
 
-            var userDetails = customUserDetailsService.loadUserByUsername(email);
+        if(claims != null) {
+            // userId 기준 캐시 (권한 변경 시 evict) - 요청마다 DB 조회하지 않음
+            var userDetails = customUserDetailsService.loadUserByClaims(claims);
 
             var authentication = new UsernamePasswordAuthenticationToken(userDetails,
                     null,
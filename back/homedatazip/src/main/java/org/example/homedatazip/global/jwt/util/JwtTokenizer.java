@@ -2,8 +2,11 @@ package org.example.homedatazip.global.jwt.util;
 
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.global.jwt.property.JwtProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 
 
@@ -21,13 +25,27 @@ import java.util.List;
 public class JwtTokenizer {
     private final JwtProperties jwtProperties;
 
+    // 키/파서는 불변이고 스레드 안전하므로 한 번만 만든다 (요청마다 hmacShaKeyFor/parser build 하지 않음)
+    private SecretKey accessKey;
+    private SecretKey refreshKey;
+    private JwtParser accessParser;
+    private JwtParser refreshParser;
+
+    @PostConstruct
+    void init() {
+        accessKey = Keys.hmacShaKeyFor(jwtProperties.getAccessSecretKey());
+        refreshKey = Keys.hmacShaKeyFor(jwtProperties.getRefreshSecretKey());
+        accessParser = Jwts.parser().verifyWith(accessKey).build();
+        refreshParser = Jwts.parser().verifyWith(refreshKey).build();
+    }
+
     public String createRefreshToken(String email, List<String> roles, Long userId, String nickname) {
         return createToken(jwtProperties.getRefreshTokenExpiration(),
                 email,
                 roles,
                 userId,
                 nickname,
-                jwtProperties.getRefreshSecretKey());
+                refreshKey);
     }
 
     public String createAccessToken(String email, List<String> roles, Long userId, String nickname) {
@@ -36,15 +54,35 @@ public class JwtTokenizer {
                 roles,
                 userId,
                 nickname,
-                jwtProperties.getAccessSecretKey());
+                accessKey);
+    }
+
+    /**
+     * 서명/만료 검증과 claim 추출을 한 번에 한다. 유효하지 않으면 empty
+     * 요청당 한 번만 호출하고 필요한 값은 반환된 Claims 에서 꺼내 쓴다.
+     */
+    public Optional<Claims> verifyAccessToken(String token) {
+        return verify(accessParser, token);
+    }
+
+    public Optional<Claims> verifyRefreshToken(String token) {
+        return verify(refreshParser, token);
+    }
+
+    /** 검증된 Claims 에서 userId (없으면 null) */
+    public static Long userIdOf(Claims claims) {
+        Object userId = claims.get("userId");
+        if (userId instanceof Integer i) return i.longValue();
+        if (userId instanceof Long l) return l;
+        return null;
     }
 
     public Claims parseAccessToken(String token) {
-        return parseToken(token, jwtProperties.getAccessSecretKey());
+        return parseToken(token, accessParser);
     }
 
     public Claims parseRefreshToken(String token) {
-        return parseToken(token, jwtProperties.getRefreshSecretKey());
+        return parseToken(token, refreshParser);
     }
 
     public String getEmailFromRefreshToken(String token) {
@@ -55,11 +93,7 @@ public class JwtTokenizer {
     }
 
     public Long getUserIdFromAccessToken(String token) {
-        Object userId = parseAccessToken(token).get("userId");
-        if (userId == null) return null;
-        if (userId instanceof Integer) return ((Integer) userId).longValue();
-        if (userId instanceof Long) return (Long) userId;
-        return null;
+        return userIdOf(parseAccessToken(token));
     }
 
     public String getNicknameFromAccessToken(String token) {
@@ -67,25 +101,15 @@ public class JwtTokenizer {
     }
 
     public boolean validateAccessToken(String token) {
-        try{
-            parseAccessToken(token);
-            return true;
-        } catch(Exception e){
-            return false;
-        }
+        return verifyAccessToken(token).isPresent();
     }
 
     public boolean validateRefreshToken(String token) {
-        try{
-            parseRefreshToken(token);
-            return true;
-        } catch(Exception e){
-            return false;
-        }
+        return verifyRefreshToken(token).isPresent();
     }
 
 
-    private String createToken(Long expiration, String email, List<String> roles, Long userId, String nickname, byte[] secretKey) {
+    private String createToken(Long expiration, String email, List<String> roles, Long userId, String nickname, SecretKey secretKey) {
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + expiration);
 
@@ -100,16 +124,20 @@ public class JwtTokenizer {
         if (nickname != null && !nickname.isBlank()) {
             builder.claim("nickname", nickname);
         }
-        return builder.signWith(getKey(secretKey)).compact();
+        return builder.signWith(secretKey).compact();
     }
-    private SecretKey getKey(byte[] secretKey){return Keys.hmacShaKeyFor(secretKey);}
 
-    private Claims parseToken(String token, byte[] secretKey){
-        return Jwts.parser()
-                .verifyWith(getKey(secretKey))
-                .build()
-                .parseClaimsJws(token)
-                .getPayload();
+    private Claims parseToken(String token, JwtParser parser){
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private Optional<Claims> verify(JwtParser parser, String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+        try {
+            return Optional.of(parseToken(token, parser));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
 }
\ No newline at end of file
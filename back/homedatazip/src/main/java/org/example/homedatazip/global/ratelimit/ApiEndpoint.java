@@ -0,0 +1,30 @@
+package org.example.homedatazip.global.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API 호스트 단위 호출 예산
+ * <br/>
+ * 같은 호스트를 호출하는 Reader/Client 는 같은 endpoint 를 사용해서 초당 호출 수를 나눠 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ApiEndpoint {
+
+    // 공공데이터포털 (전월세/매매 실거래가, 병원, 학교)
+    DATA_GO_KR("apis.data.go.kr", 10, 10),
+
+    // 행정구역 (odcloud)
+    ODCLOUD("api.odcloud.kr", 5, 5),
+
+    // 서울 열린데이터광장 (버스 정류소)
+    SEOUL_OPENAPI("openapi.seoul.go.kr", 5, 5),
+
+    // 카카오 로컬 (주소 <-> 좌표)
+    KAKAO_LOCAL("dapi.kakao.com", 20, 20);
+
+    private final String host;
+    private final double permitsPerSecond;
+    private final int burst;
+}
@@ -0,0 +1,173 @@
+package org.example.homedatazip.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 공용 Rate Limiter + 429 재시도
+ * <br/>
+ * 호스트(ApiEndpoint)마다 토큰 버킷 하나를 두고 모든 Reader/Client 가 공유한다.
+ * 여러 Job 이 동시에 같은 호스트를 호출해도 초당 호출 수가 합산되어 제한된다.
+ * 본문으로만 제한 초과를 알리는 API(공공데이터포털)는 throttledResponse 로 판별해서 429 와 같이 처리한다.
+ */
+@Slf4j
+@Component
+public class ApiRateLimiter {
+
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long BASE_BACKOFF_MS = 1000L;
+    private static final long MAX_BACKOFF_MS = 30_000L;
+
+    private final Map<ApiEndpoint, TokenBucket> buckets = new EnumMap<>(ApiEndpoint.class);
+
+    public ApiRateLimiter() {
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            buckets.put(endpoint, new TokenBucket(endpoint.getPermitsPerSecond(), endpoint.getBurst()));
+        }
+    }
+
+    /**
+     * 토큰을 받은 뒤 호출하고, 429 면 backoff 후 재시도한다. (최대 MAX_ATTEMPTS 회)
+     */
+    public <T> T execute(ApiEndpoint endpoint, Supplier<T> call) {
+        return execute(endpoint, call, result -> false);
+    }
+
+    /**
+     * execute 와 같고, 응답이 throttledResponse 에 해당해도 429 처럼 backoff 후 재시도한다.
+     */
+    public <T> T execute(ApiEndpoint endpoint, Supplier<T> call, Predicate<? super T> throttledResponse) {
+        try {
+            return call(endpoint, () -> {
+                T result = call.get();
+                if (throttledResponse.test(result)) {
+                    throw new ApiThrottledException("응답 본문 호출 제한 초과 - endpoint=" + endpoint);
+                }
+                return result;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * checked exception 을 던지는 호출용
+     */
+    public <T> T call(ApiEndpoint endpoint, Callable<T> call) throws Exception {
+        TokenBucket bucket = buckets.get(endpoint);
+
+        for (int attempt = 1; ; attempt++) {
+            acquire(bucket);
+            try {
+                T result = call.call();
+                bucket.onSuccess();
+                return result;
+            } catch (Exception e) {
+                if (!isThrottled(e)) throw e;
+
+                long backoffMs = backoffMs(e, attempt);
+                bucket.onThrottled(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+                log.warn("[RATE-LIMIT] 호출 제한 초과 - endpoint={}, attempt={}/{}, backoff={}ms, rate={}/s",
+                        endpoint, attempt, MAX_ATTEMPTS, backoffMs, String.format("%.2f", bucket.currentRate()));
+
+                if (attempt >= MAX_ATTEMPTS) throw e;
+                bucket.retries.increment();
+            }
+        }
+    }
+
+    public List<Stats> stats() {
+        return Arrays.stream(ApiEndpoint.values())
+                .map(endpoint -> {
+                    TokenBucket b = buckets.get(endpoint);
+                    return new Stats(
+                            endpoint,
+                            endpoint.getPermitsPerSecond(),
+                            b.currentRate(),
+                            b.permitsGranted.sum(),
+                            TimeUnit.NANOSECONDS.toMillis(b.waitNanos.sum()),
+                            b.throttled.sum(),
+                            b.retries.sum());
+                })
+                .toList();
+    }
+
+    /**
+     * 429 Too Many Requests 또는 본문 제한 초과 여부 (RestClient / WebClient 모두, cause 까지 확인)
+     */
+    public static boolean isThrottled(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ApiThrottledException || statusOf(t) == 429) return true;
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    private static void acquire(TokenBucket bucket) {
+        try {
+            bucket.acquire();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("rate limiter 대기 중 인터럽트", ie);
+        }
+    }
+
+    private static long backoffMs(Exception e, int attempt) {
+        long retryAfterMs = retryAfterMs(e);
+        if (retryAfterMs > 0) return Math.min(retryAfterMs, MAX_BACKOFF_MS);
+
+        long exp = BASE_BACKOFF_MS << Math.min(attempt - 1, 5);
+        long jitter = ThreadLocalRandom.current().nextLong(250);
+        return Math.min(exp + jitter, MAX_BACKOFF_MS);
+    }
+
+    private static long retryAfterMs(Throwable e) {
+        HttpHeaders headers = null;
+        for (Throwable t = e; t != null && headers == null; t = t.getCause()) {
+            if (t instanceof RestClientResponseException re) headers = re.getResponseHeaders();
+            else if (t instanceof WebClientResponseException we) headers = we.getHeaders();
+            if (t.getCause() == t) break;
+        }
+        if (headers == null) return -1;
+
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) return -1;
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ignore) {
+            return -1; // HTTP-date 형식은 기본 backoff 사용
+        }
+    }
+
+    private static int statusOf(Throwable t) {
+        if (t instanceof RestClientResponseException re) return re.getStatusCode().value();
+        if (t instanceof WebClientResponseException we) return we.getStatusCode().value();
+        return -1;
+    }
+
+    public record Stats(
+            ApiEndpoint endpoint,
+            double configuredRate, // 설정된 초당 호출 수
+            double currentRate, // 429 반영 후 현재 초당 호출 수
+            long permitsGranted, // 허용된 호출 수
+            long waitMillis, // 토큰 대기 누적 시간
+            long throttled, // 429/제한 초과 응답 수신 횟수
+            long retries // 429/제한 초과 재시도 횟수
+    ) {
+    }
+}
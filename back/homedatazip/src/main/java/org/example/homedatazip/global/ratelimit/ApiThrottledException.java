@@ -0,0 +1,11 @@
+package org.example.homedatazip.global.ratelimit;
+
+/**
+ * HTTP 상태는 200 이지만 응답 본문이 호출 제한 초과를 알린 경우 (ApiRateLimiter 가 429 와 같이 backoff 후 재시도)
+ */
+public class ApiThrottledException extends RuntimeException {
+
+    public ApiThrottledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.homedatazip.global.ratelimit;
+
+/**
+ * 공공데이터포털 호출 제한 초과 판별
+ * <br/>
+ * 제한을 넘으면 HTTP 200 에 resultCode(returnReasonCode) 22 /
+ * LIMITED_NUMBER_OF_SERVICE_REQUESTS_(PER_SECOND_)EXCEEDS_ERROR 를 담아 보낸다.
+ */
+public final class DataGoKrQuota {
+
+    private static final String EXCEEDED_CODE = "22";
+    private static final String EXCEEDED_MESSAGE = "LIMITED_NUMBER_OF_SERVICE_REQUESTS";
+
+    private DataGoKrQuota() {
+    }
+
+    /** 응답 원문(XML/JSON) 기준 */
+    public static boolean isExceeded(String body) {
+        if (body == null || body.length() > 2000) return false; // 제한 초과 응답은 짧다, 정상 목록은 건너뜀
+        return body.contains(EXCEEDED_MESSAGE)
+                || body.contains("<resultCode>" + EXCEEDED_CODE + "</resultCode>")
+                || body.contains("<returnReasonCode>" + EXCEEDED_CODE + "</returnReasonCode>");
+    }
+
+    /** 파싱된 header.resultCode 기준 */
+    public static boolean isExceededCode(String resultCode) {
+        return resultCode != null && EXCEEDED_CODE.equals(resultCode.trim());
+    }
+}
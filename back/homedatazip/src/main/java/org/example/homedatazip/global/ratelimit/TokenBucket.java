@@ -0,0 +1,93 @@
+package org.example.homedatazip.global.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예약 방식 토큰 버킷
+ * <br/>
+ * 토큰이 없으면 음수로 예약해두고 그만큼 기다리게 해서, 동시에 들어온 호출도 호출 간격이 유지된다.
+ * 429 를 받으면 초당 허용량을 절반으로 줄이고(최소 minRate), 성공이 이어지면 조금씩 원래 값으로 되돌린다.
+ */
+class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int RECOVER_EVERY = 20; // 연속 성공 N회마다 허용량 회복
+
+    private final double maxRate;
+    private final double minRate;
+    private final double capacity;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+    private int successStreak;
+
+    final LongAdder permitsGranted = new LongAdder();
+    final LongAdder waitNanos = new LongAdder();
+    final LongAdder throttled = new LongAdder();
+    final LongAdder retries = new LongAdder();
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.maxRate = permitsPerSecond;
+        this.minRate = Math.max(0.2, permitsPerSecond / 16);
+        this.capacity = Math.max(1, burst);
+        this.rate = permitsPerSecond;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개를 받을 때까지 대기
+     */
+    void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            waitNanos.add(wait);
+        }
+        permitsGranted.increment();
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+        tokens -= 1;
+        long wait = tokens >= 0 ? 0L : (long) (-tokens / rate * NANOS_PER_SECOND);
+        return Math.max(wait, blockedUntilNanos - now);
+    }
+
+    synchronized void onSuccess() {
+        if (rate >= maxRate) return;
+        if (++successStreak >= RECOVER_EVERY) {
+            successStreak = 0;
+            refill(System.nanoTime());
+            rate = Math.min(maxRate, rate + maxRate * 0.1);
+        }
+    }
+
+    /**
+     * 429 수신: backoff 동안 모든 호출을 멈추고 허용량을 절반으로 줄인다.
+     */
+    synchronized void onThrottled(long backoffNanos) {
+        throttled.increment();
+        long now = System.nanoTime();
+        refill(now);
+        rate = Math.max(minRate, rate / 2);
+        tokens = Math.min(tokens, 0);
+        successStreak = 0;
+        blockedUntilNanos = Math.max(blockedUntilNanos, now + backoffNanos);
+    }
+
+    synchronized double currentRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) return;
+        tokens = Math.min(capacity, tokens + elapsed * rate / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.homedatazip.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 프로세스 로컬 TTL + LRU 캐시
+ * - maxSize 를 넘으면 가장 오래 안 쓴 항목 하나만 내보낸다 (전체를 비우지 않아 miss 가 한꺼번에 몰리지 않음)
+ * - ttlMillis 가 0 이하면 저장하지 않는다 (캐시 끔)
+ * - evict 는 지금 지우고, 트랜잭션 안이면 커밋 후 한 번 더 지운다 (커밋 전 다른 요청이 옛 값을 다시 넣는 경우 방지)
+ */
+public class TtlLruCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> map;
+
+    public TtlLruCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(Math.min(Math.max(maxSize, 16), 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** 없거나 만료됐으면 null */
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (map) {
+            Entry<V> entry = map.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt() < now) {
+                map.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        if (ttlMillis <= 0 || value == null) return;
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis() + ttlMillis);
+        synchronized (map) {
+            map.put(key, entry);
+        }
+    }
+
+    public void remove(K key) {
+        synchronized (map) {
+            map.remove(key);
+        }
+    }
+
+    public void evict(K key) {
+        remove(key);
+        afterCommit(() -> remove(key));
+    }
+
+    public void evictIf(Predicate<? super K> keyFilter) {
+        removeIf(keyFilter);
+        afterCommit(() -> removeIf(keyFilter));
+    }
+
+    private void removeIf(Predicate<? super K> keyFilter) {
+        synchronized (map) {
+            map.keySet().removeIf(keyFilter);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.homedatazip.hospital.dto;
 
 import org.example.homedatazip.hospital.entity.Hospital;
+import org.example.homedatazip.poi.dto.PoiHospital;
 
 public record HospitalResponse(
         String name,
@@ -19,4 +20,14 @@ public record HospitalResponse(
                 hospital.getLongitude()
         );
     }
+
+    public static HospitalResponse from(PoiHospital hospital) {
+        return new HospitalResponse(
+                hospital.name(),
+                hospital.typeName(),
+                hospital.address(),
+                hospital.latitude(),
+                hospital.longitude()
+        );
+    }
 }
@@ -0,0 +1,121 @@
+package org.example.homedatazip.hospital.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.hospital.entity.Hospital;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병원 일괄 UPSERT (hospital_id 기준)
+ * - chunk 의 기존 행을 IN 조회 1번으로 읽어 비교하고, 새 행/바뀐 행만 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 쓴다.
+ * - 바뀌지 않은 행은 쓰지 않는다.
+ * - 기존 행의 region_id 는 유지 (지역 매칭 Step 에서 채운 값)
+ */
+@Repository
+@RequiredArgsConstructor
+public class HospitalBulkRepository {
+
+    private static final int COLUMN_COUNT = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private static final String FIND_SQL = """
+            SELECT hospital_id, name, type_name, address, latitude, longitude
+            FROM hospital
+            WHERE hospital_id IN (:ids)
+            """;
+
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO hospital
+            (hospital_id, name, type_name, address, latitude, longitude, region_id)
+            VALUES
+            """;
+
+    private static final String UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                name      = VALUES(name),
+                type_name = VALUES(type_name),
+                address   = VALUES(address),
+                latitude  = VALUES(latitude),
+                longitude = VALUES(longitude)
+            """;
+
+    private static final String VALUES_ROW = "(" + "?, ".repeat(COLUMN_COUNT - 1) + "?)";
+
+    public record Result(int inserted, int updated, int unchanged) {}
+
+    private record Stored(String name, String typeName, String address, Double latitude, Double longitude) {}
+
+    public Result upsertAll(List<? extends Hospital> hospitals) {
+        // 같은 chunk 안에 같은 기관 ID 가 있으면 마지막 값
+        Map<String, Hospital> byId = new LinkedHashMap<>();
+        for (Hospital h : hospitals) {
+            if (h.getHospitalId() != null) {
+                byId.put(h.getHospitalId(), h);
+            }
+        }
+        if (byId.isEmpty()) return new Result(0, 0, 0);
+
+        Map<String, Stored> existing = findExisting(byId.keySet());
+
+        List<Hospital> targets = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        for (Hospital h : byId.values()) {
+            Stored stored = existing.get(h.getHospitalId());
+            if (stored == null) {
+                inserted++;
+                targets.add(h);
+            } else if (!stored.equals(toStored(h))) {
+                updated++;
+                targets.add(h);
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(targets.size(), VALUES_ROW)) + UPSERT_SUFFIX;
+            List<Object> args = new ArrayList<>(targets.size() * COLUMN_COUNT);
+            for (Hospital h : targets) {
+                args.add(h.getHospitalId());
+                args.add(h.getName());
+                args.add(h.getTypeName());
+                args.add(h.getAddress());
+                args.add(h.getLatitude());
+                args.add(h.getLongitude());
+                args.add(h.getRegion() == null ? null : h.getRegion().getId());
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+
+        return new Result(inserted, updated, byId.size() - targets.size());
+    }
+
+    private Map<String, Stored> findExisting(Collection<String> hospitalIds) {
+        Map<String, Stored> result = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_SQL, new MapSqlParameterSource("ids", hospitalIds), rs -> {
+            result.put(rs.getString("hospital_id"), new Stored(
+                    rs.getString("name"),
+                    rs.getString("type_name"),
+                    rs.getString("address"),
+                    rs.getObject("latitude", Double.class),
+                    rs.getObject("longitude", Double.class)
+            ));
+        });
+        return result;
+    }
+
+    private static Stored toStored(Hospital h) {
+        return new Stored(h.getName(), h.getTypeName(), h.getAddress(), h.getLatitude(), h.getLongitude());
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.homedatazip.hospital.repository;
 
-import org.example.homedatazip.data.Region;
 import org.example.homedatazip.hospital.entity.Hospital;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -25,7 +24,5 @@ public interface HospitalRepository extends JpaRepository<Hospital, Long> {
             @Param("dong") String dong
     );
 
-    List<Hospital> findByRegion(Region region);
-
     List<Hospital> findByRegionIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull();
 }
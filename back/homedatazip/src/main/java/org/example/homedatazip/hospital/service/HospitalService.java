@@ -7,19 +7,21 @@ import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.RegionErrorCode;
 import org.example.homedatazip.hospital.dto.HospitalResponse;
 import org.example.homedatazip.hospital.dto.HospitalStatsResponse;
-import org.example.homedatazip.hospital.entity.Hospital;
-import org.example.homedatazip.hospital.repository.HospitalRepository;
+import org.example.homedatazip.poi.dto.RegionHospitals;
+import org.example.homedatazip.poi.service.PoiSpatialService;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * 병원 조회
+ * 지역별 목록/종류별 개수는 POI 메모리 인덱스에 적재 시 미리 계산해 둔 값을 사용한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class HospitalService {
 
-    private final HospitalRepository hospitalRepository;
+    private final PoiSpatialService poiSpatialService;
     private final RegionRepository regionRepository;
 
     /**
@@ -32,7 +34,7 @@ public class HospitalService {
     ) {
         Region region = findRegion(sido, gugun, dong);
 
-        return (long) hospitalRepository.findByRegion(region).size();
+        return (long) poiSpatialService.findHospitalsInRegion(region.getId()).hospitals().size();
     }
 
     /**
@@ -45,20 +47,14 @@ public class HospitalService {
     ) {
         Region region = findRegion(sido, gugun, dong);
 
-        List<Hospital> hospitals = hospitalRepository.findByRegion(region);
-
-        Map<String, Long> countByTypeName = hospitals.stream()
-                .collect(Collectors.groupingBy(
-                        Hospital::getTypeName,
-                        Collectors.counting()
-                ));
+        RegionHospitals hospitals = poiSpatialService.findHospitalsInRegion(region.getId());
 
         return new HospitalStatsResponse(
                 sido,
                 gugun,
                 dong,
-                (long) hospitals.size(),
-                countByTypeName
+                (long) hospitals.hospitals().size(),
+                hospitals.countByTypeName()
         );
     }
 
@@ -72,9 +68,7 @@ public class HospitalService {
     ) {
         Region region = findRegion(sido, gugun, dong);
 
-        List<Hospital> hospitals = hospitalRepository.findByRegion(region);
-
-        return hospitals.stream()
+        return poiSpatialService.findHospitalsInRegion(region.getId()).hospitals().stream()
                 .map(HospitalResponse::from)
                 .toList();
     }
@@ -60,6 +60,7 @@ public class ListingController {
             @RequestParam(required = false) String apartmentName,
             @RequestParam(required = false) TradeType tradeType,
             @RequestParam(required = false) RentType rentType,
+            @RequestParam(required = false) Long cursorId,
             @RequestParam(defaultValue = "50") int limit
     ) {
         if (tradeType == null && rentType != null) {
@@ -67,7 +68,7 @@ public class ListingController {
         }
 
         return ResponseEntity.ok(
-                listingQueryService.search(sido, gugun, dong, apartmentName, tradeType, rentType, limit)
+                listingQueryService.search(sido, gugun, dong, apartmentName, tradeType, rentType, cursorId, limit)
         );
     }
 
@@ -78,10 +79,11 @@ public class ListingController {
             @RequestParam(required = false) String gugun,
             @RequestParam(required = false) String dong,
             @RequestParam(required = false) String apartmentName,
+            @RequestParam(required = false) Long cursorId,
             @RequestParam(defaultValue = "50") int limit
     ) {
         return ResponseEntity.ok(
-                listingQueryService.search(sido, gugun, dong, apartmentName, TradeType.SALE, null, limit)
+                listingQueryService.search(sido, gugun, dong, apartmentName, TradeType.SALE, null, cursorId, limit)
         );
     }
 
@@ -93,10 +95,11 @@ public class ListingController {
             @RequestParam(required = false) String dong,
             @RequestParam(required = false) String apartmentName,
             @RequestParam(required = false) RentType rentType,
+            @RequestParam(required = false) Long cursorId,
             @RequestParam(defaultValue = "50") int limit
     ) {
         return ResponseEntity.ok(
-                listingQueryService.search(sido, gugun, dong, apartmentName, TradeType.RENT, rentType, limit)
+                listingQueryService.search(sido, gugun, dong, apartmentName, TradeType.RENT, rentType, cursorId, limit)
         );
     }
 
@@ -22,7 +22,8 @@ import java.util.List;
         indexes = {
                 @Index(name = "idx_listing_user_status", columnList = "user_id, status"),
                 @Index(name = "idx_listing_region_type", columnList = "region_id, trade_type, status"),
-                @Index(name = "idx_listing_apartment", columnList = "apartment_id, status")
+                @Index(name = "idx_listing_apartment", columnList = "apartment_id, status"),
+                @Index(name = "idx_listing_status_type_id", columnList = "status, trade_type, id") // 검색 keyset (id desc)
         }
 )
 public class Listing extends BaseTimeEntity {
@@ -3,6 +3,7 @@ package org.example.homedatazip.listing.repository;
 import org.example.homedatazip.listing.entity.ListingImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ListingImageRepository extends JpaRepository<ListingImage, Long> {
@@ -11,5 +12,7 @@ public interface ListingImageRepository extends JpaRepository<ListingImage, Long
 
     List<ListingImage> findByListingId(Long listingId);
 
+    List<ListingImage> findByListingIdIn(Collection<Long> listingIds);
+
     void deleteByListingId(Long listingId);
 }
@@ -2,9 +2,6 @@ package org.example.homedatazip.listing.repository;
 
 import org.example.homedatazip.listing.entity.Listing;
 import org.example.homedatazip.listing.type.ListingStatus;
-import org.example.homedatazip.listing.type.TradeType;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,48 +15,15 @@ public interface ListingRepository extends JpaRepository<Listing, Long> {
 
     List<Listing> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 매물 검색 2단계 - 1단계에서 고른 id 만 to-one 연관과 함께 조회 (이미지는 따로 한 번에)
     @Query("""
-        select distinct l
+        select l
         from Listing l
         join fetch l.region r
         join fetch l.apartment a
-        left join fetch l.images i
-        where l.status = org.example.homedatazip.listing.type.ListingStatus.ACTIVE
-          and (:sido is null or :sido = '' or r.sido = :sido)
-          and (:gugun is null or :gugun = '' or r.gugun = :gugun)
-          and (:dong is null or :dong = '' or r.dong = :dong)
-          and (:apartmentName is null or :apartmentName = '' 
-               or lower(a.aptName) like lower(concat('%', :apartmentName, '%')))
-          and (:tradeType is null or l.tradeType = :tradeType)
-        order by l.createdAt desc
+        where l.id in :ids
     """)
-    List<Listing> searchActiveByFilters(
-            @Param("sido") String sido,
-            @Param("gugun") String gugun,
-            @Param("dong") String dong,
-            @Param("apartmentName") String apartmentName,
-            @Param("tradeType") TradeType tradeType,
-            Pageable pageable
-    );
-
-    // limit 지원용 default 메서드
-    default List<Listing> searchActiveByFilters(
-            String sido,
-            String gugun,
-            String dong,
-            String apartmentName,
-            TradeType tradeType,
-            int limit
-    ) {
-        return searchActiveByFilters(
-                sido,
-                gugun,
-                dong,
-                apartmentName,
-                tradeType,
-                PageRequest.of(0, limit)
-        );
-    }
+    List<Listing> findAllWithRegionAndApartmentByIdIn(@Param("ids") List<Long> ids);
 
     @Query("""
         select distinct l
@@ -0,0 +1,82 @@
+package org.example.homedatazip.listing.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.listing.type.ListingStatus;
+import org.example.homedatazip.listing.type.RentType;
+import org.example.homedatazip.listing.type.TradeType;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.example.homedatazip.apartment.entity.QApartment.apartment;
+import static org.example.homedatazip.data.QRegion.region;
+import static org.example.homedatazip.listing.entity.QListing.listing;
+
+/**
+ * 매물 검색 1단계 - 조건에 맞는 ACTIVE 매물 id 만 keyset 으로 조회
+ * (이미지 collection fetch join + 페이징을 같이 쓰면 Hibernate 가 전체를 메모리에 올려 자르므로 분리)
+ * 전세/월세 구분까지 SQL 에서 거른 뒤 LIMIT 하므로 limit 개수가 정확하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ListingSearchQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 최신순(id desc), cursorId 보다 작은 id 부터 limit 개
+     * apartmentIds 가 있으면 이름 인덱스로 미리 찾은 아파트로 거르고, 없으면 apartmentName 포함 검색
+     */
+    public List<Long> findActiveIds(
+            String sido,
+            String gugun,
+            String dong,
+            String apartmentName,
+            Collection<Long> apartmentIds,
+            TradeType tradeType,
+            RentType rentType,
+            Long cursorId,
+            int limit
+    ) {
+        return queryFactory
+                .select(listing.id)
+                .from(listing)
+                .join(listing.region, region)
+                .join(listing.apartment, apartment)
+                .where(
+                        listing.status.eq(ListingStatus.ACTIVE),
+                        eqIfText(region.sido, sido),
+                        eqIfText(region.gugun, gugun),
+                        eqIfText(region.dong, dong),
+                        apartmentIds != null ? listing.apartment.id.in(apartmentIds) : aptNameContains(apartmentName),
+                        tradeType != null ? listing.tradeType.eq(tradeType) : null,
+                        rentTypeEq(tradeType, rentType),
+                        cursorId != null ? listing.id.lt(cursorId) : null
+                )
+                .orderBy(listing.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private static BooleanExpression eqIfText(StringPath path, String value) {
+        return StringUtils.hasText(value) ? path.eq(value) : null;
+    }
+
+    // MySQL 기본 collation 이 대소문자 구분을 안 하므로 lower() 없이 비교
+    private static BooleanExpression aptNameContains(String apartmentName) {
+        return StringUtils.hasText(apartmentName) ? apartment.aptName.contains(apartmentName) : null;
+    }
+
+    // 전세: 월세 0 / 월세: 1 이상 (RENT 일 때만)
+    private static BooleanExpression rentTypeEq(TradeType tradeType, RentType rentType) {
+        if (tradeType != TradeType.RENT || rentType == null) return null;
+        return rentType == RentType.CHARTER
+                ? listing.monthlyRent.eq(0)
+                : listing.monthlyRent.goe(1);
+    }
+}
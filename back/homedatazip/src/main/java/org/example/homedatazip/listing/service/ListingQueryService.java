@@ -1,6 +1,8 @@
 package org.example.homedatazip.listing.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.apartment.search.ApartmentSearchDoc;
+import org.example.homedatazip.apartment.service.ApartmentNameIndexService;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.ListingErrorCode;
 import org.example.homedatazip.listing.dto.ListingDetailResponse;
@@ -9,7 +11,9 @@ import org.example.homedatazip.listing.dto.ListingSearchResponse;
 import org.example.homedatazip.listing.dto.MyListingResponse;
 import org.example.homedatazip.listing.entity.Listing;
 import org.example.homedatazip.listing.entity.ListingImage;
+import org.example.homedatazip.listing.repository.ListingImageRepository;
 import org.example.homedatazip.listing.repository.ListingRepository;
+import org.example.homedatazip.listing.repository.ListingSearchQueryRepository;
 import org.example.homedatazip.listing.type.ListingStatus;
 import org.example.homedatazip.listing.type.RentType;
 import org.example.homedatazip.listing.type.TradeType;
@@ -18,15 +22,28 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ListingQueryService {
 
     private final ListingRepository listingRepository;
+    private final ListingImageRepository listingImageRepository;
+    private final ListingSearchQueryRepository listingSearchQueryRepository;
+    private final ApartmentNameIndexService apartmentNameIndexService;
+
+    // 이름 인덱스로 찾은 아파트가 이보다 많으면 IN 대신 LIKE 로 거른다
+    private static final int MAX_APARTMENT_ID_FILTER = 1000;
 
     /**
      * 전체/필터 검색 (ACTIVE만)
+     * 1) 조건(전세/월세 포함)에 맞는 id 를 최신순 keyset 으로 limit 개
+     * 2) 그 id 들만 매물 + 지역/아파트 조회, 이미지는 IN 으로 한 번에
+     * cursorId: 이전 페이지 마지막 listingId (없으면 처음부터)
      */
     @Transactional(readOnly = true)
     public List<ListingSearchResponse> search(
@@ -36,33 +53,44 @@ public class ListingQueryService {
             String apartmentName,
             TradeType tradeType,
             RentType rentType,
+            Long cursorId,
             int limit
     ) {
-        List<Listing> list =
-                listingRepository.searchActiveByFilters(sido, gugun, dong, apartmentName, tradeType, limit);
-
-        // RENT + rentType 필터
-        if (tradeType == TradeType.RENT && rentType != null) {
-            if (rentType == RentType.CHARTER) {
-                list = list.stream()
-                        .filter(l -> l.getMonthlyRent() != null && l.getMonthlyRent() == 0)
-                        .toList();
-            } else if (rentType == RentType.MONTHLY) {
-                list = list.stream()
-                        .filter(l -> l.getMonthlyRent() != null && l.getMonthlyRent() >= 1)
-                        .toList();
-            }
+        List<Long> apartmentIds = apartmentIdsByName(apartmentName, sido, gugun, dong);
+        if (apartmentIds != null && apartmentIds.isEmpty()) {
+            return List.of();
         }
 
-        if (list.size() > limit) {
-            list = list.subList(0, limit);
+        List<Long> ids = listingSearchQueryRepository.findActiveIds(
+                sido, gugun, dong, apartmentName, apartmentIds, tradeType, rentType, cursorId, limit);
+        if (ids.isEmpty()) {
+            return List.of();
         }
 
-        return list.stream()
-                .map(this::toSearchResponse)
+        Map<Long, Listing> listings = listingRepository.findAllWithRegionAndApartmentByIdIn(ids).stream()
+                .collect(Collectors.toMap(Listing::getId, Function.identity()));
+
+        Map<Long, List<ListingImage>> imagesByListing = listingImageRepository.findByListingIdIn(ids).stream()
+                .collect(Collectors.groupingBy(img -> img.getListing().getId()));
+
+        // 1단계 순서(최신순) 유지
+        return ids.stream()
+                .map(listings::get)
+                .filter(Objects::nonNull)
+                .map(l -> toSearchResponse(l, mainImageUrl(imagesByListing.get(l.getId()))))
                 .toList();
     }
 
+    // 아파트 이름 조건 → 아파트 id (이름 조건 없음/인덱스 준비 전/결과 과다면 null)
+    private List<Long> apartmentIdsByName(String apartmentName, String sido, String gugun, String dong) {
+        if (apartmentName == null || apartmentName.isBlank()) return null;
+
+        return apartmentNameIndexService.searchByName(apartmentName, sido, gugun, dong)
+                .filter(docs -> docs.size() <= MAX_APARTMENT_ID_FILTER)
+                .map(docs -> docs.stream().map(ApartmentSearchDoc::aptId).toList())
+                .orElse(null);
+    }
+
     /**
      * 내 매물 조회
      * (이미지 fetch join 안 했으면 대표이미지 안 나옴 주의)
@@ -89,7 +117,7 @@ public class ListingQueryService {
                 .toList();
     }
 
-    private ListingSearchResponse toSearchResponse(Listing l) {
+    private ListingSearchResponse toSearchResponse(Listing l, String mainImageUrl) {
 
         Integer buildYear = null;
         try {
@@ -103,8 +131,6 @@ public class ListingQueryService {
                     : RentType.MONTHLY;
         }
 
-        String mainImageUrl = extractMainImageUrl(l);
-
         return new ListingSearchResponse(
                 l.getId(),
                 l.getRegion().getId(),
@@ -172,9 +198,13 @@ public class ListingQueryService {
      * 3) id 낮은 순
      */
     private String extractMainImageUrl(Listing l) {
-        if (l.getImages() == null || l.getImages().isEmpty()) return null;
+        return mainImageUrl(l.getImages());
+    }
+
+    private static String mainImageUrl(List<ListingImage> images) {
+        if (images == null || images.isEmpty()) return null;
 
-        return l.getImages().stream()
+        return images.stream()
                 .sorted(Comparator
                         .comparing(ListingImage::isMain).reversed()
                         .thenComparing(img -> img.getSortOrder() == null ? Integer.MAX_VALUE : img.getSortOrder())
@@ -0,0 +1,61 @@
+package org.example.homedatazip.markerCluster.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.homedatazip.markerCluster.type.ClusterTradeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지도 마커 클러스터 타일 (미리 집계)
+ * (거래유형, 기간, 격자 레벨, 격자 셀) 별로 거래가 있는 아파트 수와 좌표 합을 저장한다.
+ * 적재/갱신은 MarkerClusterTileRepository(JdbcTemplate)에서만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "marker_cluster_tile",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_marker_cluster_tile",
+                columnNames = {"trade_type", "period_months", "grid_level", "lat_key", "lng_key"}
+        )
+)
+public class MarkerClusterTile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "marker_cluster_tile_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trade_type", nullable = false, length = 10)
+    private ClusterTradeType tradeType;
+
+    // 0 = 전체 기간
+    @Column(name = "period_months", nullable = false)
+    private Integer periodMonths;
+
+    @Column(name = "grid_level", nullable = false)
+    private Integer gridLevel;
+
+    @Column(name = "lat_key", nullable = false)
+    private Long latKey;
+
+    @Column(name = "lng_key", nullable = false)
+    private Long lngKey;
+
+    @Column(name = "apt_count", nullable = false)
+    private Long aptCount;
+
+    @Column(name = "lat_sum", nullable = false)
+    private Double latSum;
+
+    @Column(name = "lng_sum", nullable = false)
+    private Double lngSum;
+
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
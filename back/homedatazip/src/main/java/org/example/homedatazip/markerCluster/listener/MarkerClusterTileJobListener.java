@@ -0,0 +1,27 @@
+package org.example.homedatazip.markerCluster.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.markerCluster.service.MarkerClusterTileService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/** 거래 적재 Job 종료 후, 이번 Job 에서 거래가 들어온 아파트의 클러스터 타일만 갱신 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkerClusterTileJobListener implements JobExecutionListener {
+
+    private final MarkerClusterTileService markerClusterTileService;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        // 실패한 Job 이라도 이미 커밋된 청크는 반영
+        try {
+            markerClusterTileService.refreshDirty();
+        } catch (Exception e) {
+            log.error("[MarkerClusterTile] 증분 갱신 실패 - job={}", jobExecution.getJobInstance().getJobName(), e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.homedatazip.markerCluster.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.apartment.dto.MarkerClusterResponse;
+import org.example.homedatazip.markerCluster.type.ClusterTradeType;
+import org.example.homedatazip.markerCluster.util.MarkerClusterGrid;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * marker_cluster_tile 조회/적재 Repository
+ * 적재는 apartments + 거래 테이블을 FLOOR(lat/grid), FLOOR(lng/grid) 로 묶은 INSERT ... SELECT 로 한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MarkerClusterTileRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String FIND_SQL = """
+            SELECT lat_sum / apt_count AS latitude, lng_sum / apt_count AS longitude, apt_count
+            FROM marker_cluster_tile
+            WHERE trade_type = ? AND period_months = ? AND grid_level = ?
+              AND lat_key BETWEEN ? AND ?
+              AND lng_key BETWEEN ? AND ?
+            ORDER BY apt_count DESC
+            LIMIT ?
+            """;
+
+    private static final String EXISTS_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM marker_cluster_tile
+                WHERE trade_type = ? AND period_months = ? AND grid_level = ?
+            )
+            """;
+
+    private static final String DELETE_ALL_SQL = """
+            DELETE FROM marker_cluster_tile
+            WHERE trade_type = ? AND period_months = ? AND grid_level = ?
+            """;
+
+    private static final String DELETE_CELL_SQL = """
+            DELETE FROM marker_cluster_tile
+            WHERE trade_type = ? AND period_months = ? AND grid_level = ? AND lat_key = ? AND lng_key = ?
+            """;
+
+    // 매매: 실시간 쿼리와 같이 region 이 있고 취소되지 않은 거래만
+    private static final String SALE_EXISTS = """
+            a.region_id IS NOT NULL
+            AND EXISTS (SELECT 1 FROM trade_sale ts
+                        WHERE ts.apartment_id = a.id AND ts.canceled <> TRUE AND ts.deal_date >= ?)
+            """;
+
+    private static final String RENT_EXISTS = """
+            EXISTS (SELECT 1 FROM trade_rent tr
+                    WHERE tr.apartment_id = a.id AND tr.deal_date >= ?)
+            """;
+
+    // 전체 기간(periodMonths=0) 이면 이 날짜 이후 전부
+    private static final LocalDate ALL_PERIOD_SINCE = LocalDate.of(1900, 1, 1);
+
+    public List<MarkerClusterResponse> findTiles(ClusterTradeType type, int periodMonths, int gridLevel,
+                                                 Double south, Double north, Double west, Double east,
+                                                 long limit) {
+        double grid = MarkerClusterGrid.gridOf(gridLevel);
+        boolean hasLat = isFinite(south) && isFinite(north);
+        boolean hasLng = isFinite(west) && isFinite(east);
+
+        long latMin = hasLat ? MarkerClusterGrid.cellKey(Math.min(south, north), grid) : Long.MIN_VALUE;
+        long latMax = hasLat ? MarkerClusterGrid.cellKey(Math.max(south, north), grid) : Long.MAX_VALUE;
+        long lngMin = hasLng ? MarkerClusterGrid.cellKey(Math.min(west, east), grid) : Long.MIN_VALUE;
+        long lngMax = hasLng ? MarkerClusterGrid.cellKey(Math.max(west, east), grid) : Long.MAX_VALUE;
+
+        return jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> new MarkerClusterResponse(
+                        rs.getDouble("latitude"),
+                        rs.getDouble("longitude"),
+                        rs.getLong("apt_count")),
+                type.name(), periodMonths, gridLevel, latMin, latMax, lngMin, lngMax, limit);
+    }
+
+    public boolean hasTiles(ClusterTradeType type, int periodMonths, int gridLevel) {
+        Boolean exists = jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, type.name(), periodMonths, gridLevel);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /** (거래유형, 기간, 격자) 한 묶음을 통째로 다시 만든다. 커밋 전까지 조회는 이전 타일을 본다. */
+    @Transactional
+    public int rebuild(ClusterTradeType type, int periodMonths, int gridLevel) {
+        double grid = MarkerClusterGrid.gridOf(gridLevel);
+
+        jdbcTemplate.update(DELETE_ALL_SQL, type.name(), periodMonths, gridLevel);
+        int inserted = jdbcTemplate.update(insertSql(type, ""),
+                type.name(), periodMonths, gridLevel, grid, grid, Date.valueOf(since(periodMonths)));
+
+        log.info("MarkerClusterTile 재적재 - type={}, period={}, gridLevel={}, tiles={}",
+                type, periodMonths, gridLevel, inserted);
+        return inserted;
+    }
+
+    /** 지정한 셀들만 다시 계산한다. cells: {latKey, lngKey} */
+    @Transactional
+    public void refreshCells(ClusterTradeType type, int periodMonths, int gridLevel, List<long[]> cells) {
+        if (cells == null || cells.isEmpty()) {
+            return;
+        }
+        double grid = MarkerClusterGrid.gridOf(gridLevel);
+        Date since = Date.valueOf(since(periodMonths));
+
+        jdbcTemplate.batchUpdate(DELETE_CELL_SQL, cells, cells.size(),
+                (ps, cell) -> {
+                    ps.setString(1, type.name());
+                    ps.setInt(2, periodMonths);
+                    ps.setInt(3, gridLevel);
+                    ps.setLong(4, cell[0]);
+                    ps.setLong(5, cell[1]);
+                });
+
+        // 셀 범위(한 칸 여유)로 idx_apt_coords 를 타고, FLOOR 키 비교로 정확히 거른다
+        String sql = insertSql(type, """
+                AND a.latitude BETWEEN ? AND ?
+                AND a.longitude BETWEEN ? AND ?
+                """) + " HAVING t.lat_key = ? AND t.lng_key = ?";
+
+        jdbcTemplate.batchUpdate(sql, cells, cells.size(),
+                (ps, cell) -> {
+                    ps.setString(1, type.name());
+                    ps.setInt(2, periodMonths);
+                    ps.setInt(3, gridLevel);
+                    ps.setDouble(4, grid);
+                    ps.setDouble(5, grid);
+                    ps.setDate(6, since);
+                    ps.setDouble(7, (cell[0] - 1) * grid);
+                    ps.setDouble(8, (cell[0] + 2) * grid);
+                    ps.setDouble(9, (cell[1] - 1) * grid);
+                    ps.setDouble(10, (cell[1] + 2) * grid);
+                    ps.setLong(11, cell[0]);
+                    ps.setLong(12, cell[1]);
+                });
+
+        log.debug("MarkerClusterTile 셀 갱신 - type={}, period={}, gridLevel={}, cells={}",
+                type, periodMonths, gridLevel, cells.size());
+    }
+
+    private static String insertSql(ClusterTradeType type, String extraWhere) {
+        return """
+                INSERT INTO marker_cluster_tile
+                (trade_type, period_months, grid_level, lat_key, lng_key, apt_count, lat_sum, lng_sum, updated_at)
+                SELECT ?, ?, ?, t.lat_key, t.lng_key, COUNT(*), SUM(t.latitude), SUM(t.longitude), CURRENT_TIMESTAMP
+                FROM (
+                    SELECT FLOOR(a.latitude / ?) AS lat_key, FLOOR(a.longitude / ?) AS lng_key,
+                           a.latitude AS latitude, a.longitude AS longitude
+                    FROM apartments a
+                    WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL
+                      AND %s
+                      %s
+                ) t
+                GROUP BY t.lat_key, t.lng_key
+                """.formatted(type == ClusterTradeType.SALE ? SALE_EXISTS : RENT_EXISTS, extraWhere);
+    }
+
+    private static LocalDate since(int periodMonths) {
+        // 실시간 쿼리(periodBetween)와 같은 기준
+        return periodMonths <= 0 ? ALL_PERIOD_SINCE : LocalDate.now().minusMonths(periodMonths);
+    }
+
+    private static boolean isFinite(Double v) {
+        return v != null && !v.isNaN() && !v.isInfinite();
+    }
+}
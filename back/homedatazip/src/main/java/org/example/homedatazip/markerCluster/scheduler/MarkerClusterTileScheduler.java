@@ -0,0 +1,29 @@
+package org.example.homedatazip.markerCluster.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.markerCluster.service.MarkerClusterTileService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkerClusterTileScheduler {
+
+    private final MarkerClusterTileService markerClusterTileService;
+
+    /**
+     *  매일 03:30 (KST) : 클러스터 타일 전체 재적재
+     * - "최근 N개월" 기준일이 하루씩 밀리므로 증분 갱신만으로는 오래된 거래가 빠지지 않는다
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void rebuildDaily() {
+        try {
+            markerClusterTileService.rebuildAll();
+            log.info("[MarkerClusterTileScheduler] rebuildDaily success.");
+        } catch (Exception e) {
+            log.error("[MarkerClusterTileScheduler] rebuildDaily failed.", e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.homedatazip.markerCluster.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.apartment.dto.MarkerClusterResponse;
+import org.example.homedatazip.apartment.entity.Apartment;
+import org.example.homedatazip.apartment.repository.ApartmentRepository;
+import org.example.homedatazip.markerCluster.repository.MarkerClusterTileRepository;
+import org.example.homedatazip.markerCluster.type.ClusterTradeType;
+import org.example.homedatazip.markerCluster.util.MarkerClusterGrid;
+import org.example.homedatazip.tradeRent.dto.RentGetMarkerRequest;
+import org.example.homedatazip.tradeSale.dto.SaleSearchRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지도 클러스터 타일 조회/갱신.
+ * - 조회: 가격/면적/건축연도/지역 필터가 없는 요청만 타일에서 응답, 아니면 Optional.empty() (호출부에서 실시간 쿼리)
+ * - 갱신: 배치 writer 가 markDirty 로 거래가 들어온 아파트를 모아두면, Job 종료 후 refreshDirty 로 해당 셀만 재계산
+ * - 기간(최근 N개월) 기준일이 매일 바뀌므로 전체 재적재는 스케줄러에서 하루 한 번
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarkerClusterTileService {
+
+    /** 프론트 기간 선택지(6개월~4년) + 전체(0) */
+    private static final List<Integer> SALE_PERIODS = List.of(0, 6, 12, 24, 36, 48);
+    private static final List<Integer> RENT_PERIODS = List.of(0);
+
+    /** 한 격자 레벨에서 더러워진 셀이 이보다 많으면 셀 단위 대신 통째로 재적재 */
+    private static final int MAX_CELL_REFRESH = 2_000;
+
+    private final MarkerClusterTileRepository markerClusterTileRepository;
+    private final ApartmentRepository apartmentRepository;
+
+    private final Map<ClusterTradeType, Set<Long>> dirtyAptIds = new EnumMap<>(Map.of(
+            ClusterTradeType.SALE, ConcurrentHashMap.newKeySet(),
+            ClusterTradeType.RENT, ConcurrentHashMap.newKeySet()
+    ));
+
+    // 한 번이라도 적재가 확인된 (type, period, gridLevel)
+    private final Set<String> readyKeys = ConcurrentHashMap.newKeySet();
+
+    public Optional<List<MarkerClusterResponse>> findSaleClusters(SaleSearchRequest request) {
+        boolean customFilter = request.minAmount() != null || request.maxAmount() != null
+                || request.minArea() != null || request.maxArea() != null
+                || request.minBuildYear() != null || request.maxBuildYear() != null
+                || hasText(request.sido()) || hasText(request.gugun()) || hasText(request.dong());
+        int period = request.periodMonths() == null || request.periodMonths() <= 0 ? 0 : request.periodMonths();
+        if (customFilter || !SALE_PERIODS.contains(period)) {
+            return Optional.empty();
+        }
+        return find(ClusterTradeType.SALE, period, request.level(), request.limit(),
+                request.south(), request.north(), request.west(), request.east());
+    }
+
+    public Optional<List<MarkerClusterResponse>> findRentClusters(RentGetMarkerRequest request) {
+        boolean customFilter = request.minDeposit() != null || request.maxDeposit() != null
+                || request.minMonthlyRent() != null || request.maxMonthlyRent() != null
+                || request.minExclusive() != null || request.maxExclusive() != null
+                || hasText(request.sido()) || hasText(request.gugun()) || hasText(request.dong());
+        if (customFilter) {
+            return Optional.empty();
+        }
+        return find(ClusterTradeType.RENT, 0, request.level(), request.limit(),
+                request.south(), request.north(), request.west(), request.east());
+    }
+
+    private Optional<List<MarkerClusterResponse>> find(ClusterTradeType type, int period, Integer level, Integer limit,
+                                                       Double south, Double north, Double west, Double east) {
+        int gridLevel = MarkerClusterGrid.gridLevelOf(level);
+        if (!isReady(type, period, gridLevel)) {
+            return Optional.empty();
+        }
+        return Optional.of(markerClusterTileRepository.findTiles(
+                type, period, gridLevel, south, north, west, east, normalizeClusterLimit(limit)));
+    }
+
+    /** 배치 writer 에서 거래가 새로 저장된 아파트를 표시 */
+    public void markDirty(ClusterTradeType type, Collection<Long> aptIds) {
+        dirtyAptIds.get(type).addAll(aptIds);
+    }
+
+    /** 표시된 아파트가 속한 셀만 모든 격자/기간에 대해 다시 계산 */
+    public void refreshDirty() {
+        for (ClusterTradeType type : ClusterTradeType.values()) {
+            Set<Long> dirty = dirtyAptIds.get(type);
+            if (dirty.isEmpty()) {
+                continue;
+            }
+            List<Long> aptIds = new ArrayList<>(dirty);
+            dirty.removeAll(aptIds);
+
+            List<Apartment> apartments = apartmentRepository.findAllById(aptIds);
+            for (int gridLevel = 0; gridLevel < MarkerClusterGrid.gridLevelCount(); gridLevel++) {
+                List<long[]> cells = dirtyCells(apartments, MarkerClusterGrid.gridOf(gridLevel));
+                for (int period : periodsOf(type)) {
+                    if (cells.size() > MAX_CELL_REFRESH) {
+                        markerClusterTileRepository.rebuild(type, period, gridLevel);
+                    } else {
+                        markerClusterTileRepository.refreshCells(type, period, gridLevel, cells);
+                    }
+                }
+            }
+            log.info("[MarkerClusterTile] 증분 갱신 완료 - type={}, 아파트 {}개", type, aptIds.size());
+        }
+    }
+
+    /** 전체 재적재 (기간 기준일 갱신 포함) */
+    public void rebuildAll() {
+        for (ClusterTradeType type : ClusterTradeType.values()) {
+            for (int period : periodsOf(type)) {
+                for (int gridLevel = 0; gridLevel < MarkerClusterGrid.gridLevelCount(); gridLevel++) {
+                    markerClusterTileRepository.rebuild(type, period, gridLevel);
+                }
+            }
+        }
+    }
+
+    private boolean isReady(ClusterTradeType type, int period, int gridLevel) {
+        String key = type + ":" + period + ":" + gridLevel;
+        if (readyKeys.contains(key)) {
+            return true;
+        }
+        if (markerClusterTileRepository.hasTiles(type, period, gridLevel)) {
+            readyKeys.add(key);
+            return true;
+        }
+        return false;
+    }
+
+    private static List<long[]> dirtyCells(List<Apartment> apartments, double grid) {
+        Set<List<Long>> seen = new HashSet<>();
+        List<long[]> cells = new ArrayList<>();
+        for (Apartment apt : apartments) {
+            if (apt.getLatitude() == null || apt.getLongitude() == null) {
+                continue;
+            }
+            long latKey = MarkerClusterGrid.cellKey(apt.getLatitude(), grid);
+            long lngKey = MarkerClusterGrid.cellKey(apt.getLongitude(), grid);
+            if (seen.add(List.of(latKey, lngKey))) {
+                cells.add(new long[]{latKey, lngKey});
+            }
+        }
+        return cells;
+    }
+
+    private static List<Integer> periodsOf(ClusterTradeType type) {
+        return type == ClusterTradeType.SALE ? SALE_PERIODS : RENT_PERIODS;
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.isBlank();
+    }
+
+    /** 실시간 클러스터 쿼리와 같은 기본/최대 limit */
+    private static long normalizeClusterLimit(Integer limit) {
+        if (limit == null || limit <= 0) return 5_000;
+        return Math.min(limit, 20_000);
+    }
+}
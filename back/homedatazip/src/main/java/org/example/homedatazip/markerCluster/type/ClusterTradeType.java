@@ -0,0 +1,7 @@
+package org.example.homedatazip.markerCluster.type;
+
+public enum ClusterTradeType {
+    SALE,
+    RENT,
+    ;
+}
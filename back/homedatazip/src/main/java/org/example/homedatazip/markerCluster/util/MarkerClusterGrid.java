@@ -0,0 +1,42 @@
+package org.example.homedatazip.markerCluster.util;
+
+/**
+ * 지도 줌 레벨 -> 클러스터 격자 크기(deg).
+ * 매매/전월세 실시간 클러스터 쿼리와 미리 계산한 타일이 같은 격자를 쓰도록 한 곳에 둔다.
+ *
+ * 참고: Kakao map level(1~14)은 1이 가장 확대, 숫자가 커질수록 축척이 커진다.
+ */
+public final class MarkerClusterGrid {
+
+    /** gridLevel(0~5) 별 격자 크기 */
+    private static final double[] GRIDS = {0.001, 0.002, 0.005, 0.01, 0.02, 0.05};
+
+    private MarkerClusterGrid() {
+    }
+
+    public static int gridLevelOf(Integer level) {
+        int lv = (level == null) ? 8 : level;
+        if (lv >= 12) return 5;   // ~ 수 km 단위
+        if (lv >= 10) return 4;
+        if (lv >= 8)  return 3;
+        if (lv >= 6)  return 2;
+        if (lv >= 4)  return 1;
+        return 0;                 // 매우 확대: 거의 개별에 가깝게
+    }
+
+    public static double gridOf(int gridLevel) {
+        return GRIDS[gridLevel];
+    }
+
+    public static double gridByLevel(Integer level) {
+        return GRIDS[gridLevelOf(level)];
+    }
+
+    public static int gridLevelCount() {
+        return GRIDS.length;
+    }
+
+    public static long cellKey(double coordinate, double grid) {
+        return (long) Math.floor(coordinate / grid);
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.homedatazip.monthAvg.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * month_avg 대량 반영을 위한 Repository
+ * 재집계 결과는 ON DUPLICATE KEY UPDATE col = VALUES(col) 로 덮어쓰고,
+ * 증분(delta)은 col = col + VALUES(col) 로 한 번의 batch 로 더한다.
+ * 접속 URL 에 rewriteBatchedStatements=true 를 주면 드라이버가 multi-row INSERT 로 묶어 보낸다.
+ * (이 경우 행별 결과가 SUCCESS_NO_INFO 로 와서 신규/업데이트 건수는 구분되지 않음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MonthAvgBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String UPSERT_REPLACE_RENT_SQL = """
+            INSERT INTO month_avg
+            (apt_id, yyyymm, area_type_id,
+             sale_deal_amount_sum, jeonse_deposit_sum, wolse_deposit_sum, wolse_rent_sum,
+             sale_count, jeonse_count, wolse_count, updated_at)
+            VALUES (?, ?, ?, 0, ?, ?, ?, 0, ?, ?, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE
+                jeonse_deposit_sum = VALUES(jeonse_deposit_sum),
+                wolse_deposit_sum  = VALUES(wolse_deposit_sum),
+                wolse_rent_sum     = VALUES(wolse_rent_sum),
+                jeonse_count       = VALUES(jeonse_count),
+                wolse_count        = VALUES(wolse_count),
+                updated_at         = CURRENT_TIMESTAMP
+            """;
+
+    // Sale만 갱신 (전/월세 컬럼/카운트는 UPDATE에서 건드리지 않음)
+    private static final String ADD_RENT_DELTA_SQL = """
+            INSERT INTO month_avg
+            (apt_id, yyyymm, area_type_id,
+             sale_deal_amount_sum, jeonse_deposit_sum, wolse_deposit_sum, wolse_rent_sum,
+             sale_count, jeonse_count, wolse_count, updated_at)
+            VALUES (?, ?, ?, 0, ?, ?, ?, 0, ?, ?, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE
+                jeonse_deposit_sum = jeonse_deposit_sum + VALUES(jeonse_deposit_sum),
+                wolse_deposit_sum  = wolse_deposit_sum + VALUES(wolse_deposit_sum),
+                wolse_rent_sum     = wolse_rent_sum + VALUES(wolse_rent_sum),
+                jeonse_count       = jeonse_count + VALUES(jeonse_count),
+                wolse_count        = wolse_count + VALUES(wolse_count),
+                updated_at         = CURRENT_TIMESTAMP
+            """;
+
+    private static final String ADD_SALE_DELTA_SQL = """
+            INSERT INTO month_avg
+            (apt_id, yyyymm, area_type_id,
+             sale_deal_amount_sum, jeonse_deposit_sum, wolse_deposit_sum, wolse_rent_sum,
+             sale_count, jeonse_count, wolse_count, updated_at)
+            VALUES (?, ?, ?, ?, 0, 0, 0, ?, 0, 0, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE
+                sale_deal_amount_sum = sale_deal_amount_sum + VALUES(sale_deal_amount_sum),
+                sale_count           = sale_count + VALUES(sale_count),
+                updated_at           = CURRENT_TIMESTAMP
+            """;
+
+    /** 재집계한 전월세 합계로 덮어쓴다. 반환: {신규, 업데이트} */
+    public int[] upsertReplaceRent(List<TradeRentAggRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        int[][] batchResults = jdbcTemplate.batchUpdate(UPSERT_REPLACE_RENT_SQL, rows, rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.getAptId());
+                    ps.setString(2, row.getYyyymm());
+                    ps.setLong(3, row.getAreaTypeId());
+                    ps.setLong(4, row.getJeonseDepositSum());
+                    ps.setLong(5, row.getWolseDepositSum());
+                    ps.setLong(6, row.getWolseRentSum());
+                    ps.setInt(7, row.getJeonseCount());
+                    ps.setInt(8, row.getWolseCount());
+                });
+
+        return countResults("전월세", rows.size(), batchResults);
+    }
+
+    public void addRentDeltas(List<MonthAvgDelta> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ADD_RENT_DELTA_SQL, deltas, deltas.size(),
+                (ps, d) -> {
+                    ps.setLong(1, d.getAptId());
+                    ps.setString(2, d.getYyyymm());
+                    ps.setLong(3, d.getAreaTypeId());
+                    ps.setLong(4, d.getJeonseDepositSum());
+                    ps.setLong(5, d.getWolseDepositSum());
+                    ps.setLong(6, d.getWolseRentSum());
+                    ps.setInt(7, d.getJeonseCount());
+                    ps.setInt(8, d.getWolseCount());
+                });
+
+        log.debug("MonthAvg 전월세 증분 반영 - {}개 키", deltas.size());
+    }
+
+    public void addSaleDeltas(List<MonthAvgDelta> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ADD_SALE_DELTA_SQL, deltas, deltas.size(),
+                (ps, d) -> {
+                    ps.setLong(1, d.getAptId());
+                    ps.setString(2, d.getYyyymm());
+                    ps.setLong(3, d.getAreaTypeId());
+                    ps.setLong(4, d.getSaleDealAmountSum());
+                    ps.setInt(5, d.getSaleCount());
+                });
+
+        log.debug("MonthAvg 매매 증분 반영 - {}개 키", deltas.size());
+    }
+
+    private static int[] countResults(String type, int total, int[][] batchResults) {
+        int insertedCount = 0;
+        int updatedCount = 0;
+        int noInfoCount = 0;
+
+        for (int[] batch : batchResults) {
+            for (int result : batch) {
+                if (result == 1) {
+                    insertedCount++;
+                } else if (result == 2) {
+                    // ON DUPLICATE KEY UPDATE 시 2 반환 (값이 같으면 0)
+                    updatedCount++;
+                } else if (result == Statement.SUCCESS_NO_INFO) {
+                    // rewriteBatchedStatements 사용 시
+                    noInfoCount++;
+                }
+            }
+        }
+
+        log.info("MonthAvg {} Bulk Upsert - 시도: {}건, 신규: {}건, 업데이트: {}건, 결과없음(rewrite): {}건",
+                type, total, insertedCount, updatedCount, noInfoCount);
+
+        return new int[]{insertedCount, updatedCount};
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.homedatazip.monthAvg.repository;
+
+import lombok.Getter;
+
+/**
+ * (aptId, yyyymm, areaTypeId) 한 키에 이번 청크에서 새로 저장된 거래만 더한 증분.
+ * month_avg 에 col = col + VALUES(col) 로 반영한다.
+ */
+@Getter
+public class MonthAvgDelta {
+
+    private final long aptId;
+    private final String yyyymm;
+    private final long areaTypeId;
+
+    private long saleDealAmountSum;
+    private long jeonseDepositSum;
+    private long wolseDepositSum;
+    private long wolseRentSum;
+
+    private int saleCount;
+    private int jeonseCount;
+    private int wolseCount;
+
+    public MonthAvgDelta(long aptId, String yyyymm, long areaTypeId) {
+        this.aptId = aptId;
+        this.yyyymm = yyyymm;
+        this.areaTypeId = areaTypeId;
+    }
+
+    public void addRent(long deposit, int monthlyRent) {
+        if (monthlyRent == 0) {
+            jeonseDepositSum += deposit;
+            jeonseCount++;
+        } else {
+            wolseDepositSum += deposit;
+            wolseRentSum += monthlyRent;
+            wolseCount++;
+        }
+    }
+
+    public void addSale(long dealAmount) {
+        saleDealAmountSum += dealAmount;
+        saleCount++;
+    }
+
+    /** TradeRentAggRepository 의 (aptId * 1000000 + exclusive_area * 100) 와 같은 키 (double 연산 후 버림) */
+    public static long rentAreaTypeId(long aptId, double exclusiveArea) {
+        return (long) (aptId * 1_000_000L + exclusiveArea * 100);
+    }
+
+    /** 매매 면적 키 (aptId * 10000000 + ROUND(exclusive_area * 100)), 기존 month_avg 행과 같은 키 */
+    public static long saleAreaTypeId(long aptId, double exclusiveArea) {
+        return aptId * 10_000_000L + Math.round(exclusiveArea * 100);
+    }
+}
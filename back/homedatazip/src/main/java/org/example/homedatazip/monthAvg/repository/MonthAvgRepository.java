@@ -4,10 +4,10 @@ package org.example.homedatazip.monthAvg.repository;
 import org.example.homedatazip.monthAvg.dto.MonthTotalTradeResponse;
 import org.example.homedatazip.monthAvg.entity.MonthAvg;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,75 +39,6 @@ public interface MonthAvgRepository extends JpaRepository<MonthAvg, Long> {
             String maxYyyymm
     );
 
-    @Modifying
-    @Query(value = """
-        INSERT INTO month_avg (
-            apt_id, yyyymm, area_type_id,
-            sale_deal_amount_sum,
-            jeonse_deposit_sum,
-            wolse_deposit_sum, wolse_rent_sum,
-            sale_count, jeonse_count, wolse_count,
-            updated_at
-        )
-        VALUES (
-            :aptId, :yyyymm, :areaTypeId,
-            0,
-            :jeonseDepositSum,
-            :wolseDepositSum, :wolseRentSum,
-            0, :jeonseCount, :wolseCount,
-            CURRENT_TIMESTAMP
-        )
-        ON DUPLICATE KEY UPDATE
-            jeonse_deposit_sum = VALUES(jeonse_deposit_sum),
-            wolse_deposit_sum  = VALUES(wolse_deposit_sum),
-            wolse_rent_sum     = VALUES(wolse_rent_sum),
-            jeonse_count       = VALUES(jeonse_count),
-            wolse_count        = VALUES(wolse_count),
-            updated_at         = CURRENT_TIMESTAMP
-        """, nativeQuery = true)
-    void upsertReplaceRent(
-            @Param("aptId") long aptId,
-            @Param("yyyymm") String yyyymm,
-            @Param("areaTypeId") long areaTypeId,
-            @Param("jeonseDepositSum") long jeonseDepositSum,
-            @Param("wolseDepositSum") long wolseDepositSum,
-            @Param("wolseRentSum") long wolseRentSum,
-            @Param("jeonseCount") int jeonseCount,
-            @Param("wolseCount") int wolseCount
-    );
-
-    // Sale만 갱신 (전/월세 컬럼/카운트는 UPDATE에서 건드리지 않음)
-    @Modifying
-    @Query(value = """
-        INSERT INTO month_avg (
-            apt_id, yyyymm, area_type_id,
-            sale_deal_amount_sum,
-            jeonse_deposit_sum,
-            wolse_deposit_sum, wolse_rent_sum,
-            sale_count, jeonse_count, wolse_count,
-            updated_at
-        )
-        VALUES (
-            :aptId, :yyyymm, :areaTypeId,
-            :saleDealAmountSum,
-            0,
-            0, 0,
-            :saleCount, 0, 0,
-            CURRENT_TIMESTAMP
-        )
-        ON DUPLICATE KEY UPDATE
-            sale_deal_amount_sum = VALUES(sale_deal_amount_sum),
-            sale_count           = VALUES(sale_count),
-            updated_at           = CURRENT_TIMESTAMP
-        """, nativeQuery = true)
-    void upsertReplaceSale(
-            @Param("aptId") long aptId,
-            @Param("yyyymm") String yyyymm,
-            @Param("areaTypeId") long areaTypeId,
-            @Param("saleDealAmountSum") long saleDealAmountSum,
-            @Param("saleCount") int saleCount
-    );
-
     //area_type_id 리스트로 호출
     @Query("""
         select distinct m.areaTypeId
@@ -123,4 +54,27 @@ public interface MonthAvgRepository extends JpaRepository<MonthAvg, Long> {
     List<MonthAvg> findAllByAptIdAndYyyymm(Long aptId, String yyyymm);
 
     Optional<MonthAvg> findTopByAptIdAndAreaTypeIdAndYyyymmBeforeOrderByYyyymmDesc(Long aptId, Long areaTypeId, String yyyymm);
+
+    // 상세 차트용 - 아파트의 전 평형 구간 데이터를 한 번에
+    List<MonthAvg> findAllByAptIdAndYyyymmBetweenOrderByYyyymmAsc(Long aptId, String minYyyymm, String maxYyyymm);
+
+    // 상세 차트용 - 평형별 구간 시작 전 마지막 기록 (평형마다 1건)
+    @Query("""
+        select m
+        from MonthAvg m
+        where m.aptId = :aptId
+          and m.areaTypeId in :areaTypeIds
+          and m.yyyymm = (
+              select max(m2.yyyymm)
+              from MonthAvg m2
+              where m2.aptId = m.aptId
+                and m2.areaTypeId = m.areaTypeId
+                and m2.yyyymm < :minYyyymm
+          )
+    """)
+    List<MonthAvg> findLastBeforeByAreaTypeIds(
+            @Param("aptId") Long aptId,
+            @Param("areaTypeIds") Collection<Long> areaTypeIds,
+            @Param("minYyyymm") String minYyyymm
+    );
 }
\ No newline at end of file
@@ -9,17 +9,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class MonthAvgRebuildService {
 
-    private final MonthAvgRepository monthAvgRepository;
     private final TradeRentAggRepository tradeRentAggRepository;
-    private final TradeSaleAggRepository tradeSaleAggRepository;
+    private final MonthAvgBulkRepository monthAvgBulkRepository;
 
     private static final DateTimeFormatter YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
 
@@ -36,40 +38,41 @@ public class MonthAvgRebuildService {
 
         List<TradeRentAggRow> rows = tradeRentAggRepository.aggregateByAptMonthAndArea(aptIds, yyyymms);
 
-        for (TradeRentAggRow row : rows){
-            monthAvgRepository.upsertReplaceRent(
-                    row.getAptId(),
-                    row.getYyyymm(),
-                    row.getAreaTypeId(),
-                    row.getJeonseDepositSum(),
-                    row.getWolseDepositSum(),
-                    row.getWolseRentSum(),
-                    row.getJeonseCount(),
-                    row.getWolseCount()
-            );
-        }
+        monthAvgBulkRepository.upsertReplaceRent(rows);
     }
+
+    /**
+     * 이번에 실제로 저장된 전월세 거래만 (aptId, yyyymm, areaTypeId) 별로 모아 month_avg 에 더한다.
+     * trade_rent 전체를 다시 집계하지 않으므로 청크 크기에만 비례.
+     */
     @Transactional
-    public void rebuildSaleFor(List<TradeSale> touchedRents){
-        Set<Long> aptIds = new HashSet<>();
-        Set<String> yyyymms = new HashSet<>();
+    public void applyRentDelta(List<TradeRent> insertedRents) {
+        Map<String, MonthAvgDelta> deltas = new LinkedHashMap<>();
+
+        for (TradeRent tradeRent : insertedRents) {
+            long aptId = tradeRent.getApartment().getId();
+            String yyyymm = tradeRent.getDealDate().format(YYYYMM);
+            long areaTypeId = MonthAvgDelta.rentAreaTypeId(aptId, tradeRent.getExclusiveArea());
 
-        for (TradeSale tradeSale : touchedRents){
-            aptIds.add(tradeSale.getApartment().getId());
-            yyyymms.add(tradeSale.getDealDate().format(YYYYMM));
+            deltas.computeIfAbsent(yyyymm + ":" + areaTypeId, k -> new MonthAvgDelta(aptId, yyyymm, areaTypeId))
+                    .addRent(tradeRent.getDeposit(), tradeRent.getMonthlyRent());
         }
-        if(aptIds.isEmpty() ||  yyyymms.isEmpty()) return;
+        monthAvgBulkRepository.addRentDeltas(new ArrayList<>(deltas.values()));
+    }
+
+    /** 이번에 실제로 저장된 매매 거래만 month_avg 에 더한다. */
+    @Transactional
+    public void applySaleDelta(List<TradeSale> insertedSales) {
+        Map<String, MonthAvgDelta> deltas = new LinkedHashMap<>();
 
-        List<TradeSaleAggRow> rows = tradeSaleAggRepository.aggregateByAptMonthAndArea(aptIds, yyyymms);
+        for (TradeSale tradeSale : insertedSales) {
+            long aptId = tradeSale.getApartment().getId();
+            String yyyymm = tradeSale.getDealDate().format(YYYYMM);
+            long areaTypeId = MonthAvgDelta.saleAreaTypeId(aptId, tradeSale.getExclusiveArea());
 
-        for (TradeSaleAggRow row : rows){
-            monthAvgRepository.upsertReplaceSale(
-                    row.getAptId(),
-                    row.getYyyymm(),
-                    row.getAreaTypeId(),
-                    row.getSaleDealAmountSum(),
-                    row.getSaleCount()
-            );
+            deltas.computeIfAbsent(yyyymm + ":" + areaTypeId, k -> new MonthAvgDelta(aptId, yyyymm, areaTypeId))
+                    .addSale(tradeSale.getDealAmount());
         }
+        monthAvgBulkRepository.addSaleDeltas(new ArrayList<>(deltas.values()));
     }
 }
@@ -7,6 +7,7 @@ import org.example.homedatazip.global.validation.RoleValidation;
 import org.example.homedatazip.notification.dto.NotificationRequest;
 import org.example.homedatazip.notification.dto.NotificationResponse;
 import org.example.homedatazip.notification.service.NotificationService;
+import org.example.homedatazip.notification.service.SseEmitterService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,6 +22,15 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final RoleValidation roleValidation;
+    private final SseEmitterService sseEmitterService;
+
+    // SSE 연결 수 / 전송 큐 적체 현황
+    @GetMapping("/sse-stats")
+    public ResponseEntity<SseEmitterService.Stats> getSseStats(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        roleValidation.validateAdmin(userDetails.getUserId());
+        return ResponseEntity.ok(sseEmitterService.stats());
+    }
 
     // 등록
     @PostMapping
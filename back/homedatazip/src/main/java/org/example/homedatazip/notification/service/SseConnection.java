@@ -0,0 +1,172 @@
+package org.example.homedatazip.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나 + 전용 전송 큐.
+ * - 호출 스레드는 큐에 넣기만 하고, 실제 emitter.send 는 가상 스레드가 연결 단위로 순서대로 처리한다.
+ * - 같은 이름의 갱신 신호(unreadCount, roomListUpdate 등)는 마지막 값 하나만 남긴다. 이름 수만큼만 쌓이므로 상한 없음
+ * - 순서대로 모두 보내야 하는 이벤트(공지/알림)가 상한을 넘으면 버리지 않고 연결을 끊는다.
+ *   클라이언트가 재연결 후 목록을 다시 조회하게 해서 빠진 알림이 없게 한다.
+ */
+@Slf4j
+class SseConnection {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final Long userId;
+    private final String channel;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor executor;
+    private final Consumer<SseConnection> onClose;
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // 합쳐지는 이벤트: 이름 -> 마지막 데이터
+    private final Map<String, Object> latest = new ConcurrentHashMap<>();
+    private final Set<String> pendingNames = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder sent;
+    private final LongAdder overflowClosed;
+    private final LongAdder coalesced;
+
+    private record Pending(String name, Object data, boolean coalescing) {
+    }
+
+    SseConnection(Long userId, String channel, SseEmitter emitter, int capacity, Executor executor,
+                  Consumer<SseConnection> onClose, LongAdder sent, LongAdder overflowClosed, LongAdder coalesced) {
+        this.userId = userId;
+        this.channel = channel;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.onClose = onClose;
+        this.sent = sent;
+        this.overflowClosed = overflowClosed;
+        this.coalesced = coalesced;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /** 아직 보내지 못한 순서 보장 이벤트 수 (합쳐지는 신호 제외) */
+    int depth() {
+        return depth.get();
+    }
+
+    /** 순서대로 모두 전달해야 하는 이벤트 (공지/알림), 큐가 가득 차면 연결을 끊는다 */
+    void enqueue(String name, Object data) {
+        if (closed.get()) {
+            return;
+        }
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            overflowClosed.increment();
+            log.warn("SSE({}) 전송 큐 가득 참, 재연결 유도를 위해 연결 종료: userId={}, event={}", channel, userId, name);
+            close();
+            emitter.complete();
+            return;
+        }
+        offer(new Pending(name, data, false));
+    }
+
+    /** 마지막 값만 의미 있는 이벤트. 아직 안 보낸 같은 이름의 이벤트가 있으면 값만 바꾼다. */
+    void enqueueLatest(String name, Object data) {
+        latest.put(name, data);
+        if (!pendingNames.add(name)) {
+            coalesced.increment();
+            return;
+        }
+        if (!offer(new Pending(name, null, true))) {
+            pendingNames.remove(name);
+        }
+    }
+
+    void enqueueHeartbeat() {
+        enqueueLatest("", HEARTBEAT);
+    }
+
+    private boolean offer(Pending pending) {
+        if (closed.get()) {
+            return false;
+        }
+        queue.offer(pending);
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Pending pending;
+            while (!closed.get() && (pending = queue.poll()) != null) {
+                if (!pending.coalescing()) {
+                    depth.decrementAndGet();
+                }
+                send(pending);
+            }
+        } finally {
+            draining.set(false);
+            // drain 종료 직후 들어온 이벤트를 놓치지 않도록 다시 확인
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void send(Pending pending) {
+        Object data = pending.data();
+        if (pending.coalescing()) {
+            pendingNames.remove(pending.name());
+            data = latest.remove(pending.name());
+            if (data == null) {
+                return;
+            }
+        }
+        try {
+            if (data == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment(""));
+            } else {
+                emitter.send(SseEmitter.event().name(pending.name()).data(data));
+            }
+            sent.increment();
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결 정리
+            log.info("SSE({}) 전송 실패로 연결 정리: userId={}, event={}", channel, userId, pending.name());
+            close();
+            emitter.completeWithError(e);
+        }
+    }
+
+    /** 큐를 비우고 더 이상 받지 않는다. (emitter 종료는 호출부 책임) */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            depth.set(0);
+            onClose.accept(this);
+        }
+    }
+}
@@ -1,186 +1,185 @@
 package org.example.homedatazip.notification.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 @Slf4j
 public class SseEmitterService {
 
+    // 연결 하나당 아직 보내지 못한 공지/알림 최대 개수 (넘으면 연결을 끊어 재연결 후 다시 조회하게 한다)
+    private static final int SEND_QUEUE_CAPACITY = 100;
+
     /**
      * 채널별 SSE 연결을 분리 관리한다.
      * - chat: unreadCount, roomListUpdate
      * - notification: 공지/알림(notification)
+     *
+     * 전송은 연결마다 있는 큐에 넣기만 하고 가상 스레드가 비동기로 보낸다. (SseConnection)
+     * 채팅 서비스/공지 발송 스레드가 느린 클라이언트 때문에 막히지 않는다.
      */
-    private final Map<Long, SseEmitter> chatEmitters = new ConcurrentHashMap<>();
-    private final Map<Long, SseEmitter> notificationEmitters = new ConcurrentHashMap<>();
+    private final Map<Long, SseConnection> chatEmitters = new ConcurrentHashMap<>();
+    private final Map<Long, SseConnection> notificationEmitters = new ConcurrentHashMap<>();
+
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder overflowClosed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /** 연결 수/큐 적체 현황 (관리자 조회용) */
+    public record Stats(
+            int chatConnections,
+            int notificationConnections,
+            long queuedEvents,
+            int maxQueueDepth,
+            long sent,
+            long overflowClosed,
+            long coalesced
+    ) {
+    }
 
     // 채팅 채널 SSE 생성
     public SseEmitter createChatEmitter(Long userId) {
-        SseEmitter emitter = new SseEmitter(60 * 60 * 1000L); // 1시간 타임아웃
-
-        emitter.onCompletion(() -> {
-            log.info("SSE(chat) 연결 완료: userId={}", userId);
-            chatEmitters.remove(userId);
-        });
-
-        emitter.onTimeout(() -> {
-            log.info("SSE(chat) 연결 타임아웃: userId={}", userId);
-            chatEmitters.remove(userId);
-        });
-
-        emitter.onError((ex) -> {
-            log.error("SSE(chat) 연결 오류: userId={}", userId, ex);
-            chatEmitters.remove(userId);
-        });
-
-        chatEmitters.put(userId, emitter);
-        log.info("SSE(chat) 연결 생성: userId={}", userId);
-
-        return emitter;
+        return register(chatEmitters, userId, "chat");
     }
 
     // 알림 채널 SSE 생성
     public SseEmitter createNotificationEmitter(Long userId) {
+        return register(notificationEmitters, userId, "notification");
+    }
+
+    private SseEmitter register(Map<Long, SseConnection> emitters, Long userId, String channel) {
         SseEmitter emitter = new SseEmitter(60 * 60 * 1000L); // 1시간 타임아웃
 
+        SseConnection connection = new SseConnection(userId, channel, emitter, SEND_QUEUE_CAPACITY, sendExecutor,
+                // 재연결로 교체된 경우 새 연결을 지우지 않도록 자기 자신일 때만 제거
+                self -> emitters.remove(userId, self),
+                sent, overflowClosed, coalesced);
+
         emitter.onCompletion(() -> {
-            log.info("SSE(notification) 연결 완료: userId={}", userId);
-            notificationEmitters.remove(userId);
+            log.info("SSE({}) 연결 완료: userId={}", channel, userId);
+            connection.close();
         });
 
         emitter.onTimeout(() -> {
-            log.info("SSE(notification) 연결 타임아웃: userId={}", userId);
-            notificationEmitters.remove(userId);
+            log.info("SSE({}) 연결 타임아웃: userId={}", channel, userId);
+            connection.close();
         });
 
         emitter.onError((ex) -> {
-            log.error("SSE(notification) 연결 오류: userId={}", userId, ex);
-            notificationEmitters.remove(userId);
+            log.error("SSE({}) 연결 오류: userId={}", channel, userId, ex);
+            connection.close();
         });
 
-        notificationEmitters.put(userId, emitter);
-        log.info("SSE(notification) 연결 생성: userId={}", userId);
+        SseConnection previous = emitters.put(userId, connection);
+        if (previous != null) {
+            previous.close();
+            previous.emitter().complete();
+        }
+        log.info("SSE({}) 연결 생성: userId={}", channel, userId);
 
         return emitter;
     }
 
     // 공지/알림 전송
     public void sendNotification(Long userId, Object data) {
-        SseEmitter emitter = notificationEmitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(data));
-                log.info("알림 전송 성공: userId={}", userId);
-            } catch (IOException e) {
-                log.error("알림 전송 실패: userId={}", userId, e);
-                notificationEmitters.remove(userId);
-            }
+        SseConnection connection = notificationEmitters.get(userId);
+        if (connection != null) {
+            connection.enqueue("notification", data);
+        }
+    }
+
+    /**
+     * 공지 일괄 전송 - 호출 스레드는 작업 하나만 넘기고 바로 반환
+     * 전송 스레드가 접속 중인 알림 연결만 돌면서 그 사용자 몫의 데이터가 있으면 넣는다. (접속자 수에 비례, 수신자 전체를 돌지 않음)
+     */
+    public void broadcastNotification(Map<Long, ?> dataByUserId) {
+        if (dataByUserId.isEmpty()) {
+            return;
         }
+        sendExecutor.execute(() -> notificationEmitters.forEach((userId, connection) -> {
+            Object data = dataByUserId.get(userId);
+            if (data != null) {
+                connection.enqueue("notification", data);
+            }
+        }));
     }
 
     // 읽지 않은 메시지 카운트 전송
     public void sendUnreadCount(Long userId, long count) {
-        SseEmitter emitter = chatEmitters.get(userId);
-        if (emitter != null) {
-            try {
-                // 전체 안읽은 개수 전송
-                emitter.send(SseEmitter.event()
-                        .name("unreadCount")
-                        .data(count));
-
-                // 리스트 갱신 신호 전송
-                emitter.send(SseEmitter.event()
-                        .name("roomListUpdate")
-                        .data("refresh"));
-
-                log.info("전체 카운트 및 리스트 갱신 신호 전송 성공: userId={}", userId);
-            } catch (IOException e) {
-                log.error("전체 카운트 및 리스트 갱신 신호 전송 실패: userId={}", userId);
-                chatEmitters.remove(userId);
-            }
+        SseConnection connection = chatEmitters.get(userId);
+        if (connection != null) {
+            // 전체 안읽은 개수 전송 (마지막 값만 의미 있음)
+            connection.enqueueLatest("unreadCount", count);
+            // 리스트 갱신 신호 전송
+            connection.enqueueLatest("roomListUpdate", "refresh");
         }
     }
 
     // 리스트 갱신 신호만 전송
     public void sendRoomListUpdate(Long userId) {
-        SseEmitter emitter = chatEmitters.get(userId);
-        if (emitter != null) {
-            try {
-                // 리스트 갱신 신호 전송
-                emitter.send(SseEmitter.event()
-                        .name("roomListUpdate")
-                        .data("refresh"));
-
-                log.info("리스트 갱신 신호 전송 성공: userId={}", userId);
-            } catch (IOException e) {
-                log.error("리스트 갱신 신호 전송 실패: userId={}", userId);
-                chatEmitters.remove(userId);
-            }
+        SseConnection connection = chatEmitters.get(userId);
+        if (connection != null) {
+            connection.enqueueLatest("roomListUpdate", "refresh");
         }
     }
 
     // 채팅방 갱신 신호 전송
     public void sendRoomDetailUpdate(Long userId) {
-        SseEmitter emitter = chatEmitters.get(userId);
-        if (emitter != null) {
-            try {
-                // 채팅방 갱신 신호 전송
-                emitter.send(SseEmitter.event()
-                        .name("roomDetailUpdate")
-                        .data("refresh"));
-                log.info("채팅방 갱신 신호 전송 성공: userId={}", userId);
-            } catch (IOException e) {
-                log.error("채팅방 갱신 신호 전송 실패: userId={}", userId);
-                chatEmitters.remove(userId);
-            }
+        SseConnection connection = chatEmitters.get(userId);
+        if (connection != null) {
+            connection.enqueueLatest("roomDetailUpdate", "refresh");
         }
     }
 
-    // Heartbeat: 모든 연결에 comment만 전송 (연결되어 있는지 확인)
+    // Heartbeat: 모든 연결에 comment만 전송 (연결되어 있는지 확인), 끊긴 연결은 전송 실패 시 정리
     public void sendHeartbeatToAll() {
-        sendHeartbeat(chatEmitters, "chat");
-        sendHeartbeat(notificationEmitters, "notification");
+        sendExecutor.execute(() -> {
+            chatEmitters.values().forEach(SseConnection::enqueueHeartbeat);
+            notificationEmitters.values().forEach(SseConnection::enqueueHeartbeat);
+        });
     }
 
-    private static void sendHeartbeat(Map<Long, SseEmitter> emitters, String channel) {
-        Set<Long> userIds = Set.copyOf(emitters.keySet());
-        for (Long userId : userIds) {
-            SseEmitter emitter = emitters.get(userId);
-            if (emitter != null) {
-                try {
-                    emitter.send(SseEmitter.event().comment(""));
-                } catch (IOException e) {
-                    // 이미 끊긴 연결 정리
-                    emitters.remove(userId);
-                    emitter.complete();
-                }
+    public Stats stats() {
+        long queued = 0;
+        int maxDepth = 0;
+        for (Map<Long, SseConnection> emitters : List.of(chatEmitters, notificationEmitters)) {
+            for (SseConnection connection : emitters.values()) {
+                int depth = connection.depth();
+                queued += depth;
+                maxDepth = Math.max(maxDepth, depth);
             }
         }
+        return new Stats(chatEmitters.size(), notificationEmitters.size(), queued, maxDepth,
+                sent.sum(), overflowClosed.sum(), coalesced.sum());
     }
 
     // SSE 연결 종료 (채팅)
     public void removeChatEmitter(Long userId) {
-        SseEmitter emitter = chatEmitters.remove(userId);
-        if (emitter != null) {
-            emitter.complete();
+        SseConnection connection = chatEmitters.remove(userId);
+        if (connection != null) {
+            connection.close();
+            connection.emitter().complete();
             log.info("SSE(chat) 연결 종료: userId={}", userId);
         }
     }
 
     // SSE 연결 종료 (공지/알림)
     public void removeNotificationEmitter(Long userId) {
-        SseEmitter emitter = notificationEmitters.remove(userId);
-        if (emitter != null) {
-            emitter.complete();
+        SseConnection connection = notificationEmitters.remove(userId);
+        if (connection != null) {
+            connection.close();
+            connection.emitter().complete();
             log.info("SSE(notification) 연결 종료: userId={}", userId);
         }
     }
@@ -190,4 +189,9 @@ public class SseEmitterService {
         removeChatEmitter(userId);
         removeNotificationEmitter(userId);
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+}
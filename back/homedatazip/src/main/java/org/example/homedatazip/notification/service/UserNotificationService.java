@@ -12,9 +12,13 @@ import org.example.homedatazip.user.entity.User;
 import org.example.homedatazip.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -37,14 +41,21 @@ public class UserNotificationService {
                 .toList();
         List<UserNotification> savedNotifications = userNotificationRepository.saveAll(userNotifications);
 
-        // SSE로 실시간 알림 전송
-        savedNotifications.forEach(userNotification -> {
-            UserNotificationResponse response = UserNotificationResponse.from(userNotification);
-            sseEmitterService.sendNotification(
-                    userNotification.getUser().getId(),
-                    response
-            );
-        });
+        // SSE로 실시간 알림 전송 - 커밋 후 한 번에 넘기고, 접속자별 전송은 SseEmitterService 가 따로 처리
+        Map<Long, UserNotificationResponse> responses = new HashMap<>();
+        savedNotifications.forEach(userNotification -> responses.put(
+                userNotification.getUser().getId(), UserNotificationResponse.from(userNotification)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sseEmitterService.broadcastNotification(responses);
+                }
+            });
+        } else {
+            sseEmitterService.broadcastNotification(responses);
+        }
     }
 
     // 전체 조회
@@ -0,0 +1,11 @@
+package org.example.homedatazip.poi.dto;
+
+/** 메모리 인덱스용 버스 정류장 (엔티티 대신 필요한 값만) */
+public record PoiBusStation(
+        Long id,
+        String nodeId,
+        String stationNumber,
+        String name,
+        double latitude,
+        double longitude
+) {}
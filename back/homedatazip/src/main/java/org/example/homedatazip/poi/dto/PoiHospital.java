@@ -0,0 +1,11 @@
+package org.example.homedatazip.poi.dto;
+
+/** 메모리 인덱스용 병원 (좌표가 없는 병원도 지역별 목록/개수에는 포함) */
+public record PoiHospital(
+        Long regionId,
+        String name,
+        String typeName,
+        String address,
+        Double latitude,
+        Double longitude
+) {}
@@ -0,0 +1,10 @@
+package org.example.homedatazip.poi.dto;
+
+/** 메모리 인덱스용 학교 */
+public record PoiSchool(
+        Long id,
+        String name,
+        String schoolLevel,
+        double latitude,
+        double longitude
+) {}
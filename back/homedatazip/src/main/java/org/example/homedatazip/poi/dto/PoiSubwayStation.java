@@ -0,0 +1,12 @@
+package org.example.homedatazip.poi.dto;
+
+import java.util.List;
+
+/** 메모리 인덱스용 지하철역 (호선명은 중복 제거·정렬해서 보관) */
+public record PoiSubwayStation(
+        Long id,
+        String stationName,
+        List<String> lineNames,
+        double latitude,
+        double longitude
+) {}
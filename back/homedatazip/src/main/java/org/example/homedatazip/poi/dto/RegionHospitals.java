@@ -0,0 +1,12 @@
+package org.example.homedatazip.poi.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/** 지역(법정동)별 병원 목록과 종류별 개수 (적재 시 미리 계산) */
+public record RegionHospitals(
+        List<PoiHospital> hospitals,
+        Map<String, Long> countByTypeName
+) {
+    public static final RegionHospitals EMPTY = new RegionHospitals(List.of(), Map.of());
+}
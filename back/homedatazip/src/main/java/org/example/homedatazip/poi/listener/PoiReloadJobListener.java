@@ -0,0 +1,27 @@
+package org.example.homedatazip.poi.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.poi.service.PoiSpatialService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/** 정류장/병원/학교/지하철 적재 Job 종료 후 POI 인덱스를 새로 만든다 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PoiReloadJobListener implements JobExecutionListener {
+
+    private final PoiSpatialService poiSpatialService;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        // 실패한 Job 이라도 이미 커밋된 청크는 반영, 실패하면 이전 인덱스 유지
+        try {
+            poiSpatialService.reload();
+        } catch (Exception e) {
+            log.error("[POI] 배치 후 인덱스 갱신 실패 - job={}", jobExecution.getJobInstance().getJobName(), e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.homedatazip.poi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.poi.dto.PoiBusStation;
+import org.example.homedatazip.poi.dto.PoiHospital;
+import org.example.homedatazip.poi.dto.PoiSchool;
+import org.example.homedatazip.poi.dto.PoiSubwayStation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * POI 메모리 인덱스 적재용 전체 조회
+ * 엔티티/연관관계 없이 필요한 컬럼만 읽는다. (테이블 1번씩 순차 스캔)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PoiJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String BUS_STATION_SQL = """
+            SELECT id, node_id, station_number, name, latitude, longitude
+            FROM bus_station
+            WHERE latitude IS NOT NULL
+              AND longitude IS NOT NULL
+            """;
+
+    private static final String HOSPITAL_SQL = """
+            SELECT region_id, name, type_name, address, latitude, longitude
+            FROM hospital
+            ORDER BY id
+            """;
+
+    private static final String SCHOOL_SQL = """
+            SELECT id, name, school_level, latitude, longitude
+            FROM school
+            WHERE latitude IS NOT NULL
+              AND longitude IS NOT NULL
+            """;
+
+    private static final String SUBWAY_STATION_SQL = """
+            SELECT id, station_name, latitude, longitude
+            FROM subway_stations
+            WHERE latitude IS NOT NULL
+              AND longitude IS NOT NULL
+            """;
+
+    private static final String SUBWAY_LINE_SQL = """
+            SELECT station_id, line_name
+            FROM subway_station_sources
+            WHERE station_id IS NOT NULL
+            """;
+
+    public List<PoiBusStation> findAllBusStations() {
+        return jdbcTemplate.query(BUS_STATION_SQL, (rs, i) -> new PoiBusStation(
+                rs.getLong("id"),
+                rs.getString("node_id"),
+                rs.getString("station_number"),
+                rs.getString("name"),
+                rs.getDouble("latitude"),
+                rs.getDouble("longitude")
+        ));
+    }
+
+    /** 좌표 없는 병원도 포함 (지역별 개수/목록은 기존과 같아야 함) */
+    public List<PoiHospital> findAllHospitals() {
+        return jdbcTemplate.query(HOSPITAL_SQL, (rs, i) -> new PoiHospital(
+                rs.getObject("region_id", Long.class),
+                rs.getString("name"),
+                rs.getString("type_name"),
+                rs.getString("address"),
+                rs.getObject("latitude", Double.class),
+                rs.getObject("longitude", Double.class)
+        ));
+    }
+
+    public List<PoiSchool> findAllSchools() {
+        return jdbcTemplate.query(SCHOOL_SQL, (rs, i) -> new PoiSchool(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("school_level"),
+                rs.getDouble("latitude"),
+                rs.getDouble("longitude")
+        ));
+    }
+
+    public List<PoiSubwayStation> findAllSubwayStations() {
+        Map<Long, TreeSet<String>> linesByStation = new HashMap<>();
+        jdbcTemplate.query(SUBWAY_LINE_SQL, rs -> {
+            linesByStation.computeIfAbsent(rs.getLong("station_id"), k -> new TreeSet<>())
+                    .add(rs.getString("line_name"));
+        });
+
+        return jdbcTemplate.query(SUBWAY_STATION_SQL, (rs, i) -> {
+            long id = rs.getLong("id");
+            TreeSet<String> lines = linesByStation.get(id);
+            return new PoiSubwayStation(
+                    id,
+                    rs.getString("station_name"),
+                    lines == null ? List.of() : List.copyOf(lines),
+                    rs.getDouble("latitude"),
+                    rs.getDouble("longitude")
+            );
+        });
+    }
+}
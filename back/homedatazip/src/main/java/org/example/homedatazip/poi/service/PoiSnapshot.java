@@ -0,0 +1,68 @@
+package org.example.homedatazip.poi.service;
+
+import org.example.homedatazip.global.geo.GeoGridIndex;
+import org.example.homedatazip.poi.dto.PoiBusStation;
+import org.example.homedatazip.poi.dto.PoiHospital;
+import org.example.homedatazip.poi.dto.PoiSchool;
+import org.example.homedatazip.poi.dto.PoiSubwayStation;
+import org.example.homedatazip.poi.dto.RegionHospitals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 시점에 적재한 POI 전체 (불변)
+ * PoiSpatialService 가 통째로 바꿔 끼우므로, 조회 중인 요청은 항상 같은 시점의 데이터만 본다.
+ */
+record PoiSnapshot(
+        GeoGridIndex<PoiBusStation> busStations,
+        GeoGridIndex<PoiHospital> hospitals,
+        Map<Long, RegionHospitals> hospitalsByRegion,
+        GeoGridIndex<PoiSchool> schools,
+        GeoGridIndex<PoiSubwayStation> subwayStations
+) {
+
+    static PoiSnapshot of(List<PoiBusStation> busStations,
+                          List<PoiHospital> hospitals,
+                          List<PoiSchool> schools,
+                          List<PoiSubwayStation> subwayStations,
+                          double busCellMeters,
+                          double cellMeters) {
+        return new PoiSnapshot(
+                GeoGridIndex.build(busStations, PoiBusStation::latitude, PoiBusStation::longitude, busCellMeters),
+                GeoGridIndex.build(hospitals, PoiHospital::latitude, PoiHospital::longitude, cellMeters),
+                groupByRegion(hospitals),
+                GeoGridIndex.build(schools, PoiSchool::latitude, PoiSchool::longitude, cellMeters),
+                GeoGridIndex.build(subwayStations, PoiSubwayStation::latitude, PoiSubwayStation::longitude, cellMeters)
+        );
+    }
+
+    RegionHospitals hospitalsInRegion(Long regionId) {
+        RegionHospitals found = regionId == null ? null : hospitalsByRegion.get(regionId);
+        return found != null ? found : RegionHospitals.EMPTY;
+    }
+
+    private static Map<Long, RegionHospitals> groupByRegion(List<PoiHospital> hospitals) {
+        Map<Long, List<PoiHospital>> grouped = new HashMap<>();
+        for (PoiHospital h : hospitals) {
+            if (h.regionId() == null) continue;
+            grouped.computeIfAbsent(h.regionId(), k -> new ArrayList<>()).add(h);
+        }
+
+        Map<Long, RegionHospitals> result = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((regionId, list) -> {
+            Map<String, Long> counts = new TreeMap<>();
+            for (PoiHospital h : list) {
+                if (h.typeName() != null) {
+                    counts.merge(h.typeName(), 1L, Long::sum);
+                }
+            }
+            result.put(regionId, new RegionHospitals(List.copyOf(list), Collections.unmodifiableMap(counts)));
+        });
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.homedatazip.poi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.global.geo.GeoGridIndex.Neighbor;
+import org.example.homedatazip.poi.dto.PoiBusStation;
+import org.example.homedatazip.poi.dto.PoiHospital;
+import org.example.homedatazip.poi.dto.PoiSchool;
+import org.example.homedatazip.poi.dto.PoiSubwayStation;
+import org.example.homedatazip.poi.dto.RegionHospitals;
+import org.example.homedatazip.poi.repository.PoiJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 버스 정류장·병원·학교·지하철역 메모리 공간 인덱스
+ * - 기동 시(또는 첫 조회 시) 전체를 읽어 GeoGridIndex 로 만든 PoiSnapshot 을 들고 있는다.
+ * - 관련 배치가 끝나면 새 스냅샷을 만들어 참조만 바꾼다. 만드는 동안에도 조회는 이전 스냅샷으로 응답
+ * - 반경/최근접 조회는 DB 를 거치지 않는다.
+ */
+@Slf4j
+@Service
+public class PoiSpatialService {
+
+    private final PoiJdbcRepository poiJdbcRepository;
+    private final double busCellMeters;
+    private final double cellMeters;
+
+    private final Object reloadLock = new Object();
+    private volatile PoiSnapshot snapshot;
+
+    public PoiSpatialService(PoiJdbcRepository poiJdbcRepository,
+                             @Value("${poi.index.bus-cell-meters:500}") double busCellMeters,
+                             @Value("${poi.index.cell-meters:1000}") double cellMeters) {
+        this.poiJdbcRepository = poiJdbcRepository;
+        this.busCellMeters = busCellMeters;
+        this.cellMeters = cellMeters;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        Thread.ofVirtual().name("poi-index-load").start(() -> {
+            try {
+                current();
+            } catch (Exception e) {
+                log.error("[POI] 기동 시 인덱스 적재 실패 - 첫 조회 때 다시 시도", e);
+            }
+        });
+    }
+
+    /** 배치 종료 후 (PoiReloadJobListener) */
+    public void reload() {
+        synchronized (reloadLock) {
+            snapshot = load();
+        }
+    }
+
+    /** 반경(m) 이내 정류장, 가까운 순 최대 limit 개 */
+    public List<Neighbor<PoiBusStation>> findBusStations(double lat, double lon, double radiusMeters, int limit) {
+        return current().busStations().nearest(lat, lon, limit, radiusMeters, null);
+    }
+
+    /** 반경(m) 이내 병원, 가까운 순 최대 limit 개 */
+    public List<Neighbor<PoiHospital>> findHospitals(double lat, double lon, double radiusMeters, int limit) {
+        return current().hospitals().nearest(lat, lon, limit, radiusMeters, null);
+    }
+
+    /** 지역(법정동) 병원 목록/종류별 개수 */
+    public RegionHospitals findHospitalsInRegion(Long regionId) {
+        return current().hospitalsInRegion(regionId);
+    }
+
+    /** 가까운 학교 k 개 (maxRadius 이내, schoolLevels 가 비어 있으면 전체) */
+    public List<Neighbor<PoiSchool>> findNearestSchools(double lat, double lon, int k, double maxRadiusMeters,
+                                                        Collection<String> schoolLevels) {
+        if (schoolLevels == null || schoolLevels.isEmpty()) {
+            return current().schools().nearest(lat, lon, k, maxRadiusMeters, null);
+        }
+        Set<String> levels = Set.copyOf(schoolLevels);
+        return current().schools().nearest(lat, lon, k, maxRadiusMeters, s -> levels.contains(s.schoolLevel()));
+    }
+
+    /** 가까운 지하철역 k 개 (maxRadius 이내) */
+    public List<Neighbor<PoiSubwayStation>> findNearestSubwayStations(double lat, double lon, int k, double maxRadiusMeters) {
+        return current().subwayStations().nearest(lat, lon, k, maxRadiusMeters, null);
+    }
+
+    private PoiSnapshot current() {
+        PoiSnapshot s = snapshot;
+        if (s != null) return s;
+
+        synchronized (reloadLock) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private PoiSnapshot load() {
+        long start = System.currentTimeMillis();
+        PoiSnapshot loaded = PoiSnapshot.of(
+                poiJdbcRepository.findAllBusStations(),
+                poiJdbcRepository.findAllHospitals(),
+                poiJdbcRepository.findAllSchools(),
+                poiJdbcRepository.findAllSubwayStations(),
+                busCellMeters,
+                cellMeters
+        );
+        log.info("[POI] 인덱스 적재 완료 - bus={}, hospital={}, school={}, subway={}, {}ms",
+                loaded.busStations().size(), loaded.hospitals().size(),
+                loaded.schools().size(), loaded.subwayStations().size(),
+                System.currentTimeMillis() - start);
+        return loaded;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.homedatazip.recommend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.recommend.dto.ApartmentResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 추천 결과 저장소 (Redis)
+ * <br/>
+ * 사용자별 추천 목록을 계산 시각과 함께 저장해두고 요청 시 그대로 돌려준다.
+ * 거래 배치가 끝나면 data-version(시각)을 올려서, 그 전에 계산된 목록은 "오래됨"으로 본다.
+ * Redis 장애 시 null 을 돌려주고 호출부가 직접 계산한다.
+ */
+@Slf4j
+@Component
+public class RecommendationCache {
+
+    private static final String USER_KEY_PREFIX = "recommend:user:";
+    private static final String DEFAULT_KEY = "recommend:default";
+    private static final String DATA_VERSION_KEY = "recommend:data-version";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RecommendationCache(StringRedisTemplate redis,
+                               ObjectMapper objectMapper,
+                               @Value("${recommend.cache.ttl-hours:24}") long ttlHours) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * @param computedAt epoch millis
+     */
+    public record Entry(List<ApartmentResponse> items, long computedAt) {
+    }
+
+    /**
+     * @param outdated 마지막 거래 배치보다 먼저 계산된 목록
+     */
+    public record Lookup(Entry entry, boolean outdated) {
+    }
+
+    /** 사용자 목록 + data-version 을 한 번에 조회, 없으면 null */
+    public Lookup get(Long userId) {
+        try {
+            List<String> values = redis.opsForValue().multiGet(List.of(USER_KEY_PREFIX + userId, DATA_VERSION_KEY));
+            if (values == null || values.get(0) == null) return null;
+
+            Entry entry = objectMapper.readValue(values.get(0), Entry.class);
+            long dataVersion = values.get(1) == null ? 0L : Long.parseLong(values.get(1));
+            return new Lookup(entry, entry.computedAt() < dataVersion);
+        } catch (Exception e) {
+            log.warn("[RECOMMEND-CACHE] Redis 조회 실패 - userId={}, err={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(Long userId, List<ApartmentResponse> items) {
+        write(USER_KEY_PREFIX + userId, new Entry(items, System.currentTimeMillis()), ttl);
+    }
+
+    /** 기본 추천 목록 (배치마다 갱신하므로 만료 없음) */
+    public Entry getDefault() {
+        try {
+            String json = redis.opsForValue().get(DEFAULT_KEY);
+            return json == null ? null : objectMapper.readValue(json, Entry.class);
+        } catch (Exception e) {
+            log.warn("[RECOMMEND-CACHE] 기본 추천 조회 실패 - err={}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void putDefault(List<ApartmentResponse> items) {
+        write(DEFAULT_KEY, new Entry(items, System.currentTimeMillis()), null);
+    }
+
+    /** 거래 배치 종료 시 호출, 이전에 계산된 사용자 목록은 다음 조회 때 백그라운드로 다시 계산 */
+    public void markDataChanged() {
+        try {
+            redis.opsForValue().set(DATA_VERSION_KEY, String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("[RECOMMEND-CACHE] data-version 저장 실패 - err={}", e.getMessage());
+        }
+    }
+
+    private void write(String key, Entry entry, Duration ttl) {
+        try {
+            String json = objectMapper.writeValueAsString(entry);
+            if (ttl == null) {
+                redis.opsForValue().set(key, json);
+            } else {
+                redis.opsForValue().set(key, json, ttl);
+            }
+        } catch (Exception e) {
+            log.warn("[RECOMMEND-CACHE] Redis 저장 실패 - key={}, err={}", key, e.getMessage());
+        }
+    }
+}
@@ -2,10 +2,13 @@ package org.example.homedatazip.recommend.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.global.config.CustomUserDetails;
+import org.example.homedatazip.global.validation.RoleValidation;
 import org.example.homedatazip.recommend.dto.UserPyeongClickRequest;
+import org.example.homedatazip.recommend.service.SearchLogBuffer;
 import org.example.homedatazip.recommend.service.SearchLogService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UserLogController {
     private final SearchLogService searchLogService;
+    private final RoleValidation roleValidation;
 
     @PostMapping("/click")
     public ResponseEntity<Void> logClick(
@@ -26,4 +30,12 @@ public class UserLogController {
         }
         return ResponseEntity.ok().build();
     }
+
+    // 로그 버퍼 적재/유실 현황 (관리자)
+    @GetMapping("/stats")
+    public ResponseEntity<SearchLogBuffer.Stats> getStats(
+            @AuthenticationPrincipal CustomUserDetails user) {
+        roleValidation.validateAdmin(user.getUserId());
+        return ResponseEntity.ok(searchLogService.stats());
+    }
 }
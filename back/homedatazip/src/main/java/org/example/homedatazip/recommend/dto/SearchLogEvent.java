@@ -0,0 +1,54 @@
+package org.example.homedatazip.recommend.dto;
+
+import org.example.homedatazip.recommend.type.LogType;
+import org.example.homedatazip.recommend.type.TradeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 검색/행동 로그 (요청 스레드에서 만들어 SearchLogBuffer 에 넣는다)
+ * sggCode / 평형 / 시세는 저장 스레드가 채운다.
+ * - SEARCH: sido, gugun + 필터
+ * - SUMMARY, DETAIL: aptId
+ * - PYEONG_CLICK: aptId, clickArea
+ */
+public record SearchLogEvent(
+        Long userId,
+        LogType logType,
+        TradeType tradeType,
+        Long aptId,
+        String sido,
+        String gugun,
+        Long minPrice,
+        Long maxPrice,
+        Long minMonthlyRent,
+        Long maxMonthlyRent,
+        Double minArea,
+        Double maxArea,
+        Integer buildYearFilter,
+        Integer periodMonths,
+        Double clickArea,
+        LocalDateTime createdAt
+) {
+
+    public static SearchLogEvent search(Long userId, String sido, String gugun,
+                                        Long minPrice, Long maxPrice,
+                                        Long minMonthlyRent, Long maxMonthlyRent,
+                                        Double minArea, Double maxArea,
+                                        Integer buildYearFilter, Integer periodMonths,
+                                        TradeType tradeType) {
+        return new SearchLogEvent(userId, LogType.SEARCH, tradeType, null, sido, gugun,
+                minPrice, maxPrice, minMonthlyRent, maxMonthlyRent, minArea, maxArea,
+                buildYearFilter, periodMonths, null, LocalDateTime.now());
+    }
+
+    public static SearchLogEvent action(Long userId, Long aptId, LogType logType, TradeType tradeType) {
+        return new SearchLogEvent(userId, logType, tradeType, aptId, null, null,
+                null, null, null, null, null, null, null, null, null, LocalDateTime.now());
+    }
+
+    public static SearchLogEvent pyeongClick(Long userId, Long aptId, Double area, TradeType tradeType) {
+        return new SearchLogEvent(userId, LogType.PYEONG_CLICK, tradeType, aptId, null, null,
+                null, null, null, null, null, null, null, null, area, LocalDateTime.now());
+    }
+}
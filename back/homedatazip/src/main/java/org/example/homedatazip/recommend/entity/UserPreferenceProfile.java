@@ -0,0 +1,76 @@
+package org.example.homedatazip.recommend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 × 시군구별 선호 누적값 (추천 선호도 계산용)
+ * 로그 점수를 가중치로 한 가격/월세/면적 합과 거래유형별 점수를 시간 감쇠(half-life)시키며 더해둔다.
+ * 값은 모두 updated_at 시점 기준으로 감쇠된 값이다.
+ * 적재/갱신은 UserPreferenceProfileBulkRepository(JdbcTemplate)에서만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "user_preference_profile",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_preference_profile",
+                columnNames = {"user_id", "sgg_code"}
+        )
+)
+public class UserPreferenceProfile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sgg_code", nullable = false, length = 10)
+    private String sggCode;
+
+    // 전체 로그 점수
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    // 가격(매매가/보증금) × 점수 합, 가격이 있는 로그의 점수 합
+    @Column(name = "price_sum", nullable = false)
+    private Double priceSum;
+
+    @Column(name = "price_weight", nullable = false)
+    private Double priceWeight;
+
+    @Column(name = "monthly_sum", nullable = false)
+    private Double monthlySum;
+
+    @Column(name = "monthly_weight", nullable = false)
+    private Double monthlyWeight;
+
+    @Column(name = "area_sum", nullable = false)
+    private Double areaSum;
+
+    @Column(name = "area_weight", nullable = false)
+    private Double areaWeight;
+
+    // 거래유형별 점수 (전월세 = 전세 + 월세)
+    @Column(name = "rent_score", nullable = false)
+    private Double rentScore;
+
+    @Column(name = "sale_score", nullable = false)
+    private Double saleScore;
+
+    @Column(name = "wolse_score", nullable = false)
+    private Double wolseScore;
+
+    @Column(name = "jeonse_score", nullable = false)
+    private Double jeonseScore;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
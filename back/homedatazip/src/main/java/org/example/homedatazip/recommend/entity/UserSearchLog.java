@@ -15,7 +15,13 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_search_log")
+@Table(
+        name = "user_search_log",
+        indexes = {
+                @Index(name = "idx_user_search_log_user_created", columnList = "userId, createdAt"),
+                @Index(name = "idx_user_search_log_created", columnList = "createdAt")
+        }
+)
 public class UserSearchLog {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
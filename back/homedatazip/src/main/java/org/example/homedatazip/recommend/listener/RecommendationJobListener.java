@@ -0,0 +1,27 @@
+package org.example.homedatazip.recommend.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.recommend.service.RecommendationService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/** 거래 적재 Job 종료 후 기본 추천을 다시 계산하고, 사용자별 추천은 다음 조회 때 갱신되도록 표시 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationJobListener implements JobExecutionListener {
+
+    private final RecommendationService recommendationService;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        // 실패한 Job 이라도 이미 커밋된 청크는 반영
+        try {
+            recommendationService.onTradeDataChanged();
+        } catch (Exception e) {
+            log.error("[Recommend] 배치 후 추천 갱신 실패 - job={}", jobExecution.getJobInstance().getJobName(), e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.homedatazip.recommend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색/행동 로그 일괄 저장 (SearchLogBuffer)
+ * - 여러 행을 INSERT ... VALUES (...), (...) 한 문장으로 넣는다 (최대 INSERT_CHUNK 행씩)
+ * - 로그 대상 아파트의 시군구 코드를 한 번에 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchLogJdbcRepository {
+
+    private static final int INSERT_CHUNK = 500;
+    private static final int COLUMN_COUNT = 18;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO user_search_log
+            (user_id, apt_id, sgg_code, min_price, max_price, min_monthly_rent, max_monthly_rent,
+             min_area, max_area, build_year_filter, period_months, final_area, final_price, monthly_rent,
+             trade_type, log_type, score, created_at)
+            VALUES
+            """;
+
+    private static final String VALUES_ROW = "(" + "?, ".repeat(COLUMN_COUNT - 1) + "?)";
+
+    private static final String SGG_CODE_SQL = """
+            SELECT a.id, r.sgg_code
+            FROM apartments a
+            JOIN region r ON r.id = a.region_id
+            WHERE a.id IN (:ids)
+            """;
+
+    public void insertAll(List<UserSearchLogRow> rows) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK) {
+            List<UserSearchLogRow> chunk = rows.subList(from, Math.min(from + INSERT_CHUNK, rows.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), VALUES_ROW));
+
+            List<Object> args = new ArrayList<>(chunk.size() * COLUMN_COUNT);
+            for (UserSearchLogRow row : chunk) {
+                args.add(row.userId());
+                args.add(row.aptId());
+                args.add(row.sggCode());
+                args.add(row.minPrice());
+                args.add(row.maxPrice());
+                args.add(row.minMonthlyRent());
+                args.add(row.maxMonthlyRent());
+                args.add(row.minArea());
+                args.add(row.maxArea());
+                args.add(row.buildYearFilter());
+                args.add(row.periodMonths());
+                args.add(row.finalArea());
+                args.add(row.finalPrice());
+                args.add(row.monthlyRent());
+                args.add(row.tradeType() == null ? null : row.tradeType().name());
+                args.add(row.logType().name());
+                args.add(row.logType().getScore());
+                args.add(Timestamp.valueOf(row.createdAt()));
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+
+    /** aptId → 시군구 코드 (없는 아파트는 빠짐) */
+    public Map<Long, String> findSggCodesByAptIds(Collection<Long> aptIds) {
+        Map<Long, String> result = new HashMap<>();
+        if (aptIds == null || aptIds.isEmpty()) return result;
+
+        namedParameterJdbcTemplate.query(SGG_CODE_SQL, new MapSqlParameterSource("ids", aptIds),
+                rs -> {
+                    result.put(rs.getLong("id"), rs.getString("sgg_code"));
+                });
+        return result;
+    }
+}
@@ -0,0 +1,220 @@
+package org.example.homedatazip.recommend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.recommend.type.TradeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * user_preference_profile 갱신/조회
+ * - 새로 저장된 로그: (사용자, 시군구)별로 모아 기존 값을 지난 시간만큼 감쇠시킨 뒤 더한다 (로그 건수에만 비례)
+ * - 재생성: user_search_log 최근 window 를 로그별 감쇠 가중치로 다시 집계해서 통째로 바꾼다
+ * 감쇠 = 0.5 ^ (경과 초 / half-life 초)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPreferenceProfileBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String DECAY = "POW(0.5, GREATEST(TIMESTAMPDIFF(SECOND, updated_at, VALUES(updated_at)), 0) / %d)";
+
+    // updated_at 은 감쇠 계산에 옛 값이 필요하므로 마지막에 바꾼다
+    private static final String MERGE_SQL = """
+            INSERT INTO user_preference_profile
+            (user_id, sgg_code, score, price_sum, price_weight, monthly_sum, monthly_weight,
+             area_sum, area_weight, rent_score, sale_score, wolse_score, jeonse_score, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                score          = score          * {d} + VALUES(score),
+                price_sum      = price_sum      * {d} + VALUES(price_sum),
+                price_weight   = price_weight   * {d} + VALUES(price_weight),
+                monthly_sum    = monthly_sum    * {d} + VALUES(monthly_sum),
+                monthly_weight = monthly_weight * {d} + VALUES(monthly_weight),
+                area_sum       = area_sum       * {d} + VALUES(area_sum),
+                area_weight    = area_weight    * {d} + VALUES(area_weight),
+                rent_score     = rent_score     * {d} + VALUES(rent_score),
+                sale_score     = sale_score     * {d} + VALUES(sale_score),
+                wolse_score    = wolse_score    * {d} + VALUES(wolse_score),
+                jeonse_score   = jeonse_score   * {d} + VALUES(jeonse_score),
+                updated_at     = GREATEST(updated_at, VALUES(updated_at))
+            """;
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO user_preference_profile
+            (user_id, sgg_code, score, price_sum, price_weight, monthly_sum, monthly_weight,
+             area_sum, area_weight, rent_score, sale_score, wolse_score, jeonse_score, updated_at)
+            SELECT l.user_id, l.sgg_code,
+                   SUM(l.w),
+                   SUM(CASE WHEN l.final_price > 0 THEN l.final_price * l.w ELSE 0 END),
+                   SUM(CASE WHEN l.final_price > 0 THEN l.w ELSE 0 END),
+                   SUM(CASE WHEN l.monthly_rent > 0 THEN l.monthly_rent * l.w ELSE 0 END),
+                   SUM(CASE WHEN l.monthly_rent > 0 THEN l.w ELSE 0 END),
+                   SUM(CASE WHEN l.final_area > 0 THEN l.final_area * l.w ELSE 0 END),
+                   SUM(CASE WHEN l.final_area > 0 THEN l.w ELSE 0 END),
+                   SUM(CASE WHEN l.trade_type IN ('RENT', 'WOLSE') THEN l.w ELSE 0 END),
+                   SUM(CASE WHEN l.trade_type = 'SALE' THEN l.w ELSE 0 END),
+                   SUM(CASE WHEN l.trade_type = 'WOLSE' THEN l.w ELSE 0 END),
+                   SUM(CASE WHEN l.trade_type = 'RENT' THEN l.w ELSE 0 END),
+                   ?
+            FROM (
+                SELECT user_id, sgg_code, final_price, monthly_rent, final_area, trade_type,
+                       score * POW(0.5, GREATEST(TIMESTAMPDIFF(SECOND, created_at, ?), 0) / %d) AS w
+                FROM user_search_log
+                WHERE created_at > ?
+                  AND user_id IS NOT NULL
+                  AND sgg_code IS NOT NULL
+            ) l
+            GROUP BY l.user_id, l.sgg_code
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT sgg_code, score, price_sum, price_weight, monthly_sum, monthly_weight,
+                   area_sum, area_weight, rent_score, sale_score, wolse_score, jeonse_score, updated_at
+            FROM user_preference_profile
+            WHERE user_id = ?
+              AND updated_at > ?
+            """;
+
+    /** 조회 결과 (값은 updatedAt 기준 감쇠값) */
+    public record ProfileRow(
+            String sggCode,
+            double score,
+            double priceSum,
+            double priceWeight,
+            double monthlySum,
+            double monthlyWeight,
+            double areaSum,
+            double areaWeight,
+            double rentScore,
+            double saleScore,
+            double wolseScore,
+            double jeonseScore,
+            LocalDateTime updatedAt
+    ) {
+    }
+
+    /** 새로 저장된 로그를 프로필에 병합 (같은 배치 안의 로그끼리는 감쇠 없이 합산) */
+    public void mergeLogs(List<UserSearchLogRow> logs, long halfLifeSeconds) {
+        if (logs == null || logs.isEmpty()) return;
+
+        Map<String, Delta> byKey = new LinkedHashMap<>();
+        for (UserSearchLogRow log : logs) {
+            if (log.userId() == null || log.sggCode() == null) continue;
+            byKey.computeIfAbsent(log.userId() + "|" + log.sggCode(), k -> new Delta(log.userId(), log.sggCode()))
+                    .add(log);
+        }
+        if (byKey.isEmpty()) return;
+
+        String sql = MERGE_SQL.replace("{d}", DECAY.formatted(Math.max(halfLifeSeconds, 1L)));
+        List<Delta> rows = new ArrayList<>(byKey.values());
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, d) -> {
+            ps.setLong(1, d.userId);
+            ps.setString(2, d.sggCode);
+            ps.setDouble(3, d.score);
+            ps.setDouble(4, d.priceSum);
+            ps.setDouble(5, d.priceWeight);
+            ps.setDouble(6, d.monthlySum);
+            ps.setDouble(7, d.monthlyWeight);
+            ps.setDouble(8, d.areaSum);
+            ps.setDouble(9, d.areaWeight);
+            ps.setDouble(10, d.rentScore);
+            ps.setDouble(11, d.saleScore);
+            ps.setDouble(12, d.wolseScore);
+            ps.setDouble(13, d.jeonseScore);
+            ps.setTimestamp(14, Timestamp.valueOf(d.latest));
+        });
+    }
+
+    /** since 이후 로그로 전체 재생성, 반환: 만들어진 행 수 */
+    @Transactional
+    public int rebuild(LocalDateTime since, long halfLifeSeconds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("DELETE FROM user_preference_profile");
+        return jdbcTemplate.update(REBUILD_SQL.formatted(Math.max(halfLifeSeconds, 1L)),
+                now, now, Timestamp.valueOf(since));
+    }
+
+    public boolean isEmpty() {
+        Integer one = jdbcTemplate.query("SELECT 1 FROM user_preference_profile LIMIT 1",
+                rs -> rs.next() ? rs.getInt(1) : null);
+        return one == null;
+    }
+
+    /** 사용자의 시군구별 프로필 (since 이후 갱신된 것만) */
+    public List<ProfileRow> findByUserId(Long userId, LocalDateTime since) {
+        return jdbcTemplate.query(FIND_SQL, (rs, i) -> new ProfileRow(
+                rs.getString("sgg_code"),
+                rs.getDouble("score"),
+                rs.getDouble("price_sum"),
+                rs.getDouble("price_weight"),
+                rs.getDouble("monthly_sum"),
+                rs.getDouble("monthly_weight"),
+                rs.getDouble("area_sum"),
+                rs.getDouble("area_weight"),
+                rs.getDouble("rent_score"),
+                rs.getDouble("sale_score"),
+                rs.getDouble("wolse_score"),
+                rs.getDouble("jeonse_score"),
+                rs.getTimestamp("updated_at").toLocalDateTime()
+        ), userId, Timestamp.valueOf(since));
+    }
+
+    private static final class Delta {
+        private final Long userId;
+        private final String sggCode;
+        private double score;
+        private double priceSum;
+        private double priceWeight;
+        private double monthlySum;
+        private double monthlyWeight;
+        private double areaSum;
+        private double areaWeight;
+        private double rentScore;
+        private double saleScore;
+        private double wolseScore;
+        private double jeonseScore;
+        private LocalDateTime latest;
+
+        private Delta(Long userId, String sggCode) {
+            this.userId = userId;
+            this.sggCode = sggCode;
+        }
+
+        private void add(UserSearchLogRow log) {
+            double w = log.logType().getScore();
+            score += w;
+            if (log.finalPrice() != null && log.finalPrice() > 0) {
+                priceSum += log.finalPrice() * w;
+                priceWeight += w;
+            }
+            if (log.monthlyRent() != null && log.monthlyRent() > 0) {
+                monthlySum += log.monthlyRent() * w;
+                monthlyWeight += w;
+            }
+            if (log.finalArea() != null && log.finalArea() > 0) {
+                areaSum += log.finalArea() * w;
+                areaWeight += w;
+            }
+            TradeType type = log.tradeType();
+            if (type == TradeType.RENT || type == TradeType.WOLSE) rentScore += w;
+            if (type == TradeType.SALE) saleScore += w;
+            if (type == TradeType.WOLSE) wolseScore += w;
+            if (type == TradeType.RENT) jeonseScore += w;
+
+            LocalDateTime at = Objects.requireNonNullElseGet(log.createdAt(), LocalDateTime::now);
+            if (latest == null || at.isAfter(latest)) {
+                latest = at;
+            }
+        }
+    }
+}
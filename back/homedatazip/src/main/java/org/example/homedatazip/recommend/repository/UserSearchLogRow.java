@@ -0,0 +1,28 @@
+package org.example.homedatazip.recommend.repository;
+
+import org.example.homedatazip.recommend.type.LogType;
+import org.example.homedatazip.recommend.type.TradeType;
+
+import java.time.LocalDateTime;
+
+/** user_search_log 한 행 (일괄 INSERT 용) */
+public record UserSearchLogRow(
+        Long userId,
+        Long aptId,
+        String sggCode,
+        Long minPrice,
+        Long maxPrice,
+        Long minMonthlyRent,
+        Long maxMonthlyRent,
+        Double minArea,
+        Double maxArea,
+        Integer buildYearFilter,
+        Integer periodMonths,
+        Double finalArea,
+        Long finalPrice,
+        Long monthlyRent,
+        TradeType tradeType,
+        LogType logType,
+        LocalDateTime createdAt
+) {
+}
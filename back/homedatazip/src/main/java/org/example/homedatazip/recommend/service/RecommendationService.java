@@ -1,30 +1,153 @@
 package org.example.homedatazip.recommend.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.example.homedatazip.apartment.entity.Apartment;
+import org.example.homedatazip.recommend.cache.RecommendationCache;
 import org.example.homedatazip.recommend.dto.ApartmentResponse;
 import org.example.homedatazip.recommend.repository.ApartmentRecommendationRepository;
-import org.example.homedatazip.recommend.repository.UserSearchLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
-@Service
-@RequiredArgsConstructor
+/**
+ * 추천 조회
+ * - 사용자별 결과는 RecommendationCache 에 저장해두고 그대로 돌려준다.
+ * - 검색/클릭 로그가 쌓이거나 거래 배치가 끝나면 "다시 계산할 사용자"로 표시만 하고,
+ *   전용 스레드가 몇 초마다 모아서 계산한다. (같은 사용자의 연속 로그는 1번 계산)
+ * - 계산한 지 max-stale 이 지난 목록은 돌려주지 않고 그 자리에서 다시 계산한다.
+ * - 기본 추천은 거래 배치가 끝날 때 1번 계산한다.
+ */
 @Slf4j
+@Service
 public class RecommendationService {
 
-    private final UserSearchLogRepository logRepository;
+    private final UserPreferenceProfileService userPreferenceProfileService;
     private final ApartmentRecommendationRepository recommendationRepository;
+    private final RecommendationCache recommendationCache;
+
+    private final long maxStaleMillis;
+    private final long refreshIntervalMs;
+    private final int refreshBatchSize;
+
+    // 다시 계산할 사용자
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    private volatile List<ApartmentResponse> defaultRecommendations;
+
+    private ScheduledExecutorService refresher;
+
+    public RecommendationService(
+            UserPreferenceProfileService userPreferenceProfileService,
+            ApartmentRecommendationRepository recommendationRepository,
+            RecommendationCache recommendationCache,
+            @Value("${recommend.cache.max-stale-seconds:3600}") long maxStaleSeconds,
+            @Value("${recommend.cache.refresh-interval-ms:2000}") long refreshIntervalMs,
+            @Value("${recommend.cache.refresh-batch-size:200}") int refreshBatchSize
+    ) {
+        this.userPreferenceProfileService = userPreferenceProfileService;
+        this.recommendationRepository = recommendationRepository;
+        this.recommendationCache = recommendationCache;
+        this.maxStaleMillis = maxStaleSeconds * 1000L;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "recommend-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshDirtyQuietly, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        // 다른 인스턴스/이전 실행이 계산해둔 기본 추천이 있으면 그대로 사용
+        RecommendationCache.Entry entry = recommendationCache.getDefault();
+        if (entry != null) {
+            defaultRecommendations = entry.items();
+        }
+    }
 
-    @Transactional(readOnly = true)
     public List<ApartmentResponse> getPersonalizedRecommendations(Long userId) {
-        return logRepository.findUserPreference(userId, LocalDateTime.now().minusDays(30))
+        RecommendationCache.Lookup cached = recommendationCache.get(userId);
+        if (cached != null) {
+            long age = System.currentTimeMillis() - cached.entry().computedAt();
+            if (age <= maxStaleMillis) {
+                if (cached.outdated()) {
+                    dirtyUsers.add(userId);
+                }
+                return cached.entry().items();
+            }
+        }
+
+        // 없거나 너무 오래됨 → 바로 계산
+        dirtyUsers.remove(userId);
+        return refresh(userId);
+    }
+
+    public List<ApartmentResponse> getDefaultRecommendations() {
+        List<ApartmentResponse> current = defaultRecommendations;
+        return current != null ? current : refreshDefaultRecommendations();
+    }
+
+    /**
+     * 검색/클릭 로그 저장 시 호출, 트랜잭션 안이면 커밋 후에 표시 (커밋 전 로그로 계산하지 않도록)
+     */
+    public void markDirty(Long userId) {
+        if (userId == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyUsers.add(userId);
+                }
+            });
+        } else {
+            dirtyUsers.add(userId);
+        }
+    }
+
+    /** 거래 배치 종료 후 (RecommendationJobListener) */
+    public void onTradeDataChanged() {
+        recommendationCache.markDataChanged();
+        refreshDefaultRecommendations();
+    }
+
+    public List<ApartmentResponse> refreshDefaultRecommendations() {
+        List<ApartmentResponse> fresh = recommendationRepository.findDefaultRecommendations();
+        recommendationCache.putDefault(fresh);
+        defaultRecommendations = fresh;
+        return fresh;
+    }
+
+    private List<ApartmentResponse> refresh(Long userId) {
+        List<ApartmentResponse> fresh = calculate(userId);
+        recommendationCache.put(userId, fresh);
+        return fresh;
+    }
+
+    private List<ApartmentResponse> calculate(Long userId) {
+        return userPreferenceProfileService.findPreference(userId)
                 .map(pref -> {
-                    log.info("선호도 계산됨: 지역={}, 가격={}, 월세={}, 면적={}, 전세여부={}, 월세여부={}",
+                    log.debug("선호도 계산됨: userId={}, 지역={}, 가격={}, 월세={}, 면적={}, 전세여부={}, 월세여부={}",
+                            userId,
                             pref.favoriteSggCode(),
                             pref.preferredPrice(),
                             pref.preferredMonthly(),
@@ -36,7 +159,30 @@ public class RecommendationService {
                 .orElseGet(List::of);
     }
 
-    public List<ApartmentResponse> getDefaultRecommendations() {
-        return recommendationRepository.findDefaultRecommendations();
+    private void refreshDirtyQuietly() {
+        if (dirtyUsers.isEmpty()) return;
+
+        List<Long> targets = new ArrayList<>(Math.min(dirtyUsers.size(), refreshBatchSize));
+        Iterator<Long> it = dirtyUsers.iterator();
+        while (it.hasNext() && targets.size() < refreshBatchSize) {
+            targets.add(it.next());
+            it.remove();
+        }
+
+        for (Long userId : targets) {
+            try {
+                refresh(userId);
+            } catch (Exception e) {
+                // 다음 조회 때 max-stale 기준으로 다시 계산된다
+                log.warn("[Recommend] 백그라운드 갱신 실패 - userId={}, err={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
     }
 }
@@ -0,0 +1,206 @@
+package org.example.homedatazip.recommend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.recommend.dto.SearchLogEvent;
+import org.example.homedatazip.recommend.repository.SearchLogJdbcRepository;
+import org.example.homedatazip.recommend.repository.UserSearchLogRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색/행동 로그 버퍼
+ * - 요청 스레드는 이벤트를 고정 크기 큐에 넣기만 한다. 가득 차면 버린다 (로그는 유실 허용, 요청을 막지 않음)
+ * - 전용 스레드가 batch-size 만큼 모이거나 flush-interval 이 지나면 꺼내서
+ *   시군구/평형/시세를 채우고(SearchLogResolver) 여러 행 INSERT 한 번으로 저장, 선호 프로필에도 반영
+ * - 같은 사용자의 로그는 dedup-window 안에 한 번만 받는다 (평형 클릭은 제외), 지난 기록은 저장 스레드가 정리
+ */
+@Slf4j
+@Component
+public class SearchLogBuffer {
+
+    private final SearchLogResolver searchLogResolver;
+    private final SearchLogJdbcRepository searchLogJdbcRepository;
+    private final RecommendationService recommendationService;
+    private final UserPreferenceProfileService userPreferenceProfileService;
+
+    private final long flushIntervalMs;
+    private final int batchSize;
+    private final long dedupWindowMs;
+    private final BlockingQueue<SearchLogEvent> queue;
+
+    // userId → 마지막으로 받은 시각
+    private final Map<Long, Long> lastAcceptedAt = new ConcurrentHashMap<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public SearchLogBuffer(
+            SearchLogResolver searchLogResolver,
+            SearchLogJdbcRepository searchLogJdbcRepository,
+            RecommendationService recommendationService,
+            UserPreferenceProfileService userPreferenceProfileService,
+            @Value("${search-log.buffer.capacity:10000}") int capacity,
+            @Value("${search-log.buffer.batch-size:500}") int batchSize,
+            @Value("${search-log.buffer.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${search-log.dedup-window-ms:1000}") long dedupWindowMs
+    ) {
+        this.searchLogResolver = searchLogResolver;
+        this.searchLogJdbcRepository = searchLogJdbcRepository;
+        this.recommendationService = recommendationService;
+        this.userPreferenceProfileService = userPreferenceProfileService;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.dedupWindowMs = dedupWindowMs;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /** 적재 현황 (관리자 조회용) */
+    public record Stats(
+            int queued,
+            long accepted,
+            long deduplicated,
+            long dropped,
+            long flushed,
+            long failed
+    ) {
+    }
+
+    @PostConstruct
+    void start() {
+        writer = new Thread(this::runWriter, "search-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 큐에 넣기만 하고 바로 반환
+     * @param dedup true 면 같은 사용자의 dedup-window 안 중복 로그를 건너뛴다
+     */
+    public void append(SearchLogEvent event, boolean dedup) {
+        if (dedup && isDuplicate(event.userId())) {
+            deduplicated.increment();
+            return;
+        }
+        if (queue.offer(event)) {
+            accepted.increment();
+        } else {
+            dropped.increment();
+            log.debug("[SearchLog] 큐가 가득 차 로그 버림 - userId={}, type={}", event.userId(), event.logType());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(queue.size(), accepted.sum(), deduplicated.sum(), dropped.sum(), flushed.sum(), failed.sum());
+    }
+
+    private boolean isDuplicate(Long userId) {
+        long now = System.currentTimeMillis();
+        boolean[] duplicate = new boolean[1];
+        lastAcceptedAt.compute(userId, (k, last) -> {
+            if (last != null && now - last < dedupWindowMs) {
+                duplicate[0] = true;
+                return last;
+            }
+            return now;
+        });
+        return duplicate[0];
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<SearchLogEvent> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                evictExpiredDedup();
+            } catch (InterruptedException e) {
+                // 종료: running=false 로 바뀌었으니 남은 것만 비우고 끝낸다
+            }
+        }
+    }
+
+    // batch-size 만큼 모이거나 flush-interval 이 지날 때까지 기다린다
+    private List<SearchLogEvent> collectBatch() throws InterruptedException {
+        List<SearchLogEvent> batch = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0 || !running) {
+                queue.drainTo(batch, batchSize - batch.size());
+                break;
+            }
+            SearchLogEvent first = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (first == null) break;
+            batch.add(first);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+        return batch;
+    }
+
+    private void write(List<SearchLogEvent> batch) {
+        try {
+            List<UserSearchLogRow> rows = searchLogResolver.resolve(batch);
+            if (!rows.isEmpty()) {
+                searchLogJdbcRepository.insertAll(rows);
+            }
+            flushed.add(rows.size());
+
+            // 선호 프로필 증분 반영 (실패해도 새벽 재생성으로 보정)
+            try {
+                userPreferenceProfileService.apply(rows);
+            } catch (Exception e) {
+                log.warn("[SearchLog] 선호 프로필 반영 실패 - {}건, err={}", rows.size(), e.getMessage());
+            }
+
+            // 저장된 로그 기준으로 추천 다시 계산 (사용자별 1번)
+            Set<Long> users = new LinkedHashSet<>();
+            rows.forEach(r -> users.add(r.userId()));
+            users.forEach(recommendationService::markDirty);
+        } catch (Exception e) {
+            failed.add(batch.size());
+            log.error("[SearchLog] 일괄 저장 실패 - {}건 버림", batch.size(), e);
+        }
+    }
+
+    private void evictExpiredDedup() {
+        if (lastAcceptedAt.isEmpty()) return;
+        long threshold = System.currentTimeMillis() - dedupWindowMs;
+        lastAcceptedAt.values().removeIf(t -> t < threshold);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (writer == null) return;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("[SearchLog] 종료 시 저장하지 못한 로그 {}건", queue.size());
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.homedatazip.recommend.service;
+
+import org.example.homedatazip.data.Region;
+import org.example.homedatazip.data.repository.RegionRepository;
+import org.example.homedatazip.monthAvg.entity.MonthAvg;
+import org.example.homedatazip.monthAvg.repository.MonthAvgRepository;
+import org.example.homedatazip.recommend.dto.SearchLogEvent;
+import org.example.homedatazip.recommend.repository.SearchLogJdbcRepository;
+import org.example.homedatazip.recommend.repository.UserSearchLogRow;
+import org.example.homedatazip.recommend.type.LogType;
+import org.example.homedatazip.recommend.type.TradeType;
+import org.example.homedatazip.tradeSale.repository.TradeSaleQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로그 이벤트 → user_search_log 행 변환 (SearchLogBuffer 저장 스레드에서만 호출)
+ * - 시군구 코드: (시도, 구군) / 아파트별로 LRU 캐시, 아파트는 빠진 것만 한 번에 조회
+ * - 평형 클릭: 매매는 아파트별 평형 목록(TTL 캐시)에서 areaTypeId 를 찾고, 전월세는 규칙으로 만든다
+ * - 아파트가 없어진 로그는 버린다
+ */
+@Component
+public class SearchLogResolver {
+
+    private static final String UNKNOWN_SGG_CODE = "00000";
+    private static final String LATEST_YYYYMM = "999912";
+    private static final int REGION_CAPACITY = 1000;
+
+    private final RegionRepository regionRepository;
+    private final SearchLogJdbcRepository searchLogJdbcRepository;
+    private final TradeSaleQueryRepository tradeSaleQueryRepository;
+    private final MonthAvgRepository monthAvgRepository;
+    private final long areaTypeTtlMillis;
+
+    // 저장 스레드 하나에서만 쓰므로 동기화하지 않는다
+    private final Map<String, String> sggCodeByRegion = lru(REGION_CAPACITY);
+    private final Map<Long, String> sggCodeByApt;
+    private final Map<Long, AreaTypes> areaTypesByApt;
+
+    public SearchLogResolver(RegionRepository regionRepository,
+                             SearchLogJdbcRepository searchLogJdbcRepository,
+                             TradeSaleQueryRepository tradeSaleQueryRepository,
+                             MonthAvgRepository monthAvgRepository,
+                             @Value("${search-log.lookup.apt-capacity:20000}") int aptCapacity,
+                             @Value("${search-log.lookup.area-type-ttl-seconds:600}") long areaTypeTtlSeconds) {
+        this.regionRepository = regionRepository;
+        this.searchLogJdbcRepository = searchLogJdbcRepository;
+        this.tradeSaleQueryRepository = tradeSaleQueryRepository;
+        this.monthAvgRepository = monthAvgRepository;
+        this.areaTypeTtlMillis = areaTypeTtlSeconds * 1000L;
+        this.sggCodeByApt = lru(aptCapacity);
+        this.areaTypesByApt = lru(aptCapacity);
+    }
+
+    private record AreaTypes(Map<Double, Long> byAreaKey, long expiresAt) {
+    }
+
+    private record Price(long price, long monthlyRent) {
+        static final Price NONE = new Price(0L, 0L);
+    }
+
+    public List<UserSearchLogRow> resolve(List<SearchLogEvent> events) {
+        loadMissingAptSggCodes(events);
+
+        List<UserSearchLogRow> rows = new ArrayList<>(events.size());
+        for (SearchLogEvent e : events) {
+            UserSearchLogRow row = switch (e.logType()) {
+                case SEARCH -> searchRow(e);
+                case SUMMARY, DETAIL -> actionRow(e);
+                case PYEONG_CLICK -> clickRow(e);
+            };
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private UserSearchLogRow searchRow(SearchLogEvent e) {
+        return new UserSearchLogRow(
+                e.userId(), null, sggCodeOf(e.sido(), e.gugun()),
+                e.minPrice(), e.maxPrice(),
+                orZero(e.minMonthlyRent()), orZero(e.maxMonthlyRent()),
+                e.minArea(), e.maxArea(), e.buildYearFilter(), e.periodMonths(),
+                null, null, 0L,
+                e.tradeType(), LogType.SEARCH, e.createdAt()
+        );
+    }
+
+    private UserSearchLogRow actionRow(SearchLogEvent e) {
+        String sggCode = sggCodeByApt.get(e.aptId());
+        if (sggCode == null) return null;
+
+        return new UserSearchLogRow(
+                e.userId(), null, sggCode,
+                null, null, 0L, 0L, null, null, null, null,
+                null, null, 0L,
+                e.tradeType(), e.logType(), e.createdAt()
+        );
+    }
+
+    private UserSearchLogRow clickRow(SearchLogEvent e) {
+        String sggCode = sggCodeByApt.get(e.aptId());
+        if (sggCode == null) return null;
+
+        Price price = Price.NONE;
+        Long areaTypeId = areaTypeIdOf(e.aptId(), e.tradeType(), e.clickArea());
+        if (areaTypeId != null) {
+            price = monthAvgRepository.findTopByAptIdAndAreaTypeIdAndYyyymmBeforeOrderByYyyymmDesc(
+                            e.aptId(), areaTypeId, LATEST_YYYYMM)
+                    .map(m -> priceOf(m, e.tradeType()))
+                    .orElse(Price.NONE);
+        }
+
+        return new UserSearchLogRow(
+                e.userId(), e.aptId(), sggCode,
+                null, null, 0L, 0L, null, null, null, null,
+                e.clickArea(), price.price(), price.monthlyRent(),
+                e.tradeType(), LogType.PYEONG_CLICK, e.createdAt()
+        );
+    }
+
+    private Long areaTypeIdOf(Long aptId, TradeType tradeType, Double area) {
+        if (area == null) return null;
+
+        if (tradeType != TradeType.SALE) {
+            // 전월세 평형 id 규칙: aptId * 1,000,000 + 전용면적 * 100
+            return aptId * 1000000L + Math.round(area * 100.0);
+        }
+
+        long now = System.currentTimeMillis();
+        AreaTypes cached = areaTypesByApt.get(aptId);
+        if (cached == null || cached.expiresAt() < now) {
+            cached = new AreaTypes(tradeSaleQueryRepository.findAreaTypeIds(aptId), now + areaTypeTtlMillis);
+            areaTypesByApt.put(aptId, cached);
+        }
+        return cached.byAreaKey().entrySet().stream()
+                .filter(en -> Math.abs(en.getKey() - area) < 0.1)
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Price priceOf(MonthAvg m, TradeType tradeType) {
+        return switch (tradeType) {
+            case SALE -> new Price(avg(m.getSaleDealAmountSum(), m.getSaleCount()), 0L);
+            case RENT -> new Price(avg(m.getJeonseDepositSum(), m.getJeonseCount()), 0L);
+            case WOLSE -> new Price(avg(m.getWolseDepositSum(), m.getWolseCount()),
+                    avg(m.getWolseRentSum(), m.getWolseCount()));
+        };
+    }
+
+    private static long avg(Long sum, Integer count) {
+        return (sum != null && count != null && count > 0) ? sum / count : 0L;
+    }
+
+    private void loadMissingAptSggCodes(List<SearchLogEvent> events) {
+        Set<Long> missing = new HashSet<>();
+        for (SearchLogEvent e : events) {
+            if (e.aptId() != null && !sggCodeByApt.containsKey(e.aptId())) {
+                missing.add(e.aptId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            sggCodeByApt.putAll(searchLogJdbcRepository.findSggCodesByAptIds(missing));
+        }
+    }
+
+    private String sggCodeOf(String sido, String gugun) {
+        return sggCodeByRegion.computeIfAbsent(sido + "|" + gugun, k ->
+                regionRepository.findRegionsBySidoAndGugun(sido, gugun)
+                        .stream()
+                        .findFirst()
+                        .map(Region::getSggCode)
+                        .orElse(UNKNOWN_SGG_CODE));
+    }
+
+    private static Long orZero(Long v) {
+        return v != null ? v : 0L;
+    }
+
+    private static <K, V> Map<K, V> lru(int capacity) {
+        return new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+}
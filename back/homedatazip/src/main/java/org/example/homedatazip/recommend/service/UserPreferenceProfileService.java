@@ -0,0 +1,109 @@
+package org.example.homedatazip.recommend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.recommend.dto.UserPreference;
+import org.example.homedatazip.recommend.repository.UserPreferenceProfileBulkRepository;
+import org.example.homedatazip.recommend.repository.UserPreferenceProfileBulkRepository.ProfileRow;
+import org.example.homedatazip.recommend.repository.UserSearchLogRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 선호 프로필 (user_preference_profile)
+ * - SearchLogBuffer 가 로그를 저장할 때마다 증분 반영
+ * - 선호도 = 최근 window 안에 갱신된 시군구 중 감쇠 점수가 가장 큰 곳의 가중 평균 (사용자당 행 몇 개 조회)
+ * - 매일 새벽 원본 로그로 재생성 (window 밖으로 나간 로그 제거, 증분 반영 중 유실 보정), 테이블이 비어 있으면 기동 시에도
+ */
+@Slf4j
+@Service
+public class UserPreferenceProfileService {
+
+    private final UserPreferenceProfileBulkRepository profileRepository;
+    private final long halfLifeSeconds;
+    private final int windowDays;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public UserPreferenceProfileService(UserPreferenceProfileBulkRepository profileRepository,
+                                        @Value("${recommend.preference.half-life-days:14}") long halfLifeDays,
+                                        @Value("${recommend.preference.window-days:30}") int windowDays) {
+        this.profileRepository = profileRepository;
+        this.halfLifeSeconds = Math.max(Duration.ofDays(halfLifeDays).toSeconds(), 1L);
+        this.windowDays = windowDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        Thread.ofVirtual().name("user-preference-rebuild").start(() -> {
+            try {
+                if (profileRepository.isEmpty()) {
+                    rebuild();
+                }
+            } catch (Exception e) {
+                log.error("[UserPreference] 기동 시 재생성 실패", e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    public void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[UserPreference] 재생성 실패 - 기존 프로필 유지", e);
+        }
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return; // 이미 진행 중
+        try {
+            long start = System.currentTimeMillis();
+            int rows = profileRepository.rebuild(LocalDateTime.now().minusDays(windowDays), halfLifeSeconds);
+            log.info("[UserPreference] 재생성 완료 - rows={}, {}ms", rows, System.currentTimeMillis() - start);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /** 새로 저장된 로그 반영 (SearchLogBuffer 저장 스레드) */
+    public void apply(List<UserSearchLogRow> logs) {
+        profileRepository.mergeLogs(logs, halfLifeSeconds);
+    }
+
+    public Optional<UserPreference> findPreference(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProfileRow> rows = profileRepository.findByUserId(userId, now.minusDays(windowDays));
+
+        // 시군구마다 갱신 시각이 달라서 지금 기준으로 감쇠시켜 비교
+        return rows.stream()
+                .max(Comparator.comparingDouble(r -> r.score() * decay(r.updatedAt(), now)))
+                .map(UserPreferenceProfileService::toPreference);
+    }
+
+    private double decay(LocalDateTime updatedAt, LocalDateTime now) {
+        long elapsed = Math.max(Duration.between(updatedAt, now).toSeconds(), 0L);
+        return Math.pow(0.5, (double) elapsed / halfLifeSeconds);
+    }
+
+    // 같은 행 안에서는 감쇠 비율이 같으므로 평균/비교에 그대로 쓴다
+    private static UserPreference toPreference(ProfileRow r) {
+        return new UserPreference(
+                r.sggCode(),
+                r.priceWeight() > 0 ? Math.round(r.priceSum() / r.priceWeight()) : 0L,
+                r.monthlyWeight() > 0 ? Math.round(r.monthlySum() / r.monthlyWeight()) : 0L,
+                r.areaWeight() > 0 ? r.areaSum() / r.areaWeight() : 0.0,
+                r.rentScore() > r.saleScore(),
+                r.wolseScore() > r.jeonseScore()
+        );
+    }
+}
@@ -3,9 +3,13 @@ package org.example.homedatazip.school.service;
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.entity.ApartmentSchoolDistance;
+import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.apartment.repository.ApartmentSchoolDistanceRepository;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.SchoolErrorCode;
+import org.example.homedatazip.global.geo.GeoGridIndex.Neighbor;
+import org.example.homedatazip.poi.dto.PoiSchool;
+import org.example.homedatazip.poi.service.PoiSpatialService;
 import org.example.homedatazip.school.dto.ApartmentNearSchoolResponse;
 import org.example.homedatazip.school.dto.NearbySchoolResponse;
 import org.example.homedatazip.school.dto.SchoolResponse;
@@ -26,9 +30,12 @@ public class SchoolService {
 
     private static final Set<Double> ALLOWED_RADIUS_KM = Set.of(0.5, 1.0, 2.0, 3.0, 5.0, 10.0);
     private static final int NEARBY_SCHOOL_TOP3 = 3;
+    private static final double NEARBY_SCHOOL_MAX_METERS = 10_000.0;
 
     private final SchoolRepository schoolRepository;
     private final ApartmentSchoolDistanceRepository apartmentSchoolDistanceRepository;
+    private final ApartmentRepository apartmentRepository;
+    private final PoiSpatialService poiSpatialService;
 
     /** 시도·구군(필수), 동·schoolLevel(옵션)으로 학교 목록 조회. 시도·구군 없으면 빈 목록 */
     @Transactional(readOnly = true)
@@ -90,33 +97,32 @@ public class SchoolService {
                 .toList();
     }
 
-    /** 아파트 기준 가까운 학교 top 3 */
+    /** 아파트 기준 가까운 학교 top 3 (10km 이내, POI 메모리 인덱스) */
     @Transactional(readOnly = true)
     public List<NearbySchoolResponse> findNearbySchoolsByApartmentId(Long apartmentId, List<String> schoolLevels) {
-        List<ApartmentSchoolDistance> distances;
-        if (schoolLevels == null || schoolLevels.isEmpty()) {
-            distances = apartmentSchoolDistanceRepository.findByApartmentIdWithSchool(apartmentId, 10.0);
-        } else {
-            distances = apartmentSchoolDistanceRepository.findByApartmentIdWithSchoolAndLevels(
-                    apartmentId, 10.0, schoolLevels);
+        Apartment apt = apartmentRepository.findById(apartmentId).orElse(null);
+        if (apt == null || apt.getLatitude() == null || apt.getLongitude() == null) {
+            return List.of();
         }
 
-        return distances.stream()
-                .limit(NEARBY_SCHOOL_TOP3)
+        return poiSpatialService.findNearestSchools(
+                        apt.getLatitude(), apt.getLongitude(),
+                        NEARBY_SCHOOL_TOP3, NEARBY_SCHOOL_MAX_METERS, schoolLevels)
+                .stream()
                 .map(this::toNearbySchoolResponse)
                 .toList();
     }
 
-    private NearbySchoolResponse toNearbySchoolResponse(ApartmentSchoolDistance asd) {
-        School school = asd.getSchool();
-        double distanceKm = Math.round(asd.getDistanceKm() * 1000.0) / 1000.0;
+    private NearbySchoolResponse toNearbySchoolResponse(Neighbor<PoiSchool> neighbor) {
+        PoiSchool school = neighbor.item();
+        double distanceKm = Math.round(neighbor.distanceMeters()) / 1000.0;
         return new NearbySchoolResponse(
-                school.getId(),
-                school.getName(),
-                school.getSchoolLevel(),
+                school.id(),
+                school.name(),
+                school.schoolLevel(),
                 distanceKm,
-                school.getLatitude(),
-                school.getLongitude()
+                school.latitude(),
+                school.longitude()
         );
     }
 
@@ -1,6 +1,7 @@
 package org.example.homedatazip.subscription.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.homedatazip.global.config.UserPrincipalCache;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.SubscriptionErrorCode;
 import org.example.homedatazip.role.RoleType;
@@ -22,6 +23,7 @@ public class SubscriptionBatchService {
 
     private final SubscriptionRepository subscriptionRepository;
     private final RoleRepository roleRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 만료 처리 (EXPIRED)
@@ -49,6 +51,7 @@ public class SubscriptionBatchService {
             // SELLER 회수
             User user = s.getSubscriber();
             user.removeRole(RoleType.SELLER);
+            userPrincipalCache.evict(user.getId());
         }
 
         return targets.size();
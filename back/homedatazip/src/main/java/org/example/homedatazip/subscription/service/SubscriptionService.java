@@ -2,6 +2,7 @@ package org.example.homedatazip.subscription.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.global.config.UserPrincipalCache;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.PaymentErrorCode;
 import org.example.homedatazip.global.exception.domain.SubscriptionErrorCode;
@@ -39,6 +40,7 @@ public class SubscriptionService {
     private final PaymentLogRepository paymentLogRepository;
     private final TossPaymentClient tossPaymentClient;
     private final RoleRepository roleRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Value("${payment.toss.billing-success-url}")
     private String successUrl;
@@ -277,6 +279,7 @@ public class SubscriptionService {
         log.info("[grantSeller] seller.id={}, seller.type={}", seller.getId(), seller.getRoleType());
 
         user.addRole(seller);
+        userPrincipalCache.evict(user.getId());
     }
 
     private Long parseUserIdFromCustomerKey(String customerKey) {
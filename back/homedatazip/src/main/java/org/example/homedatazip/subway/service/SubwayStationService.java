@@ -3,9 +3,13 @@ package org.example.homedatazip.subway.service;
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.entity.ApartmentSubwayDistance;
+import org.example.homedatazip.apartment.repository.ApartmentRepository;
 import org.example.homedatazip.apartment.repository.ApartmentSubwayDistanceRepository;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.SubwayErrorCode;
+import org.example.homedatazip.global.geo.GeoGridIndex.Neighbor;
+import org.example.homedatazip.poi.dto.PoiSubwayStation;
+import org.example.homedatazip.poi.service.PoiSpatialService;
 import org.example.homedatazip.subway.dto.ApartmentNearSubwayResponse;
 import org.example.homedatazip.subway.dto.NearbySubwayResponse;
 import org.example.homedatazip.subway.dto.SubwayStationResponse;
@@ -19,13 +23,9 @@ import org.springframework.util.StringUtils;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
 
 @Service
 @RequiredArgsConstructor
@@ -33,10 +33,13 @@ public class SubwayStationService {
 
     private static final Set<Double> ALLOWED_RADIUS_KM = Set.of(0.5, 1.0, 2.0, 3.0, 5.0, 10.0);
     private static final int NEARBY_SUBWAY_TOP3 = 3;
+    private static final double NEARBY_SUBWAY_MAX_METERS = 10_000.0;
     
     private final SubwayStationSourceRepository subwayStationSourceRepository;
     private final SubwayStationRepository subwayStationRepository;
     private final ApartmentSubwayDistanceRepository apartmentSubwayDistanceRepository;
+    private final ApartmentRepository apartmentRepository;
+    private final PoiSpatialService poiSpatialService;
 
     /** 역명·호선 조건으로 지하철 역 검색 */
     @Transactional(readOnly = true)
@@ -82,51 +85,32 @@ public class SubwayStationService {
                 .toList();
     }
 
-    /** 아파트 기준 가까운 지하철역 top 3 */
+    /** 아파트 기준 가까운 지하철역 top 3 (10km 이내, POI 메모리 인덱스) */
     @Transactional(readOnly = true)
     public List<NearbySubwayResponse> findNearbySubwaysByApartmentId(Long apartmentId) {
-        List<ApartmentSubwayDistance> distances = apartmentSubwayDistanceRepository
-                .findByApartmentIdWithSubwayStation(apartmentId, 10.0);
-
-        List<ApartmentSubwayDistance> top3 = distances.stream().limit(NEARBY_SUBWAY_TOP3).toList();
-        if (top3.isEmpty()) {
+        Apartment apt = apartmentRepository.findById(apartmentId).orElse(null);
+        if (apt == null || apt.getLatitude() == null || apt.getLongitude() == null) {
             return List.of();
         }
 
-        List<Long> stationIds = top3.stream()
-                .map(asd -> asd.getSubwayStation().getId())
-                .distinct()
-                .toList();
-
-        List<SubwayStationSource> allSources = subwayStationSourceRepository
-                .findByStationIdInWithStation(stationIds);
-
-        Map<Long, List<String>> lineNamesByStationId = allSources.stream()
-                .collect(Collectors.groupingBy(
-                        s -> s.getStation().getId(),
-                        mapping(SubwayStationSource::getLineName, toList())
-                ));
-
-        return top3.stream()
-                .map(asd -> toNearbySubwayResponse(asd, lineNamesByStationId))
+        return poiSpatialService.findNearestSubwayStations(
+                        apt.getLatitude(), apt.getLongitude(),
+                        NEARBY_SUBWAY_TOP3, NEARBY_SUBWAY_MAX_METERS)
+                .stream()
+                .map(this::toNearbySubwayResponse)
                 .toList();
     }
 
-    // 가까운 지하철역 목록 반환
-    private NearbySubwayResponse toNearbySubwayResponse(ApartmentSubwayDistance asd, Map<Long, List<String>> lineNamesByStationId) {
-        SubwayStation station = asd.getSubwayStation();
-        List<String> lineNames = lineNamesByStationId.getOrDefault(station.getId(), List.of())
-                .stream()
-                .distinct()
-                .sorted()
-                .toList();
-        double distanceKm = Math.round(asd.getDistanceKm() * 1000.0) / 1000.0;
+    // 가까운 지하철역 목록 반환 (호선명은 적재 시 정렬·중복 제거됨)
+    private NearbySubwayResponse toNearbySubwayResponse(Neighbor<PoiSubwayStation> neighbor) {
+        PoiSubwayStation station = neighbor.item();
+        double distanceKm = Math.round(neighbor.distanceMeters()) / 1000.0;
         return new NearbySubwayResponse(
-                station.getStationName(),
-                lineNames,
+                station.stationName(),
+                station.lineNames(),
                 distanceKm,
-                station.getLatitude(),
-                station.getLongitude()
+                station.latitude(),
+                station.longitude()
         );
     }
 
@@ -6,6 +6,9 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.dto.ApiResponse;
+import org.example.homedatazip.global.ratelimit.ApiEndpoint;
+import org.example.homedatazip.global.ratelimit.ApiRateLimiter;
+import org.example.homedatazip.global.ratelimit.DataGoKrQuota;
 import org.example.homedatazip.tradeRent.dto.RentApiItem;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -22,6 +25,7 @@ public class RentApiClient {
 
     private final RentApiProperties props;
     private final WebClient webClient;
+    private final ApiRateLimiter apiRateLimiter;
     private final XmlMapper xmlMapper = XmlMapper.builder()
             .addModule(new ParameterNamesModule())
             .build();
@@ -40,18 +44,19 @@ public class RentApiClient {
         log.info("========== Rent API 호출 ==========");
         log.info("URL: {}", uri.replaceAll("serviceKey=[^&]+", "serviceKey=***HIDDEN***"));
 
-        String xml = webClient.get()
+        // 429 / 본문의 호출 제한 초과는 삼키지 않고 rate limiter 로 넘겨서 backoff 후 재시도
+        String xml = apiRateLimiter.execute(ApiEndpoint.DATA_GO_KR, () -> webClient.get()
                 .uri(uri)
                 .accept(MediaType.APPLICATION_XML, MediaType.TEXT_XML)
                 .retrieve()
                 .bodyToMono(String.class)
                 .timeout(Duration.ofSeconds(props.getTimeoutSeconds()))
                 .doOnError(e -> log.error("WebClient 에러: {}", e.getMessage()))
-                .onErrorResume(e -> {
+                .onErrorResume(e -> !ApiRateLimiter.isThrottled(e), e -> {
                     log.error("API 호출 실패 - 에러 타입: {}, 메시지: {}", e.getClass().getSimpleName(), e.getMessage());
                     return Mono.empty();
                 })
-                .block();
+                .block(), DataGoKrQuota::isExceeded);
 
         log.info("XML 응답 길이: {}", xml == null ? "null" : xml.length());
         if (xml != null && xml.length() < 500) {
@@ -0,0 +1,52 @@
+package org.example.homedatazip.tradeRent.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 아파트별 전월세 요약 (보증금/월세/면적 최소·최대, 마지막 거래일)
+ * 마커 검색에서 trade_rent 상관 서브쿼리(EXISTS) 대신 범위 겹침으로 1차 필터링한다.
+ * 적재/갱신은 ApartmentRentSummaryBulkRepository(JdbcTemplate)에서만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "apartment_rent_summary")
+public class ApartmentRentSummary {
+
+    @Id
+    @Column(name = "apartment_id")
+    private Long apartmentId;
+
+    @Column(name = "min_deposit", nullable = false)
+    private Long minDeposit;
+
+    @Column(name = "max_deposit", nullable = false)
+    private Long maxDeposit;
+
+    @Column(name = "min_monthly_rent", nullable = false)
+    private Integer minMonthlyRent;
+
+    @Column(name = "max_monthly_rent", nullable = false)
+    private Integer maxMonthlyRent;
+
+    @Column(name = "min_exclusive_area", nullable = false)
+    private Double minExclusiveArea;
+
+    @Column(name = "max_exclusive_area", nullable = false)
+    private Double maxExclusiveArea;
+
+    @Column(name = "last_deal_date", nullable = false)
+    private LocalDate lastDealDate;
+
+    @Column(name = "trade_count", nullable = false)
+    private Long tradeCount;
+
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,156 @@
+package org.example.homedatazip.tradeRent.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homedatazip.tradeRent.entity.TradeRent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * apartment_rent_summary 갱신을 위한 Repository
+ * - 새로 저장된 거래: 아파트별로 모아 LEAST/GREATEST 로 병합 (청크 크기에만 비례)
+ * - 저장 여부를 모를 때/최초 적재: trade_rent 에서 다시 집계해서 덮어쓴다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ApartmentRentSummaryBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${rent.summary.backfilled:false}")
+    private volatile boolean backfilled;
+
+    private static final String MERGE_SQL = """
+            INSERT INTO apartment_rent_summary
+            (apartment_id, min_deposit, max_deposit, min_monthly_rent, max_monthly_rent,
+             min_exclusive_area, max_exclusive_area, last_deal_date, trade_count, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE
+                min_deposit        = LEAST(min_deposit, VALUES(min_deposit)),
+                max_deposit        = GREATEST(max_deposit, VALUES(max_deposit)),
+                min_monthly_rent   = LEAST(min_monthly_rent, VALUES(min_monthly_rent)),
+                max_monthly_rent   = GREATEST(max_monthly_rent, VALUES(max_monthly_rent)),
+                min_exclusive_area = LEAST(min_exclusive_area, VALUES(min_exclusive_area)),
+                max_exclusive_area = GREATEST(max_exclusive_area, VALUES(max_exclusive_area)),
+                last_deal_date     = GREATEST(last_deal_date, VALUES(last_deal_date)),
+                trade_count        = trade_count + VALUES(trade_count),
+                updated_at         = CURRENT_TIMESTAMP
+            """;
+
+    private static final String REAGGREGATE_SQL = """
+            INSERT INTO apartment_rent_summary
+            (apartment_id, min_deposit, max_deposit, min_monthly_rent, max_monthly_rent,
+             min_exclusive_area, max_exclusive_area, last_deal_date, trade_count, updated_at)
+            SELECT tr.apartment_id,
+                   MIN(tr.deposit), MAX(tr.deposit),
+                   MIN(tr.monthly_rent), MAX(tr.monthly_rent),
+                   MIN(tr.exclusive_area), MAX(tr.exclusive_area),
+                   MAX(tr.deal_date), COUNT(*), CURRENT_TIMESTAMP
+            FROM trade_rent tr
+            %s
+            GROUP BY tr.apartment_id
+            ON DUPLICATE KEY UPDATE
+                min_deposit        = VALUES(min_deposit),
+                max_deposit        = VALUES(max_deposit),
+                min_monthly_rent   = VALUES(min_monthly_rent),
+                max_monthly_rent   = VALUES(max_monthly_rent),
+                min_exclusive_area = VALUES(min_exclusive_area),
+                max_exclusive_area = VALUES(max_exclusive_area),
+                last_deal_date     = VALUES(last_deal_date),
+                trade_count        = VALUES(trade_count),
+                updated_at         = CURRENT_TIMESTAMP
+            """;
+
+    /** 새로 저장된 전월세 거래를 요약에 병합 */
+    public void mergeInserted(List<TradeRent> insertedRents) {
+        if (insertedRents == null || insertedRents.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Summary> byApt = new LinkedHashMap<>();
+        for (TradeRent rent : insertedRents) {
+            byApt.computeIfAbsent(rent.getApartment().getId(), Summary::new).add(rent);
+        }
+        List<Summary> rows = new ArrayList<>(byApt.values());
+
+        jdbcTemplate.batchUpdate(MERGE_SQL, rows, rows.size(),
+                (ps, s) -> {
+                    ps.setLong(1, s.apartmentId);
+                    ps.setLong(2, s.minDeposit);
+                    ps.setLong(3, s.maxDeposit);
+                    ps.setInt(4, s.minMonthlyRent);
+                    ps.setInt(5, s.maxMonthlyRent);
+                    ps.setDouble(6, s.minArea);
+                    ps.setDouble(7, s.maxArea);
+                    ps.setDate(8, Date.valueOf(s.lastDealDate));
+                    ps.setLong(9, s.count);
+                });
+
+        log.debug("ApartmentRentSummary 병합 - 거래 {}건, 아파트 {}개", insertedRents.size(), rows.size());
+    }
+
+    /** 지정한 아파트들의 요약을 trade_rent 에서 다시 집계 */
+    public void reaggregateFor(Collection<Long> apartmentIds) {
+        if (apartmentIds == null || apartmentIds.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(
+                REAGGREGATE_SQL.formatted("WHERE tr.apartment_id IN (:aptIds)"),
+                new MapSqlParameterSource("aptIds", new HashSet<>(apartmentIds)));
+    }
+
+    /** 전체 재집계 (최초 적재), 끝나면 요약 테이블을 조회에 써도 된다고 표시 */
+    public int reaggregateAll() {
+        int affected = jdbcTemplate.update(REAGGREGATE_SQL.formatted(""));
+        backfilled = true;
+        log.info("ApartmentRentSummary 전체 재집계 완료 - affected={}", affected);
+        return affected;
+    }
+
+    /**
+     * 전체 재집계가 끝났는지
+     * 배치는 새로 저장한 청크만 병합하므로, 요약에 행이 있다는 것만으로는 이전 거래까지 들어있다고 볼 수 없다.
+     * 재시작 후에는 rent.summary.backfilled=true 로 지정해야 요약 테이블을 쓴다.
+     */
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    private static final class Summary {
+        private final long apartmentId;
+        private long minDeposit = Long.MAX_VALUE;
+        private long maxDeposit = Long.MIN_VALUE;
+        private int minMonthlyRent = Integer.MAX_VALUE;
+        private int maxMonthlyRent = Integer.MIN_VALUE;
+        private double minArea = Double.MAX_VALUE;
+        private double maxArea = -Double.MAX_VALUE;
+        private LocalDate lastDealDate = LocalDate.MIN;
+        private long count;
+
+        private Summary(Long apartmentId) {
+            this.apartmentId = apartmentId;
+        }
+
+        private void add(TradeRent rent) {
+            minDeposit = Math.min(minDeposit, rent.getDeposit());
+            maxDeposit = Math.max(maxDeposit, rent.getDeposit());
+            minMonthlyRent = Math.min(minMonthlyRent, rent.getMonthlyRent());
+            maxMonthlyRent = Math.max(maxMonthlyRent, rent.getMonthlyRent());
+            minArea = Math.min(minArea, rent.getExclusiveArea());
+            maxArea = Math.max(maxArea, rent.getExclusiveArea());
+            if (rent.getDealDate().isAfter(lastDealDate)) {
+                lastDealDate = rent.getDealDate();
+            }
+            count++;
+        }
+    }
+}
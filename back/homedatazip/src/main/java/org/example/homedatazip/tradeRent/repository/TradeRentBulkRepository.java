@@ -7,6 +7,8 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -32,7 +34,63 @@ public class TradeRentBulkRepository {
             return new int[]{0, 0};
         }
 
-        int[][] batchResults = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, tradeRents, tradeRents.size(),
+        int[][] batchResults = executeInsertIgnore(tradeRents);
+
+        // 결과 분석
+        int insertedCount = 0;
+        int skippedCount = 0;
+
+        for (int[] batch : batchResults) {
+            for (int result : batch) {
+                if (result > 0) {
+                    insertedCount++;
+                } else {
+                    // INSERT IGNORE에서 중복으로 스킵된 경우 0 반환
+                    skippedCount++;
+                }
+            }
+        }
+
+        log.info("TradeRent Bulk Insert - 시도: {}건, 저장: {}건, 중복 스킵: {}건",
+                tradeRents.size(), insertedCount, skippedCount);
+
+        return new int[]{insertedCount, skippedCount};
+    }
+
+    /**
+     * INSERT IGNORE 후 실제로 저장된 행만 돌려준다. (month_avg 증분 반영용)
+     * 드라이버가 행별 결과를 주지 않으면(SUCCESS_NO_INFO) 어느 행이 저장됐는지 알 수 없으므로 null 반환.
+     */
+    public List<TradeRent> bulkInsertIgnoreReturningInserted(List<TradeRent> tradeRents) {
+        if (tradeRents == null || tradeRents.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] batchResults = executeInsertIgnore(tradeRents);
+
+        List<TradeRent> inserted = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : batchResults) {
+            for (int result : batch) {
+                if (result == Statement.SUCCESS_NO_INFO) {
+                    log.warn("TradeRent Bulk Insert - 행별 결과 없음(SUCCESS_NO_INFO), 저장 행 판별 불가");
+                    return null;
+                }
+                if (result > 0) {
+                    inserted.add(tradeRents.get(index));
+                }
+                index++;
+            }
+        }
+
+        log.info("TradeRent Bulk Insert - 시도: {}건, 저장: {}건, 중복 스킵: {}건",
+                tradeRents.size(), inserted.size(), tradeRents.size() - inserted.size());
+
+        return inserted;
+    }
+
+    private int[][] executeInsertIgnore(List<TradeRent> tradeRents) {
+        return jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, tradeRents, tradeRents.size(),
                 (ps, rent) -> {
                     // apartment_id (null 허용)
                     if (rent.getApartment() != null && rent.getApartment().getId() != null) {
@@ -57,26 +115,6 @@ public class TradeRentBulkRepository {
                     ps.setString(8, rent.getRentTerm());
                     ps.setString(9, rent.getSggCode());
                 });
-
-        // 결과 분석
-        int insertedCount = 0;
-        int skippedCount = 0;
-
-        for (int[] batch : batchResults) {
-            for (int result : batch) {
-                if (result > 0) {
-                    insertedCount++;
-                } else {
-                    // INSERT IGNORE에서 중복으로 스킵된 경우 0 반환
-                    skippedCount++;
-                }
-            }
-        }
-
-        log.info("TradeRent Bulk Insert - 시도: {}건, 저장: {}건, 중복 스킵: {}건",
-                tradeRents.size(), insertedCount, skippedCount);
-
-        return new int[]{insertedCount, skippedCount};
     }
 
 
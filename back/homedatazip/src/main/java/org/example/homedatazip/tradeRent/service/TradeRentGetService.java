@@ -5,12 +5,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.apartment.dto.MarkResponse;
 import org.example.homedatazip.apartment.dto.MarkerClusterResponse;
 import org.example.homedatazip.apartment.repository.ApartmentRepository;
+import org.example.homedatazip.markerCluster.service.MarkerClusterTileService;
 import org.example.homedatazip.tradeRent.dto.DotResponse;
 import org.example.homedatazip.tradeRent.dto.RentGetMarkerRequest;
 import org.example.homedatazip.tradeRent.dto.RentFromAptResponse;
 import org.example.homedatazip.tradeRent.dto.detailList.RentDetailList5Response;
 import org.example.homedatazip.tradeRent.entity.TradeRent;
+import org.example.homedatazip.tradeRent.repository.ApartmentRentSummaryBulkRepository;
 import org.example.homedatazip.tradeRent.repository.TradeRentDSLRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,21 +28,32 @@ public class TradeRentGetService {
 
     private final TradeRentDSLRepository tradeRentDSLRepository;
     private final ApartmentRepository apartmentRepository;
+    private final MarkerClusterTileService markerClusterTileService;
+    private final ApartmentRentSummaryBulkRepository apartmentRentSummaryBulkRepository;
+
+    // true 면 요약 범위 필터 뒤에 trade_rent EXISTS 로 정확히 한 번 더 거른다
+    @Value("${rent.marker.exact-filter:false}")
+    private boolean exactRentFilter;
 
 
     //마커용 렌트 조회 지도에 뿌려주는 데이터
     @Transactional(readOnly = true)
     public List<MarkResponse> getListRentsByAptId(RentGetMarkerRequest dto){
-
-        return apartmentRepository.findAllWithRentByRegionAndRentRange(dto);
+        // 요약 테이블 전체 재집계 전이면 기존 EXISTS 쿼리 (배치 병합분만 있는 요약은 이전 거래가 빠져 있다)
+        if (!apartmentRentSummaryBulkRepository.isBackfilled()) {
+            return apartmentRepository.findAllWithRentByRegionAndRentRange(dto);
+        }
+        return apartmentRepository.findAllWithRentSummaryByRegionAndRentRange(dto, exactRentFilter);
     }
 
     /**
      * 줌 레벨(level) + bounds + (기존 필터) 기반으로 격자 클러스터를 반환한다.
+     * 필터 없는 요청은 미리 계산한 타일에서, 아니면 실시간 집계.
      */
     @Transactional(readOnly = true)
     public List<MarkerClusterResponse> getRentMarkerClusters(RentGetMarkerRequest dto) {
-        return apartmentRepository.findRentMarkerClusters(dto);
+        return markerClusterTileService.findRentClusters(dto)
+                .orElseGet(() -> apartmentRepository.findRentMarkerClusters(dto));
     }
 
 
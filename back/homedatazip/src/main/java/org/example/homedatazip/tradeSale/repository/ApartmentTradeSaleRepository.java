@@ -16,7 +16,7 @@ public interface ApartmentTradeSaleRepository extends JpaRepository<TradeSale, L
             (apartment_id, deal_amount, exclusive_area, floor, apt_dong, deal_date, sgg_cd, canceled) 
             VALUES (:apartmentId, :amount, :area, :floor, :dong, :dealDate, :sggCd, :canceled)
             """, nativeQuery = true)
-    void insertIgnore(@Param("apartmentId") Long apartmentId,
+    int insertIgnore(@Param("apartmentId") Long apartmentId,
                       @Param("amount") Long amount,
                       @Param("area") Double area,
                       @Param("floor") Integer floor,
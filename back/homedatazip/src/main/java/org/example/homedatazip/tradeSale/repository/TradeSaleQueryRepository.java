@@ -1,5 +1,6 @@
 package org.example.homedatazip.tradeSale.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
@@ -9,11 +10,14 @@ import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.apartment.dto.MarkResponse;
 import org.example.homedatazip.apartment.dto.MarkerClusterResponse;
 import org.example.homedatazip.apartment.dto.QMarkResponse;
+import org.example.homedatazip.markerCluster.util.MarkerClusterGrid;
 import org.example.homedatazip.tradeSale.dto.*;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.example.homedatazip.apartment.entity.QApartment.apartment;
 import static org.example.homedatazip.data.QRegion.region;
@@ -188,13 +192,7 @@ public class TradeSaleQueryRepository {
     }
 
     private double gridByLevel(Integer level) {
-        int lv = (level == null) ? 8 : level;
-        if (lv >= 12) return 0.05;
-        if (lv >= 10) return 0.02;
-        if (lv >= 8)  return 0.01;
-        if (lv >= 6)  return 0.005;
-        if (lv >= 4)  return 0.002;
-        return 0.001;
+        return MarkerClusterGrid.gridByLevel(level);
     }
 
     private long normalizeClusterLimit(Integer limit) {
@@ -222,11 +220,14 @@ public class TradeSaleQueryRepository {
 
     // 상세 거래 내역
     public List<TradeSaleHistory> findTradeHistory(Long aptId) {
+        return findTradeHistory(aptId, null);
+    }
 
-        NumberExpression<Double> areaKey = tradeSale.exclusiveArea.multiply(100).round().divide(100.0);
+    // fromDate 이후 거래만 (null 이면 전체)
+    public List<TradeSaleHistory> findTradeHistory(Long aptId, LocalDate fromDate) {
 
-        NumberExpression<Long> areaTypeId = tradeSale.apartment.id.multiply(10000000L)
-                .add(tradeSale.exclusiveArea.multiply(100).castToNum(Long.class));
+        NumberExpression<Double> areaKey = historyAreaKey();
+        NumberExpression<Long> areaTypeId = historyAreaTypeId();
 
         return queryFactory
                 .select(new QTradeSaleHistory(
@@ -240,11 +241,42 @@ public class TradeSaleQueryRepository {
                 ))
                 .from(tradeSale)
                 .join(tradeSale.apartment, apartment)
-                .where(tradeSale.apartment.id.eq(aptId))
+                .where(
+                        tradeSale.apartment.id.eq(aptId),
+                        fromDate != null ? tradeSale.dealDate.goe(fromDate) : null
+                )
                 .orderBy(tradeSale.dealDate.desc())
                 .fetch();
     }
 
+    /** 아파트의 평형(areaKey) → areaTypeId, 거래 내역을 다 가져오지 않고 평형 목록만 */
+    public Map<Double, Long> findAreaTypeIds(Long aptId) {
+        NumberExpression<Double> areaKey = historyAreaKey();
+        NumberExpression<Long> areaTypeId = historyAreaTypeId();
+
+        List<Tuple> rows = queryFactory
+                .select(areaKey, areaTypeId.max())
+                .from(tradeSale)
+                .where(tradeSale.apartment.id.eq(aptId))
+                .groupBy(areaKey)
+                .fetch();
+
+        Map<Double, Long> result = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            result.put(row.get(0, Double.class), row.get(1, Long.class));
+        }
+        return result;
+    }
+
+    private static NumberExpression<Double> historyAreaKey() {
+        return tradeSale.exclusiveArea.multiply(100).round().divide(100.0);
+    }
+
+    private static NumberExpression<Long> historyAreaTypeId() {
+        return tradeSale.apartment.id.multiply(10000000L)
+                .add(tradeSale.exclusiveArea.multiply(100).castToNum(Long.class));
+    }
+
     public List<TradeVolumeDto> countMonthlyTrades(Long aptId, int monthsToView) {
         LocalDate startDate = LocalDate.now().minusMonths(monthsToView);
 
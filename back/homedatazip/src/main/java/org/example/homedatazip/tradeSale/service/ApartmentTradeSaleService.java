@@ -3,6 +3,8 @@ package org.example.homedatazip.tradeSale.service;
 import lombok.RequiredArgsConstructor;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.service.ApartmentService;
+import org.example.homedatazip.markerCluster.service.MarkerClusterTileService;
+import org.example.homedatazip.markerCluster.type.ClusterTradeType;
 import org.example.homedatazip.monthAvg.service.MonthAvgRebuildService;
 import org.example.homedatazip.tradeSale.repository.ApartmentTradeSaleRepository;
 import org.example.homedatazip.tradeSale.dto.ApartmentTradeSaleItem;
@@ -10,6 +12,7 @@ import org.example.homedatazip.tradeSale.entity.TradeSale;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +23,8 @@ public class ApartmentTradeSaleService {
     private final ApartmentService apartmentService;
     private final ApartmentTradeSaleRepository apartmentTradeSaleRepository;
     private final MonthAvgRebuildService monthAvgRebuildService;
+    private final MarkerClusterTileService markerClusterTileService;
+    private final AptSaleDetailCache aptSaleDetailCache;
 
     @Transactional
     public void processChunk(List<ApartmentTradeSaleItem> items) {
@@ -27,38 +32,38 @@ public class ApartmentTradeSaleService {
         Map<String, Apartment> apartmentMap = apartmentService.getOrCreateApartmentsFromTradeSale(items);
 
         // 아파트 정보가 존재하는 아이템만 TradeSale로 변환
+        // 실제로 저장된(중복 스킵 아님) 거래만 month_avg 증분에 반영
+        List<TradeSale> insertedSales = new ArrayList<>();
         for (ApartmentTradeSaleItem item : items) {
             Apartment apt = apartmentMap.get(item.getAptSeq());
             if (apt == null) continue;
 
             // 데이터 전처리
-            Long amount = Long.parseLong(item.getDealAmount().trim().replace(",", ""));
-            java.time.LocalDate dealDate = java.time.LocalDate.of(
-                    Integer.parseInt(item.getDealYear().trim()),
-                    Integer.parseInt(item.getDealMonth().trim()),
-                    Integer.parseInt(item.getDealDay().trim())
-            );
+            TradeSale tradeSale = TradeSale.from(item, apt);
 
-            apartmentTradeSaleRepository.insertIgnore(
+            int inserted = apartmentTradeSaleRepository.insertIgnore(
                     apt.getId(),
-                    amount,
-                    Double.parseDouble(item.getExcluUseAr().trim()),
-                    Integer.parseInt(item.getFloor().trim()),
-                    item.getAptDong(),
-                    dealDate,
-                    item.getSggCd(),
-                    (item.getCdealType() != null && !item.getCdealType().isBlank())
+                    tradeSale.getDealAmount(),
+                    tradeSale.getExclusiveArea(),
+                    tradeSale.getFloor(),
+                    tradeSale.getAptDong(),
+                    tradeSale.getDealDate(),
+                    tradeSale.getSggCd(),
+                    tradeSale.getCanceled()
             );
+            if (inserted > 0) {
+                insertedSales.add(tradeSale);
+            }
         }
 
-        List<TradeSale> tradeSales = items.stream()
-                .filter(item -> apartmentMap.containsKey(item.getAptSeq()))
-                .map(item -> TradeSale.from(item, apartmentMap.get(item.getAptSeq())))
-                .toList();
-
-        if (!tradeSales.isEmpty()) {
-            monthAvgRebuildService.rebuildSaleFor(tradeSales);
+        if (!insertedSales.isEmpty()) {
+            List<Long> touchedAptIds = insertedSales.stream().map(s -> s.getApartment().getId()).distinct().toList();
 
+            monthAvgRebuildService.applySaleDelta(insertedSales);
+            // 지도 클러스터 타일은 Job 종료 후 갱신 (MarkerClusterTileJobListener)
+            markerClusterTileService.markDirty(ClusterTradeType.SALE, touchedAptIds);
+            // 상세/차트 캐시
+            aptSaleDetailCache.evictApartments(touchedAptIds);
         }
     }
 }
@@ -0,0 +1,52 @@
+package org.example.homedatazip.tradeSale.service;
+
+import org.example.homedatazip.global.util.TtlLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 아파트 매매 상세/차트 응답 캐시 (aptId, 기간, 종류 기준, 짧은 TTL + LRU)
+ * - 매매 배치가 거래를 저장하면 해당 아파트만 커밋 후 evict
+ * - 월 라벨이 오늘 날짜 기준이라 TTL 로도 만료시킨다
+ */
+@Component
+public class AptSaleDetailCache {
+
+    enum Kind { DETAIL, CHART }
+
+    private record Key(Long aptId, int periodMonths, Kind kind) {
+    }
+
+    private final TtlLruCache<Key, Object> cache;
+
+    public AptSaleDetailCache(@Value("${trade-sale.detail-cache.ttl-seconds:600}") long ttlSeconds,
+                              @Value("${trade-sale.detail-cache.max-size:5000}") int maxSize) {
+        this.cache = new TtlLruCache<>(ttlSeconds * 1000L, maxSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getOrLoad(Long aptId, int periodMonths, Kind kind, Supplier<T> loader) {
+        Key key = new Key(aptId, periodMonths, kind);
+
+        Object cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T value = loader.get();
+        cache.put(key, value);
+        return value;
+    }
+
+    /** 거래가 바뀐 아파트 제거 (트랜잭션 안이면 커밋 후 한 번 더) */
+    public void evictApartments(Collection<Long> aptIds) {
+        if (aptIds == null || aptIds.isEmpty()) return;
+
+        Set<Long> ids = Set.copyOf(aptIds);
+        cache.evictIf(k -> ids.contains(k.aptId()));
+    }
+}
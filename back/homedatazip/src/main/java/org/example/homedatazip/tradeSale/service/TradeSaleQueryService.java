@@ -5,6 +5,7 @@ import org.example.homedatazip.apartment.dto.MarkResponse;
 import org.example.homedatazip.apartment.dto.MarkerClusterResponse;
 import org.example.homedatazip.apartment.entity.Apartment;
 import org.example.homedatazip.apartment.repository.ApartmentRepository;
+import org.example.homedatazip.markerCluster.service.MarkerClusterTileService;
 import org.example.homedatazip.monthAvg.entity.MonthAvg;
 import org.example.homedatazip.monthAvg.repository.MonthAvgRepository;
 import org.example.homedatazip.monthAvg.utill.Yyyymm;
@@ -26,6 +27,8 @@ public class TradeSaleQueryService {
     private final TradeSaleQueryRepository tradeSaleQueryRepository;
     private final ApartmentRepository apartmentRepository;
     private final MonthAvgRepository monthAvgRepository;
+    private final MarkerClusterTileService markerClusterTileService;
+    private final AptSaleDetailCache aptSaleDetailCache;
 
     public List<DongRankResponse> getDongRanking(String sido, String gugun, int periodMonths) {
         // 만약 시/도나 구/군이 없으면 빈 리스트 반환
@@ -42,9 +45,10 @@ public class TradeSaleQueryService {
         return tradeSaleQueryRepository.searchMarkerByRegion(request);
     }
 
-    // 클러스터(집계) 조회
+    // 클러스터(집계) 조회 - 필터 없는 요청은 미리 계산한 타일, 아니면 실시간 집계
     public List<MarkerClusterResponse> getMarkerClusters(SaleSearchRequest request) {
-        return tradeSaleQueryRepository.searchMarkerClustersByRegion(request);
+        return markerClusterTileService.findSaleClusters(request)
+                .orElseGet(() -> tradeSaleQueryRepository.searchMarkerClustersByRegion(request));
     }
 
     // 아파트 요약
@@ -88,30 +92,36 @@ public class TradeSaleQueryService {
         );
     }
 
-    // 아파트 상세 보기
+    // 아파트 상세 보기 - (aptId, 기간) 단위로 캐시, 매매 배치 저장 시 해당 아파트 evict
     public AptDetailResponse getAptDetail(Long aptId, Integer periodMonths) {
         Objects.requireNonNull(aptId, "aptId");
 
+        int monthsToView = (periodMonths != null) ? periodMonths : 6;
+        return aptSaleDetailCache.getOrLoad(aptId, monthsToView, AptSaleDetailCache.Kind.DETAIL,
+                () -> loadAptDetail(aptId, monthsToView));
+    }
+
+    private AptDetailResponse loadAptDetail(Long aptId, int monthsToView) {
         Apartment apt = apartmentRepository.findById(aptId)
                 .orElseThrow(() -> new IllegalArgumentException("아파트 정보를 찾을 수 없습니다."));
 
-        // 거래 히스토리 조회
-        List<TradeSaleHistory> histories = tradeSaleQueryRepository.findTradeHistory(aptId);
-
-        int monthsToView = (periodMonths != null) ? periodMonths : 6;
-        String minDateLine = LocalDate.now().minusMonths(monthsToView)
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        // 거래 히스토리 조회 - 기간 안의 거래만 (0 이면 전체)
+        LocalDate fromDate = monthsToView == 0 ? null : LocalDate.now().minusMonths(monthsToView);
+        List<TradeSaleHistory> histories = tradeSaleQueryRepository.findTradeHistory(aptId, fromDate);
 
         Map<Double, List<TradeSaleHistory>> pyeongTrades = histories.stream()
-                .filter(h -> h.dealDate().compareTo(minDateLine) >= 0 || monthsToView == 0)
                 .collect(Collectors.groupingBy(TradeSaleHistory::areaKey));
 
         // 최신 평균가 계산
         Long latestAvgAmount = calculateLatestAvgAmount(aptId);
 
+        // 평형별 areaTypeId (그룹 첫 거래 기준)
+        Map<Double, Long> areaTypeIds = pyeongTrades.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get(0).areaTypeId()));
+
         // 차트 데이터 생성 로직 호출
         Map<Double, List<TradeSaleChartData>> pyeongChartDataMap =
-                generateChartDataMap(aptId, periodMonths, pyeongTrades);
+                generateChartDataMap(aptId, monthsToView, areaTypeIds, pyeongTrades);
 
         return new AptDetailResponse(
                 apt.getAptName(),
@@ -123,87 +133,114 @@ public class TradeSaleQueryService {
         );
     }
 
-    // 차트 데이터만 별도 조회
+    // 차트 데이터만 별도 조회 (캐시)
     public AptChartResponse getAptChartOnly(Long aptId, Integer periodMonths) {
-        List<TradeSaleHistory> histories = tradeSaleQueryRepository.findTradeHistory(aptId);
-        Map<Double, List<TradeSaleHistory>> pyeongTrades = histories.stream()
+        int monthsToView = (periodMonths != null) ? periodMonths : 6;
+        return aptSaleDetailCache.getOrLoad(aptId, monthsToView, AptSaleDetailCache.Kind.CHART,
+                () -> loadAptChart(aptId, monthsToView));
+    }
+
+    private AptChartResponse loadAptChart(Long aptId, int monthsToView) {
+        // 평형 목록은 전체 기간 기준, 점(dot)으로 찍을 거래는 차트 구간 안의 것만
+        Map<Double, Long> areaTypeIds = tradeSaleQueryRepository.findAreaTypeIds(aptId);
+
+        List<String> allMonths = chartMonths(monthsToView);
+        LocalDate fromDate = allMonths.isEmpty() ? null : LocalDate.now().minusMonths(monthsToView - 1L).withDayOfMonth(1);
+        Map<Double, List<TradeSaleHistory>> pyeongTrades = tradeSaleQueryRepository.findTradeHistory(aptId, fromDate).stream()
                 .collect(Collectors.groupingBy(TradeSaleHistory::areaKey));
 
-        Map<Double, List<TradeSaleChartData>> chartDataMap = generateChartDataMap(aptId, periodMonths, pyeongTrades);
+        Map<Double, List<TradeSaleChartData>> chartDataMap =
+                generateChartDataMap(aptId, monthsToView, areaTypeIds, pyeongTrades);
 
         return new AptChartResponse(chartDataMap);
     }
 
-    // 실제 차트 Map을 만드는 메서드
-    private Map<Double, List<TradeSaleChartData>> generateChartDataMap(Long aptId, Integer periodMonths, Map<Double, List<TradeSaleHistory>> pyeongTrades) {
-        int monthsToView = (periodMonths != null) ? periodMonths : 6;
-
-        // 조회할 전체 기간 리스트 생성
+    // 조회할 전체 기간 리스트 (오래된 달 → 이번 달)
+    private static List<String> chartMonths(int monthsToView) {
         List<String> allMonths = new ArrayList<>();
         LocalDate now = LocalDate.now();
         for (int i = monthsToView - 1; i >= 0; i--) {
             allMonths.add(now.minusMonths(i).format(DateTimeFormatter.ofPattern("yyyyMM")));
         }
+        return allMonths;
+    }
+
+    /**
+     * 실제 차트 Map을 만드는 메서드
+     * 평형 수와 관계없이 month_avg 는 2번만 조회한다.
+     * 1) 구간 안의 전 평형 데이터 2) 평형별 구간 시작 전 마지막 기록(평균가 이어 그리기용)
+     */
+    private Map<Double, List<TradeSaleChartData>> generateChartDataMap(
+            Long aptId,
+            int monthsToView,
+            Map<Double, Long> areaTypeIds,
+            Map<Double, List<TradeSaleHistory>> pyeongTrades
+    ) {
+        List<String> allMonths = chartMonths(monthsToView);
+        if (allMonths.isEmpty() || areaTypeIds.isEmpty()) {
+            return new HashMap<>();
+        }
 
         String minYyyymm = allMonths.get(0);
         String maxYyyymm = allMonths.get(allMonths.size() - 1);
 
-        return pyeongTrades.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> {
-
-                            Map<String, List<IndividualTrade>> tradeDotsMap = entry.getValue().stream()
-                                    .collect(Collectors.groupingBy(
-                                            h -> {
-                                                String pureDate = h.dealDate().replace("-", "");
-                                                return pureDate.substring(0, 6);
-                                            },
-                                            Collectors.mapping(h -> new IndividualTrade(
-                                                    h.dealDate(),
-                                                    h.dealAmount(),
-                                                    h.floor()
-                                            ), Collectors.toList())
-                                    ));
-
-                            Long targetAreaTypeId = entry.getValue().get(0).areaTypeId();
-
-                            // DB 데이터 조회
-                            List<MonthAvg> stats = monthAvgRepository.findAllByAptIdAndAreaTypeIdAndYyyymmBetweenOrderByYyyymmAsc(
-                                    aptId, targetAreaTypeId, minYyyymm, maxYyyymm
-                            );
-
-                            Optional<MonthAvg> lastRecordBeforeStart = monthAvgRepository.findTopByAptIdAndAreaTypeIdAndYyyymmBeforeOrderByYyyymmDesc(
-                                    aptId, targetAreaTypeId, minYyyymm
-                            );
-
-                            // 빠른 조회를 위해 Map으로 변환
-                            Map<String, MonthAvg> statsMap = stats.stream()
-                                    .collect(Collectors.toMap(MonthAvg::getYyyymm, s -> s));
-
-                            List<TradeSaleChartData> filledData = new ArrayList<>();
-                            long lastKnownAvg = lastRecordBeforeStart
-                                    .map(m -> m.getSaleCount() > 0 ? m.getSaleDealAmountSum() / m.getSaleCount() : 0L)
-                                    .orElse(0L);
-
-                            // 모든 달을 순회하며 빈 곳 채우기
-                            for (String month : allMonths) {
-                                MonthAvg s = statsMap.get(month);
-
-                                List<IndividualTrade> dots = tradeDotsMap.getOrDefault(month, new ArrayList<>());
-
-                                if (s != null && s.getSaleCount() != null && s.getSaleCount() > 0) {
-                                    // 데이터가 있는 경우: 새로운 평균가 갱신
-                                    lastKnownAvg = s.getSaleDealAmountSum() / s.getSaleCount();
-                                    filledData.add(new TradeSaleChartData(month, lastKnownAvg, (long) s.getSaleCount(),dots));
-                                } else {
-                                    // 데이터가 없는 경우: 거래량은 0, 평균가는 직전 값 유지
-                                    filledData.add(new TradeSaleChartData(month, lastKnownAvg, 0L, dots));
-                                }
-                            }
-                            return filledData;
-                        }
+        // 평형 → (월 → 통계)
+        Map<Long, Map<String, MonthAvg>> statsByAreaType = monthAvgRepository
+                .findAllByAptIdAndYyyymmBetweenOrderByYyyymmAsc(aptId, minYyyymm, maxYyyymm).stream()
+                .filter(m -> m.getAreaTypeId() != null)
+                .collect(Collectors.groupingBy(
+                        MonthAvg::getAreaTypeId,
+                        Collectors.toMap(MonthAvg::getYyyymm, s -> s)
                 ));
+
+        Map<Long, MonthAvg> lastBeforeStart = monthAvgRepository
+                .findLastBeforeByAreaTypeIds(aptId, new HashSet<>(areaTypeIds.values()), minYyyymm).stream()
+                .collect(Collectors.toMap(MonthAvg::getAreaTypeId, m -> m, (a, b) -> a));
+
+        Map<Double, List<TradeSaleChartData>> result = new HashMap<>();
+        for (Map.Entry<Double, Long> entry : areaTypeIds.entrySet()) {
+            Long targetAreaTypeId = entry.getValue();
+
+            Map<String, List<IndividualTrade>> tradeDotsMap = pyeongTrades.getOrDefault(entry.getKey(), List.of()).stream()
+                    .collect(Collectors.groupingBy(
+                            h -> {
+                                String pureDate = h.dealDate().replace("-", "");
+                                return pureDate.substring(0, 6);
+                            },
+                            Collectors.mapping(h -> new IndividualTrade(
+                                    h.dealDate(),
+                                    h.dealAmount(),
+                                    h.floor()
+                            ), Collectors.toList())
+                    ));
+
+            Map<String, MonthAvg> statsMap = statsByAreaType.getOrDefault(targetAreaTypeId, Map.of());
+
+            MonthAvg before = lastBeforeStart.get(targetAreaTypeId);
+            long lastKnownAvg = (before != null && before.getSaleCount() != null && before.getSaleCount() > 0)
+                    ? before.getSaleDealAmountSum() / before.getSaleCount()
+                    : 0L;
+
+            List<TradeSaleChartData> filledData = new ArrayList<>();
+
+            // 모든 달을 순회하며 빈 곳 채우기
+            for (String month : allMonths) {
+                MonthAvg s = statsMap.get(month);
+
+                List<IndividualTrade> dots = tradeDotsMap.getOrDefault(month, new ArrayList<>());
+
+                if (s != null && s.getSaleCount() != null && s.getSaleCount() > 0) {
+                    // 데이터가 있는 경우: 새로운 평균가 갱신
+                    lastKnownAvg = s.getSaleDealAmountSum() / s.getSaleCount();
+                    filledData.add(new TradeSaleChartData(month, lastKnownAvg, (long) s.getSaleCount(), dots));
+                } else {
+                    // 데이터가 없는 경우: 거래량은 0, 평균가는 직전 값 유지
+                    filledData.add(new TradeSaleChartData(month, lastKnownAvg, 0L, dots));
+                }
+            }
+            result.put(entry.getKey(), filledData);
+        }
+        return result;
     }
 
     // 최신 평균가 계산 메소드
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.homedatazip.chat.entity.ChatRoom;
 import org.example.homedatazip.chat.repository.ChatRoomRepository;
+import org.example.homedatazip.global.config.UserPrincipalCache;
 import org.example.homedatazip.global.exception.BusinessException;
 import org.example.homedatazip.global.exception.domain.UserErrorCode;
 import org.example.homedatazip.user.dto.UserSearchRequest;
@@ -23,6 +24,7 @@ public class AdminUserService {
 
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Transactional(readOnly = true)
     public Page<UserSearchResponse> searchUsers(UserSearchRequest request, Pageable pageable) {
@@ -63,5 +65,6 @@ public class AdminUserService {
 
         // 유저 삭제 - 매물, 관심매물, 토큰도 같이 삭제됨.
         userRepository.delete(user);
+        userPrincipalCache.evict(userId);
     }
 }